@@ -0,0 +1,178 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.hrapp.jdbc.samples.config.DatabaseConfig;
+import com.hrapp.jdbc.samples.config.ReadScope;
+import com.hrapp.jdbc.samples.entity.Employee;
+
+/**
+ * Asynchronous front end for a {@link JdbcBean}.
+ *
+ * Each call is run on a dedicated executor and returns a CompletableFuture,
+ * so servlet container threads can be released (via request.startAsync())
+ * while PostgreSQL works. The executor is either a fixed pool of platform
+ * threads or, with app.async.virtualThreads=true, one virtual thread per
+ * call. Errors thrown by the underlying bean complete the future
+ * exceptionally.
+ *
+ * @author HR Application Team
+ */
+public class AsyncJdbcBean {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncJdbcBean.class.getName());
+
+    // Default configuration values
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30000;
+
+    private final JdbcBean jdbcBean;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+
+    /**
+     * Create an asynchronous bean
+     *
+     * @param jdbcBean Bean doing the blocking database work
+     * @param executor Executor the database work runs on
+     */
+    public AsyncJdbcBean(JdbcBean jdbcBean, ExecutorService executor) {
+        this(jdbcBean, executor, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Create an asynchronous bean with a request timeout
+     *
+     * @param jdbcBean Bean doing the blocking database work
+     * @param executor Executor the database work runs on
+     * @param timeoutMillis Timeout callers should apply to a request
+     */
+    public AsyncJdbcBean(JdbcBean jdbcBean, ExecutorService executor, long timeoutMillis) {
+        this.jdbcBean = jdbcBean;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Create an asynchronous bean configured from application.properties
+     *
+     * @param jdbcBean Bean doing the blocking database work
+     * @param config Database configuration to read the app.async.* settings from
+     * @return Asynchronous bean, or null if app.async.enabled is false
+     */
+    public static AsyncJdbcBean fromConfig(JdbcBean jdbcBean, DatabaseConfig config) {
+        if (!config.getBooleanProperty("app.async.enabled", true)) {
+            return null;
+        }
+        boolean virtualThreads = config.getBooleanProperty("app.async.virtualThreads", false);
+        int threads = config.getIntProperty("app.async.threads", config.getIntProperty("hikari.maximumPoolSize", 10));
+        long timeoutMillis = config.getLongProperty("app.async.timeoutMillis", DEFAULT_TIMEOUT_MILLIS);
+
+        LOGGER.info("Asynchronous request processing enabled: " +
+                   (virtualThreads ? "virtual threads" : threads + " platform threads"));
+        return new AsyncJdbcBean(jdbcBean, newExecutor(virtualThreads, threads), timeoutMillis);
+    }
+
+    /**
+     * Create an executor for database work
+     *
+     * @param virtualThreads true to start a virtual thread per task
+     * @param threads Number of platform threads (ignored for virtual threads)
+     * @return Executor service
+     */
+    public static ExecutorService newExecutor(boolean virtualThreads, int threads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("HRApp-Jdbc-", 0).factory());
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "HRApp-Jdbc-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public CompletableFuture<List<Employee>> getEmployees() {
+        return submit(jdbcBean::getEmployees);
+    }
+
+    public CompletableFuture<EmployeePage> getEmployees(String pageToken, int limit) {
+        return submit(() -> jdbcBean.getEmployees(pageToken, limit));
+    }
+
+    public CompletableFuture<List<Employee>> getEmployee(int empId) {
+        return submit(() -> jdbcBean.getEmployee(empId));
+    }
+
+    public CompletableFuture<List<Employee>> getEmployees(int[] empIds) {
+        return submit(() -> jdbcBean.getEmployees(empIds));
+    }
+
+    public CompletableFuture<List<Employee>> getEmployeeByFn(String fn) {
+        return submit(() -> jdbcBean.getEmployeeByFn(fn));
+    }
+
+    public CompletableFuture<Long> getDataVersion() {
+        return submit(jdbcBean::getDataVersion);
+    }
+
+    public CompletableFuture<List<Employee>> incrementSalary(int incrementPct) {
+        return submit(() -> jdbcBean.incrementSalary(incrementPct));
+    }
+
+    public CompletableFuture<Employee> createEmployee(Employee employee) {
+        return submit(() -> jdbcBean.createEmployee(employee));
+    }
+
+    public CompletableFuture<Employee> updateEmployee(Employee employee) {
+        return submit(() -> jdbcBean.updateEmployee(employee));
+    }
+
+    public CompletableFuture<Boolean> deleteEmployee(int empId) {
+        return submit(() -> jdbcBean.deleteEmployee(empId));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        // The database work routes its reads for the requesting client
+        return CompletableFuture.supplyAsync(ReadScope.propagate(operation), executor);
+    }
+
+    /**
+     * Get the timeout callers should apply to an asynchronous request
+     *
+     * @return Timeout in milliseconds
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Get the underlying synchronous bean
+     *
+     * @return JdbcBean instance
+     */
+    public JdbcBean getJdbcBean() {
+        return jdbcBean;
+    }
+
+    /**
+     * Stop accepting work and wait briefly for running calls to finish
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Per-row outcome of a batch create, update or delete.
+ *
+ * Batch operations run in a single transaction, so either every row is
+ * applied or none is. When the transaction is rolled back, the row that
+ * caused the failure is reported as FAILED (when the driver can tell) and
+ * every other row as ROLLED_BACK.
+ *
+ * @author HR Application Team
+ */
+public class BatchResult {
+
+    /**
+     * Outcome of a single row in the batch
+     */
+    public enum Outcome {
+        /** Row was written */
+        SUCCESS,
+        /** No employee with the given ID exists (update/delete only) */
+        NOT_FOUND,
+        /** Row caused the batch to fail */
+        FAILED,
+        /** Row was not applied because the transaction was rolled back */
+        ROLLED_BACK
+    }
+
+    private final Outcome[] outcomes;
+    private final boolean committed;
+    private final String errorMessage;
+
+    private BatchResult(Outcome[] outcomes, boolean committed, String errorMessage) {
+        this.outcomes = outcomes;
+        this.committed = committed;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Build the result of a committed batch from JDBC update counts
+     *
+     * @param updateCounts Update counts collected from executeBatch()
+     * @return Batch result
+     */
+    static BatchResult committed(int[] updateCounts) {
+        Outcome[] outcomes = new Outcome[updateCounts.length];
+        for (int i = 0; i < updateCounts.length; i++) {
+            // Rewritten (multi-row) inserts report SUCCESS_NO_INFO
+            outcomes[i] = updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO
+                    ? Outcome.SUCCESS : Outcome.NOT_FOUND;
+        }
+        return new BatchResult(outcomes, true, null);
+    }
+
+    /**
+     * Build the result of a rolled back batch
+     *
+     * @param size Number of rows in the batch
+     * @param chunkStart Index of the first row of the chunk that was executing
+     * @param e Exception that caused the rollback
+     * @return Batch result
+     */
+    static BatchResult rolledBack(int size, int chunkStart, Exception e) {
+        Outcome[] outcomes = new Outcome[size];
+        Arrays.fill(outcomes, Outcome.ROLLED_BACK);
+
+        if (e instanceof BatchUpdateException) {
+            int[] counts = ((BatchUpdateException) e).getUpdateCounts();
+            if (counts != null) {
+                for (int i = 0; i < counts.length && chunkStart + i < size; i++) {
+                    if (counts[i] == Statement.EXECUTE_FAILED) {
+                        outcomes[chunkStart + i] = Outcome.FAILED;
+                        break;
+                    }
+                }
+            }
+        }
+        return new BatchResult(outcomes, false, e.getMessage());
+    }
+
+    /**
+     * Get the outcome of each row, in input order
+     *
+     * @return Outcomes
+     */
+    public Outcome[] getOutcomes() {
+        return outcomes.clone();
+    }
+
+    /**
+     * Get the outcome of a single row
+     *
+     * @param index Row index in the input
+     * @return Outcome of that row
+     */
+    public Outcome getOutcome(int index) {
+        return outcomes[index];
+    }
+
+    public int size() {
+        return outcomes.length;
+    }
+
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Count rows with the given outcome
+     *
+     * @param outcome Outcome to count
+     * @return Number of rows
+     */
+    public int count(Outcome outcome) {
+        int n = 0;
+        for (Outcome o : outcomes) {
+            if (o == outcome) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchResult{size=%d, committed=%s, success=%d, notFound=%d, failed=%d, error='%s'}",
+                size(), committed, count(Outcome.SUCCESS), count(Outcome.NOT_FOUND), count(Outcome.FAILED),
+                errorMessage);
+    }
+}
@@ -0,0 +1,313 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.hrapp.jdbc.samples.config.DatabaseConfig;
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeField;
+
+/**
+ * Single-flight front end for a {@link JdbcBean}.
+ *
+ * Concurrent calls of the same read method with the same arguments share
+ * one call of the underlying bean: the first caller runs the query, later
+ * callers arriving while it is in flight wait for it and receive the same
+ * result (or exception). A burst of identical requests, such as every
+ * staff member opening the employee list at shift start, therefore costs
+ * one query and one pooled connection instead of one each.
+ *
+ * Only calls that are in flight at the same time are shared; nothing is
+ * kept once a call completes. Writes go straight to the underlying bean
+ * and detach all in-flight reads, so a read started after a write returned
+ * never receives a result read before it. Shared results must be treated
+ * as read-only by callers.
+ *
+ * @author HR Application Team
+ */
+public class CoalescingJdbcBean implements JdbcBean {
+
+    private static final Logger LOGGER = Logger.getLogger(CoalescingJdbcBean.class.getName());
+
+    private final JdbcBean jdbcBean;
+    private final ConcurrentHashMap<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Create a coalescing bean
+     *
+     * @param jdbcBean Bean doing the database work
+     */
+    public CoalescingJdbcBean(JdbcBean jdbcBean) {
+        this.jdbcBean = jdbcBean;
+    }
+
+    /**
+     * Wrap a bean as configured in application.properties
+     *
+     * @param jdbcBean Bean doing the database work
+     * @param config Database configuration to read app.coalescing.enabled from
+     * @return Coalescing bean, or the given bean if app.coalescing.enabled is false
+     */
+    public static JdbcBean fromConfig(JdbcBean jdbcBean, DatabaseConfig config) {
+        if (jdbcBean instanceof CoalescingJdbcBean || !config.getBooleanProperty("app.coalescing.enabled", true)) {
+            return jdbcBean;
+        }
+        LOGGER.info("Coalescing of concurrent identical reads enabled");
+        return new CoalescingJdbcBean(jdbcBean);
+    }
+
+    /**
+     * Get the number of reads that ran against the underlying bean
+     *
+     * @return Executed read count
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Get the number of reads that were answered by another caller's in-flight call
+     *
+     * @return Coalesced read count
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Get the number of distinct reads currently in flight
+     *
+     * @return In-flight read count
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Get coalescing statistics for monitoring
+     *
+     * @return Executed, coalesced and in-flight counts
+     */
+    public String getStats() {
+        return String.format("Coalescing Stats - Executed: %d, Coalesced: %d, In flight: %d",
+                           getExecutedCount(), getCoalescedCount(), getInFlightCount());
+    }
+
+    // ----- Reads: coalesced -----
+
+    @Override
+    public List<Employee> getEmployees() {
+        return coalesce(() -> jdbcBean.getEmployees(), "getEmployees");
+    }
+
+    @Override
+    public EmployeePage getEmployees(int afterId, int limit) {
+        return coalesce(() -> jdbcBean.getEmployees(afterId, limit), "getEmployeesAfter", afterId, limit);
+    }
+
+    @Override
+    public EmployeePage getEmployees(String pageToken, int limit) {
+        return coalesce(() -> jdbcBean.getEmployees(pageToken, limit), "getEmployeesPage", pageToken, limit);
+    }
+
+    @Override
+    public EmployeePage getEmployees(String fn, String pageToken, int limit, Set<EmployeeField> fields) {
+        return coalesce(() -> jdbcBean.getEmployees(fn, pageToken, limit, fields),
+                        "getEmployeesProjected", fn, pageToken, limit, fields);
+    }
+
+    @Override
+    public List<Employee> getEmployees(int[] empIds) {
+        // Arrays compare by identity; key on the ID values
+        return coalesce(() -> jdbcBean.getEmployees(empIds), "getEmployeesById", Arrays.toString(empIds));
+    }
+
+    @Override
+    public List<Employee> getEmployee(int empId) {
+        return coalesce(() -> jdbcBean.getEmployee(empId), "getEmployee", empId);
+    }
+
+    @Override
+    public List<Employee> getEmployee(int empId, Set<EmployeeField> fields) {
+        return coalesce(() -> jdbcBean.getEmployee(empId, fields), "getEmployeeProjected", empId, fields);
+    }
+
+    @Override
+    public List<Employee> getEmployeeByFn(String fn) {
+        return coalesce(() -> jdbcBean.getEmployeeByFn(fn), "getEmployeeByFn", fn);
+    }
+
+    @Override
+    public long getDataVersion() {
+        Long version = coalesce(() -> jdbcBean.getDataVersion(), "getDataVersion");
+        return version;
+    }
+
+    // ----- Streaming and health checks: per caller -----
+
+    @Override
+    public int streamEmployees(String fn, EmployeeHandler handler) throws IOException {
+        return jdbcBean.streamEmployees(fn, handler);
+    }
+
+    @Override
+    public long exportEmployees(Set<EmployeeField> fields, OutputStream out) throws IOException {
+        return jdbcBean.exportEmployees(fields, out);
+    }
+
+    @Override
+    public boolean isConnectionHealthy() {
+        return jdbcBean.isConnectionHealthy();
+    }
+
+    // ----- Writes: detach in-flight reads -----
+
+    @Override
+    public Employee updateEmployee(int empId) {
+        try {
+            return jdbcBean.updateEmployee(empId);
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @Override
+    public List<Employee> incrementSalary(int incrementPct) {
+        try {
+            return jdbcBean.incrementSalary(incrementPct);
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @Override
+    public boolean deleteEmployee(int empId) {
+        try {
+            return jdbcBean.deleteEmployee(empId);
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        try {
+            return jdbcBean.createEmployee(employee);
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @Override
+    public Employee updateEmployee(Employee employee) {
+        try {
+            return jdbcBean.updateEmployee(employee);
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @Override
+    public Employee patchEmployee(int empId, Map<EmployeeField, Object> values) {
+        try {
+            return jdbcBean.patchEmployee(empId, values);
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @Override
+    public BatchResult createEmployees(List<Employee> employees) {
+        try {
+            return jdbcBean.createEmployees(employees);
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @Override
+    public BatchResult updateEmployees(List<Employee> employees) {
+        try {
+            return jdbcBean.updateEmployees(employees);
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @Override
+    public BatchResult deleteEmployees(int[] empIds) {
+        try {
+            return jdbcBean.deleteEmployees(empIds);
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    @Override
+    public ImportResult importEmployees(Reader csv) throws IOException {
+        try {
+            return jdbcBean.importEmployees(csv);
+        } finally {
+            inFlight.clear();
+        }
+    }
+
+    /**
+     * Run a read, or join an identical read that is already in flight
+     *
+     * @param call Read against the underlying bean
+     * @param key Method name followed by the arguments
+     * @return Result of the call
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(Supplier<T> call, Object... key) {
+        List<Object> callKey = Arrays.asList(key);
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(callKey, own);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) await(existing);
+        }
+
+        executed.increment();
+        try {
+            T result = call.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(callKey, own);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // Rethrow what the leading caller saw
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
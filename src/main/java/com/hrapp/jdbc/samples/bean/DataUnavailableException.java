@@ -0,0 +1,16 @@
+package com.hrapp.jdbc.samples.bean;
+
+/**
+ * Thrown by a read that could be answered neither from the database nor
+ * from the last-known-good snapshot file, e.g. during an outage that began
+ * before the first snapshot was saved. The web tier answers it with 503
+ * rather than an empty result that would look like an empty table.
+ *
+ * @author HR Application Team
+ */
+public class DataUnavailableException extends RuntimeException {
+
+    public DataUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,162 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import com.hrapp.jdbc.samples.config.ConnectionFactory;
+
+/**
+ * Bulk employee import using PostgreSQL COPY FROM STDIN.
+ *
+ * The CSV input is streamed through pgjdbc's CopyManager into a temporary,
+ * all-text staging table, so a malformed value never aborts the COPY. The
+ * staged rows are then checked against the same rules as the employees
+ * table (NOT NULL and lengths from V1, CHECK constraints from V4, unique
+ * email), valid rows are copied into employees with one INSERT ... SELECT,
+ * and rejected rows are reported with the reason. Everything runs in one
+ * transaction and the staging table is dropped on commit.
+ *
+ * Memory use is constant: the input is never held in memory and only the
+ * first {@link #MAX_REPORTED_REJECTIONS} rejections are returned.
+ *
+ * Expected CSV layout (with header row):
+ * first_name,last_name,email,phone_number,job_id,salary
+ *
+ * @author HR Application Team
+ */
+public class EmployeeBulkImporter {
+
+    private static final Logger LOGGER = Logger.getLogger(EmployeeBulkImporter.class.getName());
+
+    // Upper bound on rejections returned to the caller
+    public static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private static final String CREATE_STAGING_SQL =
+        "CREATE TEMP TABLE employees_import (" +
+        "record_no BIGINT GENERATED ALWAYS AS IDENTITY, " +
+        "first_name TEXT, last_name TEXT, email TEXT, phone_number TEXT, job_id TEXT, salary TEXT, " +
+        "reject_reason TEXT) ON COMMIT DROP";
+
+    private static final String COPY_SQL =
+        "COPY employees_import (first_name, last_name, email, phone_number, job_id, salary) " +
+        "FROM STDIN WITH (FORMAT csv, HEADER true)";
+
+    // Mirrors the NOT NULL/length rules of V1, the CHECK constraints of V4 and the job catalog of V7
+    private static final String VALIDATE_SQL =
+        "UPDATE employees_import s SET reject_reason = CASE " +
+        "WHEN s.first_name IS NULL OR LENGTH(TRIM(s.first_name)) = 0 THEN 'first_name is empty' " +
+        "WHEN LENGTH(s.first_name) > 50 THEN 'first_name longer than 50 characters' " +
+        "WHEN s.last_name IS NULL OR LENGTH(TRIM(s.last_name)) = 0 THEN 'last_name is empty' " +
+        "WHEN LENGTH(s.last_name) > 50 THEN 'last_name longer than 50 characters' " +
+        "WHEN s.email IS NULL OR s.email !~* '^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$' THEN 'invalid email' " +
+        "WHEN LENGTH(s.email) > 100 THEN 'email longer than 100 characters' " +
+        "WHEN LENGTH(s.phone_number) > 20 THEN 'phone_number longer than 20 characters' " +
+        "WHEN s.job_id IS NULL OR NOT EXISTS (SELECT 1 FROM jobs j WHERE j.job_id = s.job_id) " +
+        "THEN 'invalid job_id' " +
+        "WHEN s.salary IS NULL OR s.salary !~ '^\\s*[0-9]+(\\.[0-9]+)?\\s*$' THEN 'invalid salary' " +
+        "WHEN ROUND(s.salary::NUMERIC, 2) >= 1000000 THEN 'salary out of range' " +
+        "WHEN EXISTS (SELECT 1 FROM employees e WHERE e.email = s.email) THEN 'email already exists' " +
+        "WHEN EXISTS (SELECT 1 FROM employees_import d WHERE d.email = s.email AND d.record_no < s.record_no) " +
+        "THEN 'duplicate email in file' " +
+        "END";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO employees (first_name, last_name, email, phone_number, job_id, salary) " +
+        "SELECT first_name, last_name, email, phone_number, job_id, ROUND(salary::NUMERIC, 2) " +
+        "FROM employees_import WHERE reject_reason IS NULL ORDER BY record_no";
+
+    private static final String REJECTIONS_SQL =
+        "SELECT record_no, email, reject_reason FROM employees_import " +
+        "WHERE reject_reason IS NOT NULL ORDER BY record_no LIMIT ?";
+
+    private static final String COUNT_REJECTIONS_SQL =
+        "SELECT COUNT(*) FROM employees_import WHERE reject_reason IS NOT NULL";
+
+    private final ConnectionFactory connectionFactory;
+
+    public EmployeeBulkImporter(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Import employees from CSV
+     *
+     * @param csv CSV input with header row; read once and not closed
+     * @return Import result with counts and rejected rows
+     * @throws IOException if reading the input fails
+     * @throws RuntimeException if database operation fails (nothing is imported)
+     */
+    public ImportResult importCsv(Reader csv) throws IOException {
+        Connection connection = null;
+        try {
+            connection = connectionFactory.getConnection(false);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+            }
+
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            long staged = copyManager.copyIn(COPY_SQL, csv);
+
+            try (Statement statement = connection.createStatement()) {
+                // The duplicate-email check probes the staging table per row
+                statement.execute("CREATE INDEX ON employees_import (email, record_no)");
+                statement.execute("ANALYZE employees_import");
+                statement.executeUpdate(VALIDATE_SQL);
+            }
+
+            long imported;
+            try (Statement statement = connection.createStatement()) {
+                imported = statement.executeUpdate(INSERT_SQL);
+            }
+
+            long rejectedCount = 0;
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(COUNT_REJECTIONS_SQL)) {
+                if (resultSet.next()) {
+                    rejectedCount = resultSet.getLong(1);
+                }
+            }
+
+            List<ImportResult.Rejection> rejections = new ArrayList<>();
+            if (rejectedCount > 0) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(REJECTIONS_SQL)) {
+                    preparedStatement.setInt(1, MAX_REPORTED_REJECTIONS);
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            rejections.add(new ImportResult.Rejection(
+                                resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3)));
+                        }
+                    }
+                }
+            }
+
+            ConnectionFactory.commitTransaction(connection);
+            LOGGER.info("Bulk import staged " + staged + " rows: imported " + imported + ", rejected " + rejectedCount);
+            return new ImportResult(imported, rejectedCount, rejections);
+
+        } catch (SQLException e) {
+            ConnectionFactory.rollbackTransaction(connection);
+            LOGGER.log(Level.SEVERE, "Bulk import failed, transaction rolled back", e);
+            throw new RuntimeException("Bulk import failed: " + e.getMessage(), e);
+        } catch (IOException e) {
+            ConnectionFactory.rollbackTransaction(connection);
+            LOGGER.log(Level.SEVERE, "Bulk import input could not be read, transaction rolled back", e);
+            throw e;
+        } finally {
+            ConnectionFactory.closeConnection(connection);
+        }
+    }
+}
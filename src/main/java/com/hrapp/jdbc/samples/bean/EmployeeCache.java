@@ -0,0 +1,417 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+
+/**
+ * Bounded in-process read-through cache for employee lookups.
+ *
+ * Holds single employees keyed by ID plus the full employee list returned by
+ * getEmployees(). Entries expire after a fixed time-to-live, and the number of
+ * single-employee entries is capped. When the cache is full, a candidate is
+ * only admitted if it has been requested more often than the least recently
+ * used entry it would replace (TinyLFU-style admission), so a burst of one-off
+ * lookups cannot flush the frequently read employees out of the cache.
+ *
+ * Access frequencies are tracked in a small count-min sketch that is halved
+ * periodically, so popularity decays over time.
+ *
+ * Entries are stored as immutable {@link EmployeeRecord}s, which are about
+ * half the size of Employee beans and can be shared without copying. The
+ * Employee-based methods convert on the way in and out, so callers never
+ * share a mutable instance with the cache. Every write bumps a generation
+ * counter; readers take a generation stamp before querying the database and
+ * their result is only stored if no write happened in between, so a slow
+ * read can never put pre-update data back into the cache.
+ *
+ * @author HR Application Team
+ */
+public class EmployeeCache {
+
+    // Default configuration values
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    public static final long DEFAULT_TTL_SECONDS = 60; // 1 minute
+
+    // Per-row seeds of the frequency sketch hash functions
+    private static final int[] SKETCH_SEEDS = {0x97CB3127, 0xB9F2E7D1, 0x1B873593, 0xCC9E2D51};
+    private static final int SKETCH_DEPTH = SKETCH_SEEDS.length;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    // Access-ordered map: iteration starts at the least recently used entry
+    private final LinkedHashMap<Integer, Entry<EmployeeRecord>> employees = new LinkedHashMap<>(16, 0.75f, true);
+    private Entry<List<EmployeeRecord>> allEmployees;
+    private long generation;
+
+    // Frequency sketch used for admission decisions
+    private final int[][] sketch;
+    private final int sketchMask;
+    private final int sampleSize;
+    private int additions;
+
+    // Statistics
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+
+    /**
+     * Create a cache with the given bounds
+     *
+     * @param maxSize Maximum number of single-employee entries (0 disables caching)
+     * @param ttlMillis Time-to-live of an entry in milliseconds
+     */
+    public EmployeeCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Create a cache with a custom clock (for testing)
+     *
+     * @param maxSize Maximum number of single-employee entries (0 disables caching)
+     * @param ttlMillis Time-to-live of an entry in milliseconds
+     * @param clock Millisecond clock used for expiry
+     */
+    public EmployeeCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        this.maxSize = Math.max(0, maxSize);
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+
+        int width = Integer.highestOneBit(Math.max(16, this.maxSize * 4 - 1) << 1);
+        this.sketch = new int[SKETCH_DEPTH][width];
+        this.sketchMask = width - 1;
+        this.sampleSize = Math.max(64, this.maxSize * 10);
+    }
+
+    /**
+     * Create a cache that never stores anything
+     *
+     * @return Disabled cache instance
+     */
+    public static EmployeeCache disabled() {
+        return new EmployeeCache(0, 0);
+    }
+
+    /**
+     * Check whether this cache stores entries at all
+     *
+     * @return true if caching is enabled
+     */
+    public boolean isEnabled() {
+        return maxSize > 0 && ttlMillis > 0;
+    }
+
+    /**
+     * Look up a single employee
+     *
+     * @param empId Employee ID
+     * @return Copy of the cached employee, or null on a miss
+     */
+    public Employee get(int empId) {
+        EmployeeRecord record = getRecord(empId);
+        return record != null ? record.toEmployee() : null;
+    }
+
+    /**
+     * Look up a single employee record
+     *
+     * @param empId Employee ID
+     * @return Cached record, or null on a miss
+     */
+    public synchronized EmployeeRecord getRecord(int empId) {
+        if (!isEnabled()) {
+            return null;
+        }
+        recordAccess(empId);
+
+        Entry<EmployeeRecord> entry = employees.get(empId);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(clock.getAsLong())) {
+            employees.remove(empId);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * Get the current write generation. Take this before reading from the
+     * database and pass it to put()/putAll() afterwards.
+     *
+     * @return Generation stamp
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Store a single employee, subject to the size bound and admission policy
+     *
+     * @param employee Employee read from the database
+     * @param readGeneration Generation stamp taken before the database read
+     */
+    public void put(Employee employee, long readGeneration) {
+        if (employee != null && employee.getEmployeeId() != null) {
+            put(EmployeeRecord.of(employee), readGeneration);
+        }
+    }
+
+    /**
+     * Store a single employee record, subject to the size bound and admission policy
+     *
+     * @param record Record read from the database
+     * @param readGeneration Generation stamp taken before the database read
+     */
+    public synchronized void put(EmployeeRecord record, long readGeneration) {
+        if (!isEnabled() || record == null || readGeneration != generation) {
+            return;
+        }
+        int empId = record.employeeId();
+        Entry<EmployeeRecord> entry = new Entry<>(record, clock.getAsLong() + ttlMillis);
+
+        if (employees.containsKey(empId) || employees.size() < maxSize) {
+            employees.put(empId, entry);
+            return;
+        }
+
+        evictExpired();
+        if (employees.size() < maxSize) {
+            employees.put(empId, entry);
+            return;
+        }
+
+        Iterator<Map.Entry<Integer, Entry<EmployeeRecord>>> lru = employees.entrySet().iterator();
+        Integer victim = lru.next().getKey();
+        if (frequency(empId) > frequency(victim)) {
+            lru.remove();
+            evictions.incrementAndGet();
+            employees.put(empId, entry);
+        } else {
+            rejections.incrementAndGet();
+        }
+    }
+
+    /**
+     * Look up the cached result of getEmployees()
+     *
+     * @return Copy of the cached list, or null on a miss
+     */
+    public List<Employee> getAll() {
+        List<EmployeeRecord> records = getAllRecords();
+        if (records == null) {
+            return null;
+        }
+        List<Employee> result = new ArrayList<>(records.size());
+        for (EmployeeRecord record : records) {
+            result.add(record.toEmployee());
+        }
+        return result;
+    }
+
+    /**
+     * Look up the cached result of getEmployees() as records
+     *
+     * @return Unmodifiable cached list, or null on a miss
+     */
+    public synchronized List<EmployeeRecord> getAllRecords() {
+        if (!isEnabled()) {
+            return null;
+        }
+        if (allEmployees == null || allEmployees.isExpired(clock.getAsLong())) {
+            allEmployees = null;
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return allEmployees.value;
+    }
+
+    /**
+     * Store the result of getEmployees()
+     *
+     * @param employeeList Full employee list read from the database
+     * @param readGeneration Generation stamp taken before the database read
+     */
+    public void putAll(List<Employee> employeeList, long readGeneration) {
+        if (employeeList == null) {
+            return;
+        }
+        List<EmployeeRecord> records = new ArrayList<>(employeeList.size());
+        for (Employee employee : employeeList) {
+            records.add(EmployeeRecord.of(employee));
+        }
+        putAllRecords(records, readGeneration);
+    }
+
+    /**
+     * Store the result of getEmployees() as records
+     *
+     * @param records Full employee list read from the database
+     * @param readGeneration Generation stamp taken before the database read
+     */
+    public synchronized void putAllRecords(List<EmployeeRecord> records, long readGeneration) {
+        if (!isEnabled() || records == null || readGeneration != generation) {
+            return;
+        }
+        allEmployees = new Entry<>(List.copyOf(records), clock.getAsLong() + ttlMillis);
+    }
+
+    /**
+     * Invalidate a single employee and the cached employee list
+     *
+     * @param empId Employee ID that changed
+     */
+    public synchronized void invalidate(int empId) {
+        generation++;
+        employees.remove(empId);
+        allEmployees = null;
+    }
+
+    /**
+     * Replace a single employee after a write and invalidate the cached employee list
+     *
+     * @param employee Employee as returned by the database after the write
+     */
+    public synchronized void update(Employee employee) {
+        generation++;
+        allEmployees = null;
+        if (employee == null || employee.getEmployeeId() == null) {
+            return;
+        }
+        if (employees.containsKey(employee.getEmployeeId())) {
+            employees.put(employee.getEmployeeId(), new Entry<>(EmployeeRecord.of(employee), clock.getAsLong() + ttlMillis));
+        }
+    }
+
+    /**
+     * Invalidate only the cached employee list (e.g. after an insert)
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        allEmployees = null;
+    }
+
+    /**
+     * Remove every entry (e.g. after a bulk salary change)
+     */
+    public synchronized void clear() {
+        generation++;
+        employees.clear();
+        allEmployees = null;
+    }
+
+    /**
+     * Get the number of cached single-employee entries
+     *
+     * @return Entry count
+     */
+    public synchronized int size() {
+        return employees.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public long getRejectionCount() {
+        return rejections.get();
+    }
+
+    /**
+     * Get cache statistics
+     *
+     * @return Cache statistics as string
+     */
+    public String getStats() {
+        return String.format(
+            "Cache Stats - Size: %d/%d, Hits: %d, Misses: %d, Evictions: %d, Rejections: %d",
+            size(), maxSize, getHitCount(), getMissCount(), getEvictionCount(), getRejectionCount()
+        );
+    }
+
+    // Helper methods
+
+    private void evictExpired() {
+        long now = clock.getAsLong();
+        Iterator<Entry<EmployeeRecord>> it = employees.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().isExpired(now)) {
+                it.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void recordAccess(int key) {
+        for (int i = 0; i < SKETCH_DEPTH; i++) {
+            int index = index(key, i);
+            if (sketch[i][index] < 15) {
+                sketch[i][index]++;
+            }
+        }
+        if (++additions >= sampleSize) {
+            // Age all counters so that old popularity fades out
+            for (int[] row : sketch) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] >>>= 1;
+                }
+            }
+            additions = 0;
+        }
+    }
+
+    private int frequency(int key) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < SKETCH_DEPTH; i++) {
+            min = Math.min(min, sketch[i][index(key, i)]);
+        }
+        return min;
+    }
+
+    private int index(int key, int row) {
+        int h = (key ^ SKETCH_SEEDS[row]) * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h & sketchMask;
+    }
+
+    /**
+     * Cache entry with absolute expiry time
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
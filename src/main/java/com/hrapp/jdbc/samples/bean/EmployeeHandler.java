@@ -0,0 +1,36 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.io.IOException;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+
+/**
+ * Callback that receives employees one at a time from a streaming query.
+ * 
+ * Used by {@link JdbcBean#streamEmployees(String, EmployeeHandler)} so that
+ * callers can write each row out (e.g. to a servlet response) while the
+ * ResultSet is still being read.
+ * 
+ * @author HR Application Team
+ */
+@FunctionalInterface
+public interface EmployeeHandler {
+
+    /**
+     * Handle one employee row
+     * 
+     * @param employee Employee read from the current row
+     * @throws IOException if the employee cannot be written out
+     */
+    void handle(Employee employee) throws IOException;
+
+    /**
+     * Called once, before the first employee, when the database could not be
+     * reached and the rows come from the last-known-good snapshot file
+     * 
+     * @param snapshotAgeMillis Age of the snapshot in milliseconds
+     * @throws IOException if the notice cannot be written out
+     */
+    default void fromSnapshot(long snapshotAgeMillis) throws IOException {
+    }
+}
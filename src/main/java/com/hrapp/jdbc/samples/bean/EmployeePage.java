@@ -0,0 +1,100 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+
+/**
+ * One page of employees from a keyset-paginated query.
+ *
+ * Pages are ordered by employee_id. The next page is addressed by an opaque
+ * token that encodes the last employee_id of this page, so fetching the next
+ * page is a bounded range scan on the primary key
+ * (WHERE employee_id > ? ORDER BY employee_id LIMIT ?) instead of an OFFSET scan.
+ *
+ * @author HR Application Team
+ */
+public class EmployeePage {
+
+    private static final String TOKEN_PREFIX = "e1:";
+
+    private final List<Employee> employees;
+    private final Integer lastEmployeeId;
+    private final boolean hasMore;
+
+    /**
+     * Create a page
+     *
+     * @param employees Employees on this page, ordered by employee_id
+     * @param hasMore true if more employees follow this page
+     */
+    public EmployeePage(List<Employee> employees, boolean hasMore) {
+        // A snapshot result is already read-only and must keep its age
+        this.employees = employees instanceof SnapshotEmployeeList ? employees : Collections.unmodifiableList(employees);
+        this.hasMore = hasMore && !employees.isEmpty();
+        this.lastEmployeeId = employees.isEmpty() ? null : employees.get(employees.size() - 1).getEmployeeId();
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    /**
+     * Get the age of the snapshot this page was read from
+     *
+     * @return Age in milliseconds, or -1 if the page came from the database
+     */
+    public long getSnapshotAgeMillis() {
+        return SnapshotEmployeeList.snapshotAgeOf(employees);
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    /**
+     * Get the token addressing the next page
+     *
+     * @return Opaque next-page token, or null if this is the last page
+     */
+    public String getNextPageToken() {
+        return hasMore ? encodeToken(lastEmployeeId) : null;
+    }
+
+    /**
+     * Encode an after-id cursor as an opaque page token
+     *
+     * @param afterId Last employee_id of the previous page
+     * @return URL-safe page token
+     */
+    public static String encodeToken(int afterId) {
+        byte[] raw = (TOKEN_PREFIX + afterId).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * Decode a page token back to its after-id cursor
+     *
+     * @param token Page token, or null/empty for the first page
+     * @return Last employee_id of the previous page (0 for the first page)
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static int decodeToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            if (!raw.startsWith(TOKEN_PREFIX)) {
+                throw new IllegalArgumentException("Invalid page token: " + token);
+            }
+            return Integer.parseInt(raw.substring(TOKEN_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // Also covers NumberFormatException and Base64 decoding errors
+            throw new IllegalArgumentException("Invalid page token: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+import com.hrapp.jdbc.samples.entity.JobDictionary;
+
+/**
+ * Maps employee rows by column index.
+ *
+ * Reading a column by name makes pgjdbc look the name up (case-insensitively)
+ * for every cell, seven times per employee. This mapper resolves the seven
+ * columns against the ResultSet metadata once, when it is created, and then
+ * reads each row by index. It works for any query that selects the employee
+ * columns by name, in any order, including SELECT * from
+ * increment_salary_function().
+ *
+ * A column that cannot be found in the metadata (or a driver that returns
+ * no metadata) is read by name, so the mapper never fails where
+ * new Employee(ResultSet) would have worked.
+ *
+ * @author HR Application Team
+ */
+public final class EmployeeRowMapper implements RowMapper<EmployeeRecord> {
+
+    // Employee columns in the order of the indices array
+    static final String[] COLUMNS = {
+        "employee_id", "first_name", "last_name", "email", "phone_number", "job_id", "salary"
+    };
+
+    private static final int EMPLOYEE_ID = 0;
+    private static final int FIRST_NAME = 1;
+    private static final int LAST_NAME = 2;
+    private static final int EMAIL = 3;
+    private static final int PHONE_NUMBER = 4;
+    private static final int JOB_ID = 5;
+    private static final int SALARY = 6;
+
+    // 1-based column index per entry of COLUMNS; 0 = read by name
+    private final int[] indices;
+
+    private EmployeeRowMapper(int[] indices) {
+        this.indices = indices;
+    }
+
+    /**
+     * Create a mapper for one ResultSet, resolving the column indices from its metadata
+     *
+     * @param resultSet ResultSet whose rows will be mapped
+     * @return Mapper bound to the column layout of the ResultSet
+     * @throws SQLException if the metadata cannot be read
+     */
+    public static EmployeeRowMapper forResultSet(ResultSet resultSet) throws SQLException {
+        int[] indices = new int[COLUMNS.length];
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        if (metaData != null) {
+            for (int column = metaData.getColumnCount(); column >= 1; column--) {
+                // Counting down makes the first of several equally named columns win, as findColumn() does
+                String label = metaData.getColumnLabel(column);
+                for (int i = 0; i < COLUMNS.length; i++) {
+                    if (COLUMNS[i].equalsIgnoreCase(label)) {
+                        indices[i] = column;
+                    }
+                }
+            }
+        }
+        return new EmployeeRowMapper(indices);
+    }
+
+    /**
+     * Check whether every column is read by index
+     *
+     * @return true if all employee columns were found in the metadata
+     */
+    public boolean isResolved() {
+        for (int index : indices) {
+            if (index == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public EmployeeRecord mapRow(ResultSet resultSet) throws SQLException {
+        return new EmployeeRecord(
+            getInt(resultSet, EMPLOYEE_ID),
+            getString(resultSet, FIRST_NAME),
+            getString(resultSet, LAST_NAME),
+            getString(resultSet, EMAIL),
+            getString(resultSet, PHONE_NUMBER),
+            JobDictionary.getInstance().ordinal(getString(resultSet, JOB_ID)),
+            EmployeeRecord.toCents(getBigDecimal(resultSet, SALARY)));
+    }
+
+    /**
+     * Map the current row to an Employee bean
+     *
+     * @param resultSet ResultSet positioned on a row
+     * @return Employee of the row
+     * @throws SQLException if ResultSet access fails
+     */
+    public Employee mapEmployee(ResultSet resultSet) throws SQLException {
+        return new Employee(
+            getInt(resultSet, EMPLOYEE_ID),
+            getString(resultSet, FIRST_NAME),
+            getString(resultSet, LAST_NAME),
+            getString(resultSet, EMAIL),
+            getString(resultSet, PHONE_NUMBER),
+            getString(resultSet, JOB_ID),
+            getBigDecimal(resultSet, SALARY));
+    }
+
+    /**
+     * Get this mapper as a mapper of Employee beans
+     *
+     * @return Row mapper producing Employee instances
+     */
+    public RowMapper<Employee> employees() {
+        return this::mapEmployee;
+    }
+
+    private int getInt(ResultSet resultSet, int column) throws SQLException {
+        int index = indices[column];
+        return index > 0 ? resultSet.getInt(index) : resultSet.getInt(COLUMNS[column]);
+    }
+
+    private String getString(ResultSet resultSet, int column) throws SQLException {
+        int index = indices[column];
+        return index > 0 ? resultSet.getString(index) : resultSet.getString(COLUMNS[column]);
+    }
+
+    private BigDecimal getBigDecimal(ResultSet resultSet, int column) throws SQLException {
+        int index = indices[column];
+        return index > 0 ? resultSet.getBigDecimal(index) : resultSet.getBigDecimal(COLUMNS[column]);
+    }
+}
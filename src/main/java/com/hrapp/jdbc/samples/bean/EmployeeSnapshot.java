@@ -0,0 +1,507 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+import com.hrapp.jdbc.samples.entity.JobDictionary;
+
+/**
+ * Immutable, column-oriented copy of hr.employees for analytical reads.
+ *
+ * Every column is a separate array indexed by row, with rows ordered by
+ * employee ID: IDs and salary cents are primitive arrays, job codes are
+ * {@link JobDictionary} ordinals and first and last names are codes into
+ * a name dictionary shared by both columns. Scans over a filter therefore
+ * read a few dense arrays and compare integers, and count, sum, filter and
+ * top-K queries allocate nothing per row (only their result arrays).
+ *
+ * A snapshot never changes; {@link #merge(List, long)} builds the next
+ * snapshot from this one and the rows that changed since, reusing the name
+ * dictionary. The watermark is the newest updated_at value it contains.
+ *
+ * @author HR Application Team
+ */
+public final class EmployeeSnapshot {
+
+    // Watermark of a snapshot that has never been loaded
+    public static final long NO_WATERMARK = Long.MIN_VALUE;
+
+    // Snapshot without rows
+    public static final EmployeeSnapshot EMPTY = new Builder(0).build(NO_WATERMARK);
+
+    private final int size;
+    private final int[] employeeIds;
+    private final long[] salaryCents;
+    private final short[] jobOrdinals;
+    private final int[] firstNameCodes;
+    private final int[] lastNameCodes;
+    private final String[] emails;
+    private final String[] phoneNumbers;
+    private final String[] names;
+    private final long watermark;
+
+    private EmployeeSnapshot(Builder builder, long watermark) {
+        this.size = builder.size;
+        this.employeeIds = Arrays.copyOf(builder.employeeIds, size);
+        this.salaryCents = Arrays.copyOf(builder.salaryCents, size);
+        this.jobOrdinals = Arrays.copyOf(builder.jobOrdinals, size);
+        this.firstNameCodes = Arrays.copyOf(builder.firstNameCodes, size);
+        this.lastNameCodes = Arrays.copyOf(builder.lastNameCodes, size);
+        this.emails = Arrays.copyOf(builder.emails, size);
+        this.phoneNumbers = Arrays.copyOf(builder.phoneNumbers, size);
+        this.names = builder.names.toArray(new String[0]);
+        this.watermark = watermark;
+    }
+
+    /**
+     * Get the number of employees
+     *
+     * @return Row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the newest updated_at value contained in this snapshot
+     *
+     * @return Epoch milliseconds, or NO_WATERMARK if the snapshot was never loaded
+     */
+    public long getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * Get the number of distinct first and last names in the name dictionary
+     *
+     * @return Name dictionary size
+     */
+    public int getNameCount() {
+        return names.length;
+    }
+
+    /**
+     * Count the employees matching a filter
+     *
+     * @param filter Filter to apply
+     * @return Number of matching employees
+     */
+    public int count(Filter filter) {
+        Matcher matcher = new Matcher(filter);
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (matcher.matches(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sum the salaries of the employees matching a filter
+     *
+     * @param filter Filter to apply
+     * @return Total salary in cents
+     */
+    public long sumSalaryCents(Filter filter) {
+        Matcher matcher = new Matcher(filter);
+        long sum = 0;
+        for (int row = 0; row < size; row++) {
+            if (matcher.matches(row)) {
+                sum += salaryCents[row];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Sum the salaries of the employees matching a filter
+     *
+     * @param filter Filter to apply
+     * @return Total salary with scale 2
+     */
+    public BigDecimal sumSalary(Filter filter) {
+        return BigDecimal.valueOf(sumSalaryCents(filter), 2);
+    }
+
+    /**
+     * Get the IDs of the employees matching a filter
+     *
+     * @param filter Filter to apply
+     * @return Matching employee IDs in ascending order
+     */
+    public int[] filter(Filter filter) {
+        Matcher matcher = new Matcher(filter);
+        int[] matches = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (matcher.matches(row)) {
+                matches[count++] = employeeIds[row];
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Get the best-paid employees matching a filter.
+     * Uses a bounded min-heap of row numbers, so the cost is O(n log k).
+     *
+     * @param filter Filter to apply
+     * @param k Maximum number of employees to return
+     * @return Employee IDs by salary descending (ties by ascending ID)
+     * @throws IllegalArgumentException if k is negative
+     */
+    public int[] topBySalary(Filter filter, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        Matcher matcher = new Matcher(filter);
+        // heap[0] is the lowest-ranked row kept so far
+        int[] heap = new int[Math.min(k, size)];
+        int count = 0;
+        for (int row = 0; row < size && heap.length > 0; row++) {
+            if (!matcher.matches(row)) {
+                continue;
+            }
+            if (count < heap.length) {
+                heap[count] = row;
+                siftUp(heap, count++);
+            } else if (ranksAbove(row, heap[0])) {
+                heap[0] = row;
+                siftDown(heap, 0, count);
+            }
+        }
+
+        int[] top = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            top[i] = employeeIds[heap[0]];
+            heap[0] = heap[i];
+            siftDown(heap, 0, i);
+        }
+        return top;
+    }
+
+    /**
+     * Get an employee
+     *
+     * @param employeeId Employee ID
+     * @return Employee, or null if the snapshot does not contain the ID
+     */
+    public Employee getEmployee(int employeeId) {
+        int row = Arrays.binarySearch(employeeIds, 0, size, employeeId);
+        return row >= 0 ? toEmployee(row) : null;
+    }
+
+    /**
+     * Get employees, e.g. the result of a filter or top-K query
+     *
+     * @param ids Employee IDs
+     * @return Employees in the order of the IDs; IDs not in the snapshot are skipped
+     */
+    public List<Employee> getEmployees(int[] ids) {
+        List<Employee> employees = new ArrayList<>(ids.length);
+        for (int employeeId : ids) {
+            int row = Arrays.binarySearch(employeeIds, 0, size, employeeId);
+            if (row >= 0) {
+                employees.add(toEmployee(row));
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * Build the next snapshot by applying changed rows to this one
+     *
+     * @param changed Inserted or updated rows, ordered by employee ID without duplicates
+     * @param newWatermark Newest updated_at among the changed rows (epoch milliseconds)
+     * @return New snapshot; rows with a changed ID replace the existing row
+     */
+    public EmployeeSnapshot merge(List<EmployeeRecord> changed, long newWatermark) {
+        Builder builder = new Builder(this, size + changed.size());
+        int row = 0;
+        for (EmployeeRecord record : changed) {
+            while (row < size && employeeIds[row] < record.employeeId()) {
+                builder.copy(this, row++);
+            }
+            if (row < size && employeeIds[row] == record.employeeId()) {
+                row++;
+            }
+            builder.add(record);
+        }
+        while (row < size) {
+            builder.copy(this, row++);
+        }
+        return builder.build(Math.max(watermark, newWatermark));
+    }
+
+    // Row accessors for EmployeeSnapshotFile
+
+    int employeeIdAt(int row) {
+        return employeeIds[row];
+    }
+
+    long salaryCentsAt(int row) {
+        return salaryCents[row];
+    }
+
+    short jobOrdinalAt(int row) {
+        return jobOrdinals[row];
+    }
+
+    String firstNameAt(int row) {
+        return names[firstNameCodes[row]];
+    }
+
+    String lastNameAt(int row) {
+        return names[lastNameCodes[row]];
+    }
+
+    String emailAt(int row) {
+        return emails[row];
+    }
+
+    String phoneNumberAt(int row) {
+        return phoneNumbers[row];
+    }
+
+    private Employee toEmployee(int row) {
+        return new Employee(employeeIds[row], names[firstNameCodes[row]], names[lastNameCodes[row]], emails[row],
+                            phoneNumbers[row], JobDictionary.getInstance().code(jobOrdinals[row]),
+                            salaryCents[row] == EmployeeRecord.NO_SALARY ? null
+                                : BigDecimal.valueOf(salaryCents[row], 2));
+    }
+
+    // Higher salary first, then lower ID
+    private boolean ranksAbove(int row, int other) {
+        if (salaryCents[row] != salaryCents[other]) {
+            return salaryCents[row] > salaryCents[other];
+        }
+        return employeeIds[row] < employeeIds[other];
+    }
+
+    private void siftUp(int[] heap, int index) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(heap[parent], row)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private void siftDown(int[] heap, int index, int count) {
+        int row = heap[index];
+        int half = count >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < count && ranksAbove(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksAbove(row, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    /**
+     * Filter on the snapshot columns. Filters are immutable; each method
+     * returns a new filter with one more condition.
+     */
+    public static final class Filter {
+
+        // Filter matching every employee
+        public static final Filter ALL = new Filter(false, JobDictionary.NO_JOB, Long.MIN_VALUE, Long.MAX_VALUE, null);
+
+        private final boolean byJob;
+        private final short jobOrdinal;
+        private final long minSalaryCents;
+        private final long maxSalaryCents;
+        private final String firstNamePrefix;
+
+        private Filter(boolean byJob, short jobOrdinal, long minSalaryCents, long maxSalaryCents,
+                       String firstNamePrefix) {
+            this.byJob = byJob;
+            this.jobOrdinal = jobOrdinal;
+            this.minSalaryCents = minSalaryCents;
+            this.maxSalaryCents = maxSalaryCents;
+            this.firstNamePrefix = firstNamePrefix;
+        }
+
+        /**
+         * Restrict to one job
+         *
+         * @param jobId Job code; an unknown code matches no employee
+         * @return New filter
+         */
+        public Filter job(String jobId) {
+            return new Filter(true, JobDictionary.getInstance().find(jobId), minSalaryCents, maxSalaryCents,
+                              firstNamePrefix);
+        }
+
+        /**
+         * Restrict to a salary range
+         *
+         * @param min Lowest salary (inclusive), or null for no lower bound
+         * @param max Highest salary (inclusive), or null for no upper bound
+         * @return New filter
+         */
+        public Filter salaryBetween(BigDecimal min, BigDecimal max) {
+            return new Filter(byJob, jobOrdinal,
+                              min != null ? EmployeeRecord.toCents(min) : Long.MIN_VALUE,
+                              max != null ? EmployeeRecord.toCents(max) : Long.MAX_VALUE,
+                              firstNamePrefix);
+        }
+
+        /**
+         * Restrict to first names starting with a prefix (case-sensitive, like getEmployeeByFn)
+         *
+         * @param prefix First name prefix, or null for any first name
+         * @return New filter
+         */
+        public Filter firstNameStartingWith(String prefix) {
+            return new Filter(byJob, jobOrdinal, minSalaryCents, maxSalaryCents, prefix);
+        }
+    }
+
+    // A filter bound to this snapshot; resolved once per query
+    private final class Matcher {
+        private final boolean byJob;
+        private final short jobOrdinal;
+        private final long minSalaryCents;
+        private final long maxSalaryCents;
+        // Per name code, whether the name matches the prefix; null = any name
+        private final boolean[] firstNameMatches;
+
+        Matcher(Filter filter) {
+            this.byJob = filter.byJob;
+            this.jobOrdinal = filter.jobOrdinal;
+            this.minSalaryCents = filter.minSalaryCents;
+            this.maxSalaryCents = filter.maxSalaryCents;
+            if (filter.firstNamePrefix != null) {
+                firstNameMatches = new boolean[names.length];
+                for (int code = 0; code < names.length; code++) {
+                    firstNameMatches[code] = names[code] != null && names[code].startsWith(filter.firstNamePrefix);
+                }
+            } else {
+                firstNameMatches = null;
+            }
+        }
+
+        boolean matches(int row) {
+            return (!byJob || jobOrdinals[row] == jobOrdinal && jobOrdinal != JobDictionary.NO_JOB)
+                && salaryCents[row] >= minSalaryCents && salaryCents[row] <= maxSalaryCents
+                && (firstNameMatches == null || firstNameMatches[firstNameCodes[row]]);
+        }
+    }
+
+    /**
+     * Builds a snapshot from rows in ascending employee ID order
+     */
+    static final class Builder {
+        private int size;
+        private int[] employeeIds;
+        private long[] salaryCents;
+        private short[] jobOrdinals;
+        private int[] firstNameCodes;
+        private int[] lastNameCodes;
+        private String[] emails;
+        private String[] phoneNumbers;
+        private final List<String> names;
+        private final Map<String, Integer> nameCodes;
+
+        Builder(int capacity) {
+            this.names = new ArrayList<>();
+            this.nameCodes = new HashMap<>();
+            allocate(capacity);
+        }
+
+        // Continues the name dictionary of a snapshot, so its name codes stay valid
+        Builder(EmployeeSnapshot base, int capacity) {
+            this.names = new ArrayList<>(Arrays.asList(base.names));
+            this.nameCodes = new HashMap<>(names.size() * 2);
+            for (int code = 0; code < names.size(); code++) {
+                nameCodes.put(names.get(code), code);
+            }
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            employeeIds = new int[capacity];
+            salaryCents = new long[capacity];
+            jobOrdinals = new short[capacity];
+            firstNameCodes = new int[capacity];
+            lastNameCodes = new int[capacity];
+            emails = new String[capacity];
+            phoneNumbers = new String[capacity];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void add(EmployeeRecord record) {
+            int row = nextRow(record.employeeId());
+            employeeIds[row] = record.employeeId();
+            salaryCents[row] = record.salaryCents();
+            jobOrdinals[row] = record.jobOrdinal();
+            firstNameCodes[row] = nameCode(record.firstName());
+            lastNameCodes[row] = nameCode(record.lastName());
+            emails[row] = record.email();
+            phoneNumbers[row] = record.phoneNumber();
+        }
+
+        void copy(EmployeeSnapshot source, int sourceRow) {
+            int row = nextRow(source.employeeIds[sourceRow]);
+            employeeIds[row] = source.employeeIds[sourceRow];
+            salaryCents[row] = source.salaryCents[sourceRow];
+            jobOrdinals[row] = source.jobOrdinals[sourceRow];
+            firstNameCodes[row] = source.firstNameCodes[sourceRow];
+            lastNameCodes[row] = source.lastNameCodes[sourceRow];
+            emails[row] = source.emails[sourceRow];
+            phoneNumbers[row] = source.phoneNumbers[sourceRow];
+        }
+
+        EmployeeSnapshot build(long watermark) {
+            return new EmployeeSnapshot(this, watermark);
+        }
+
+        private int nextRow(int employeeId) {
+            if (size > 0 && employeeIds[size - 1] >= employeeId) {
+                throw new IllegalArgumentException("Rows must be added in ascending employee ID order: " + employeeId);
+            }
+            if (size == employeeIds.length) {
+                int capacity = Math.max(16, size * 2);
+                employeeIds = Arrays.copyOf(employeeIds, capacity);
+                salaryCents = Arrays.copyOf(salaryCents, capacity);
+                jobOrdinals = Arrays.copyOf(jobOrdinals, capacity);
+                firstNameCodes = Arrays.copyOf(firstNameCodes, capacity);
+                lastNameCodes = Arrays.copyOf(lastNameCodes, capacity);
+                emails = Arrays.copyOf(emails, capacity);
+                phoneNumbers = Arrays.copyOf(phoneNumbers, capacity);
+            }
+            return size++;
+        }
+
+        private int nameCode(String name) {
+            Integer code = nameCodes.get(name);
+            if (code == null) {
+                code = names.size();
+                names.add(name);
+                nameCodes.put(name, code);
+            }
+            return code;
+        }
+    }
+}
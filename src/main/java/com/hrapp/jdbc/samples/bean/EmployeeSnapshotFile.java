@@ -0,0 +1,324 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+import com.hrapp.jdbc.samples.entity.JobDictionary;
+
+/**
+ * Memory-mapped, read-only employee snapshot file.
+ *
+ * The file holds the columns of an {@link EmployeeSnapshot} as fixed-width
+ * big-endian arrays followed by one table of distinct strings. Rows are
+ * decoded from the mapping only when they are read, so mapping the file at
+ * startup costs no time or heap regardless of its size and the operating
+ * system keeps the pages cached across restarts.
+ *
+ * Layout:
+ * <pre>
+ * header   magic, version, taken-at millis, watermark millis, rows, strings, string bytes
+ * columns  employee_id int[rows], salary_cents long[rows],
+ *          job_id, first_name, last_name, email, phone_number int[rows] (string index, -1 = null)
+ * strings  offsets int[strings + 1], UTF-8 bytes
+ * </pre>
+ *
+ * Files are written to a temporary file and renamed into place, so a
+ * reader never maps a partially written snapshot.
+ *
+ * @author HR Application Team
+ */
+public final class EmployeeSnapshotFile {
+
+    // "HRES"
+    static final int MAGIC = 0x48524553;
+    static final int VERSION = 1;
+
+    private static final int TAKEN_AT_OFFSET = 8;
+    private static final int HEADER_SIZE = 36;
+    private static final int STRING_COLUMNS = 5;
+    private static final int NO_STRING = -1;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final long takenAt;
+    private final long watermark;
+    private final int rows;
+    private final int strings;
+    private final int salaryOffset;
+    private final int stringColumnsOffset;
+    private final int stringOffsetsOffset;
+    private final int stringBytesOffset;
+
+    private EmployeeSnapshotFile(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not an employee snapshot file: " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported employee snapshot version " + buffer.getInt(4) + ": " + path);
+        }
+        this.takenAt = buffer.getLong(TAKEN_AT_OFFSET);
+        this.watermark = buffer.getLong(16);
+        this.rows = buffer.getInt(24);
+        this.strings = buffer.getInt(28);
+        int stringBytes = buffer.getInt(32);
+        if (rows < 0 || strings < 0 || stringBytes < 0) {
+            throw new IOException("Corrupt employee snapshot header: " + path);
+        }
+        // Computed as long so that a corrupt header cannot overflow into a plausible size
+        long stringOffsetsOffset = HEADER_SIZE + (4L + 8L + 4L * STRING_COLUMNS) * rows;
+        long stringBytesOffset = stringOffsetsOffset + 4L * (strings + 1L);
+        if (stringBytesOffset + stringBytes != buffer.capacity()) {
+            throw new IOException("Truncated employee snapshot file: " + path);
+        }
+        this.salaryOffset = HEADER_SIZE + 4 * rows;
+        this.stringColumnsOffset = salaryOffset + 8 * rows;
+        this.stringOffsetsOffset = (int) stringOffsetsOffset;
+        this.stringBytesOffset = (int) stringBytesOffset;
+    }
+
+    /**
+     * Map a snapshot file read-only
+     *
+     * @param path Snapshot file
+     * @return Mapped snapshot
+     * @throws IOException if the file cannot be mapped or is not a valid snapshot file
+     */
+    public static EmployeeSnapshotFile map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Employee snapshot file too large: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new EmployeeSnapshotFile(path, buffer);
+        }
+    }
+
+    /**
+     * Write a snapshot to a file, replacing it atomically
+     *
+     * @param snapshot Snapshot to write
+     * @param takenAt Time the snapshot was known to match the database (epoch milliseconds)
+     * @param path Snapshot file; its directory is created if necessary
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(EmployeeSnapshot snapshot, long takenAt, Path path) throws IOException {
+        int rows = snapshot.size();
+        Map<String, Integer> stringIndex = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[][] stringColumns = new int[STRING_COLUMNS][rows];
+        JobDictionary jobs = JobDictionary.getInstance();
+        for (int row = 0; row < rows; row++) {
+            stringColumns[0][row] = intern(jobs.code(snapshot.jobOrdinalAt(row)), stringIndex, strings);
+            stringColumns[1][row] = intern(snapshot.firstNameAt(row), stringIndex, strings);
+            stringColumns[2][row] = intern(snapshot.lastNameAt(row), stringIndex, strings);
+            stringColumns[3][row] = intern(snapshot.emailAt(row), stringIndex, strings);
+            stringColumns[4][row] = intern(snapshot.phoneNumberAt(row), stringIndex, strings);
+        }
+        int stringBytes = 0;
+        for (byte[] string : strings) {
+            stringBytes += string.length;
+        }
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(takenAt);
+                out.writeLong(snapshot.getWatermark());
+                out.writeInt(rows);
+                out.writeInt(strings.size());
+                out.writeInt(stringBytes);
+                for (int row = 0; row < rows; row++) {
+                    out.writeInt(snapshot.employeeIdAt(row));
+                }
+                for (int row = 0; row < rows; row++) {
+                    out.writeLong(snapshot.salaryCentsAt(row));
+                }
+                for (int[] column : stringColumns) {
+                    for (int index : column) {
+                        out.writeInt(index);
+                    }
+                }
+                int offset = 0;
+                for (byte[] string : strings) {
+                    out.writeInt(offset);
+                    offset += string.length;
+                }
+                out.writeInt(offset);
+                for (byte[] string : strings) {
+                    out.write(string);
+                }
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Record that a snapshot file is still current without rewriting it
+     *
+     * @param path Snapshot file
+     * @param takenAt Time the snapshot was last known to match the database (epoch milliseconds)
+     * @throws IOException if the file cannot be written
+     */
+    public static void touch(Path path, long takenAt) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            ByteBuffer value = ByteBuffer.allocate(8).putLong(0, takenAt);
+            channel.write(value, TAKEN_AT_OFFSET);
+        }
+    }
+
+    /**
+     * Get the mapped file
+     *
+     * @return Path of the snapshot file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Get the time the snapshot was known to match the database
+     *
+     * @return Epoch milliseconds, as stored when the file was mapped
+     */
+    public long getTakenAt() {
+        return takenAt;
+    }
+
+    /**
+     * Get the number of employees
+     *
+     * @return Row count
+     */
+    public int size() {
+        return rows;
+    }
+
+    /**
+     * Get all employees. The list decodes a row from the mapping each time it is read.
+     *
+     * @return Read-only list view ordered by employee ID
+     */
+    public List<Employee> getEmployees() {
+        return new EmployeeList();
+    }
+
+    /**
+     * Get an employee by binary search over the mapped ID column
+     *
+     * @param employeeId Employee ID
+     * @return Employee, or null if the snapshot does not contain the ID
+     */
+    public Employee getEmployee(int employeeId) {
+        int low = 0;
+        int high = rows - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int id = employeeIdAt(middle);
+            if (id < employeeId) {
+                low = middle + 1;
+            } else if (id > employeeId) {
+                high = middle - 1;
+            } else {
+                return employeeAt(middle);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decode the whole file into an in-memory snapshot, e.g. to seed the
+     * EmployeeSnapshotLoader when it first needs the rows
+     *
+     * @return Columnar snapshot with the watermark of the file
+     */
+    public EmployeeSnapshot toSnapshot() {
+        EmployeeSnapshot.Builder builder = new EmployeeSnapshot.Builder(rows);
+        JobDictionary jobs = JobDictionary.getInstance();
+        for (int row = 0; row < rows; row++) {
+            builder.add(new EmployeeRecord(employeeIdAt(row), stringAt(1, row), stringAt(2, row), stringAt(3, row),
+                                           stringAt(4, row), jobs.ordinal(stringAt(0, row)),
+                                           buffer.getLong(salaryOffset + 8 * row)));
+        }
+        return builder.build(watermark);
+    }
+
+    private int employeeIdAt(int row) {
+        return buffer.getInt(HEADER_SIZE + 4 * row);
+    }
+
+    private Employee employeeAt(int row) {
+        long cents = buffer.getLong(salaryOffset + 8 * row);
+        JobDictionary jobs = JobDictionary.getInstance();
+        return new Employee(employeeIdAt(row), stringAt(1, row), stringAt(2, row), stringAt(3, row),
+                            stringAt(4, row), jobs.code(jobs.ordinal(stringAt(0, row))),
+                            cents == EmployeeRecord.NO_SALARY ? null : BigDecimal.valueOf(cents, 2));
+    }
+
+    private String stringAt(int column, int row) {
+        int index = buffer.getInt(stringColumnsOffset + 4 * (column * rows + row));
+        if (index == NO_STRING) {
+            return null;
+        }
+        int start = buffer.getInt(stringOffsetsOffset + 4 * index);
+        int end = buffer.getInt(stringOffsetsOffset + 4 * (index + 1));
+        byte[] bytes = new byte[end - start];
+        buffer.get(stringBytesOffset + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int intern(String value, Map<String, Integer> stringIndex, List<byte[]> strings) {
+        if (value == null) {
+            return NO_STRING;
+        }
+        Integer index = stringIndex.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.add(value.getBytes(StandardCharsets.UTF_8));
+            stringIndex.put(value, index);
+        }
+        return index;
+    }
+
+    // Read-only view decoding rows on access
+    private final class EmployeeList extends AbstractList<Employee> implements RandomAccess {
+        @Override
+        public Employee get(int index) {
+            if (index < 0 || index >= rows) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + rows);
+            }
+            return employeeAt(index);
+        }
+
+        @Override
+        public int size() {
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.hrapp.jdbc.samples.config.ConnectionFactory;
+import com.hrapp.jdbc.samples.config.DatabaseConfig;
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+
+/**
+ * Keeps an {@link EmployeeSnapshot} of hr.employees current.
+ *
+ * The first refresh reads the whole table. Later refreshes only read the
+ * rows whose updated_at (maintained by the V4 trigger) is newer than the
+ * snapshot's watermark and merge them in. The lookback is widened by an
+ * overlap window, because updated_at is the start time of the writing
+ * transaction and a long transaction may commit after newer ones; rows
+ * read twice are simply replaced.
+ *
+ * Deleted rows leave no updated_at behind. After merging, the snapshot
+ * contains every row in the table plus any deleted rows, so it is larger
+ * than the table exactly when something was deleted; in that case (and if
+ * the counts disagree for any other reason) the snapshot is reloaded in
+ * full.
+ *
+ * getSnapshot() refreshes at most once per refresh interval. One caller
+ * refreshes while the others keep reading the previous snapshot, so
+ * analytical reads see data that is at most one interval old.
+ *
+ * @author HR Application Team
+ */
+public class EmployeeSnapshotLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(EmployeeSnapshotLoader.class.getName());
+
+    // Default configuration values
+    public static final long DEFAULT_REFRESH_MILLIS = 30000;
+    public static final long DEFAULT_OVERLAP_SECONDS = 60;
+
+    private static final String COLUMNS =
+        "employee_id, first_name, last_name, email, phone_number, job_id, salary, updated_at";
+
+    private static final String FULL_SQL =
+        "SELECT " + COLUMNS + " FROM employees ORDER BY employee_id";
+
+    private static final String DELTA_SQL =
+        "SELECT " + COLUMNS + " FROM employees WHERE updated_at > ? ORDER BY employee_id";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM employees";
+
+    private final ConnectionFactory connectionFactory;
+    private final long refreshMillis;
+    private final long overlapMillis;
+    private final LongSupplier clock;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile EmployeeSnapshot snapshot = EmployeeSnapshot.EMPTY;
+    private volatile long refreshedAt;
+    private volatile boolean attempted;
+    private volatile boolean loaded;
+    // Saved snapshot that has not been decoded yet; guarded by refreshLock
+    private Supplier<EmployeeSnapshot> pendingSeed;
+
+    private final LongAdder fullLoads = new LongAdder();
+    private final LongAdder deltaLoads = new LongAdder();
+    private final LongAdder deltaRows = new LongAdder();
+
+    /**
+     * Create a loader with the default refresh interval and overlap
+     *
+     * @param connectionFactory Connection factory for employee reads
+     */
+    public EmployeeSnapshotLoader(ConnectionFactory connectionFactory) {
+        this(connectionFactory, DEFAULT_REFRESH_MILLIS, DEFAULT_OVERLAP_SECONDS * 1000);
+    }
+
+    /**
+     * Create a loader
+     *
+     * @param connectionFactory Connection factory for employee reads
+     * @param refreshMillis Minimum time between refreshes in milliseconds
+     * @param overlapMillis How far before the watermark changed rows are looked for, in milliseconds
+     */
+    public EmployeeSnapshotLoader(ConnectionFactory connectionFactory, long refreshMillis, long overlapMillis) {
+        this(connectionFactory, refreshMillis, overlapMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Create a loader with a custom clock (for testing)
+     */
+    EmployeeSnapshotLoader(ConnectionFactory connectionFactory, long refreshMillis, long overlapMillis,
+                           LongSupplier clock) {
+        this.connectionFactory = connectionFactory;
+        this.refreshMillis = Math.max(0, refreshMillis);
+        this.overlapMillis = Math.max(0, overlapMillis);
+        this.clock = clock;
+    }
+
+    /**
+     * Create a loader configured from app.snapshot.* properties
+     *
+     * @param connectionFactory Connection factory for employee reads
+     * @param config Database configuration
+     * @return Configured loader
+     */
+    public static EmployeeSnapshotLoader fromConfig(ConnectionFactory connectionFactory, DatabaseConfig config) {
+        return new EmployeeSnapshotLoader(connectionFactory,
+            config.getLongProperty("app.snapshot.refreshMillis", DEFAULT_REFRESH_MILLIS),
+            config.getLongProperty("app.snapshot.overlapSeconds", DEFAULT_OVERLAP_SECONDS) * 1000);
+    }
+
+    /**
+     * Get the current snapshot, refreshing it first if it is older than the refresh interval.
+     * The first call waits for the initial load; later calls never wait for a refresh that
+     * another thread is running. If the database is not available the previous snapshot
+     * (empty before the first successful load) is returned.
+     *
+     * @return Current snapshot
+     */
+    public EmployeeSnapshot getSnapshot() {
+        if (!isRefreshDue()) {
+            return snapshot;
+        }
+        if (loaded) {
+            if (!refreshLock.tryLock()) {
+                return snapshot;
+            }
+        } else {
+            refreshLock.lock();
+        }
+        try {
+            // Another thread may have refreshed while this one waited for the lock
+            if (isRefreshDue()) {
+                try {
+                    refresh();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Employee snapshot refresh failed, serving previous snapshot: " +
+                               e.getMessage(), e);
+                    // Until the database answers, serve the saved snapshot if there is one
+                    decodeSeed();
+                }
+            }
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Start from a previously saved snapshot instead of an empty one (warm
+     * start). The saved snapshot is decoded only when it is first needed:
+     * by the first refresh that reaches the database, which then only reads
+     * rows changed since its watermark, or by getSnapshot() while the
+     * database is unavailable. Ignored once the loader has loaded from the
+     * database.
+     *
+     * @param saved Decodes the snapshot restored from a snapshot file
+     */
+    public void seed(Supplier<EmployeeSnapshot> saved) {
+        refreshLock.lock();
+        try {
+            if (!loaded) {
+                pendingSeed = saved;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Bring the snapshot up to date now. A failed refresh is retried by
+     * getSnapshot() after the refresh interval.
+     *
+     * @return Refreshed snapshot
+     * @throws SQLException if the database cannot be read; the previous snapshot is kept
+     */
+    public EmployeeSnapshot refresh() throws SQLException {
+        refreshLock.lock();
+        long startedAt = clock.getAsLong();
+        try {
+            EmployeeSnapshot next = loaded || pendingSeed != null ? loadDelta() : null;
+            if (next == null) {
+                next = loadFull();
+            }
+            snapshot = next;
+            loaded = true;
+            return next;
+        } finally {
+            refreshedAt = startedAt;
+            attempted = true;
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Get refresh statistics
+     *
+     * @return Statistics string
+     */
+    public String getStats() {
+        EmployeeSnapshot current = snapshot;
+        return String.format("Employee snapshot: rows=%d, names=%d, fullLoads=%d, deltaLoads=%d, deltaRows=%d",
+                             current.size(), current.getNameCount(), fullLoads.sum(), deltaLoads.sum(),
+                             deltaRows.sum());
+    }
+
+    long getFullLoadCount() {
+        return fullLoads.sum();
+    }
+
+    long getDeltaLoadCount() {
+        return deltaLoads.sum();
+    }
+
+    private boolean isRefreshDue() {
+        return !attempted || clock.getAsLong() - refreshedAt >= refreshMillis;
+    }
+
+    private EmployeeSnapshot loadFull() throws SQLException {
+        try (Connection connection = connectionFactory.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(FULL_SQL)) {
+
+            EmployeeSnapshot.Builder builder = new EmployeeSnapshot.Builder(1024);
+            RowMapper<EmployeeRecord> mapper = EmployeeRowMapper.forResultSet(resultSet);
+            long watermark = EmployeeSnapshot.NO_WATERMARK;
+            while (resultSet.next()) {
+                builder.add(mapper.mapRow(resultSet));
+                watermark = Math.max(watermark, updatedAt(resultSet));
+            }
+
+            fullLoads.increment();
+            LOGGER.info("Loaded employee snapshot with " + builder.size() + " rows");
+            return builder.build(watermark);
+        }
+    }
+
+    // Decode a pending seed into the current snapshot; called with refreshLock held
+    private void decodeSeed() {
+        Supplier<EmployeeSnapshot> saved = pendingSeed;
+        if (saved == null) {
+            return;
+        }
+        pendingSeed = null;
+        try {
+            snapshot = saved.get();
+            loaded = true;
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Ignoring unreadable saved employee snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    // Returns null if the merged snapshot does not match the table and a full load is needed
+    private EmployeeSnapshot loadDelta() throws SQLException {
+        try (Connection connection = connectionFactory.getConnection()) {
+            // A saved snapshot is only worth decoding once the database answers
+            decodeSeed();
+            EmployeeSnapshot current = snapshot;
+            List<EmployeeRecord> changed = new ArrayList<>();
+            long watermark = current.getWatermark();
+            long since = watermark == EmployeeSnapshot.NO_WATERMARK ? 0 : watermark - overlapMillis;
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(DELTA_SQL)) {
+                preparedStatement.setTimestamp(1, new Timestamp(since));
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    RowMapper<EmployeeRecord> mapper = EmployeeRowMapper.forResultSet(resultSet);
+                    while (resultSet.next()) {
+                        changed.add(mapper.mapRow(resultSet));
+                        watermark = Math.max(watermark, updatedAt(resultSet));
+                    }
+                }
+            }
+
+            long tableRows;
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(COUNT_SQL)) {
+                tableRows = resultSet.next() ? resultSet.getLong(1) : -1;
+            }
+
+            EmployeeSnapshot merged = changed.isEmpty() ? current : current.merge(changed, watermark);
+            if (merged.size() != tableRows) {
+                LOGGER.fine("Employee snapshot has " + merged.size() + " rows, table has " + tableRows +
+                            "; reloading in full");
+                return null;
+            }
+            deltaLoads.increment();
+            deltaRows.add(changed.size());
+            return merged;
+        }
+    }
+
+    private static long updatedAt(ResultSet resultSet) throws SQLException {
+        Timestamp updatedAt = resultSet.getTimestamp(8);
+        return updatedAt != null ? updatedAt.getTime() : EmployeeSnapshot.NO_WATERMARK;
+    }
+}
@@ -0,0 +1,242 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.hrapp.jdbc.samples.config.ConnectionFactory;
+import com.hrapp.jdbc.samples.config.DatabaseConfig;
+
+/**
+ * Last-known-good copy of the employee table on local disk.
+ *
+ * On start the snapshot file of the previous run is memory-mapped, so it
+ * can answer reads as soon as the application is up, and it seeds the
+ * {@link EmployeeSnapshotLoader} so that its first refresh only reads the
+ * rows changed since. The loader decodes the file into heap only when it
+ * first needs the rows, not at startup. A daemon thread then refreshes the
+ * loader on a fixed schedule and rewrites the file whenever the snapshot
+ * changed (or only its taken-at time when it did not).
+ *
+ * The shared instance is stopped by the ApplicationLifecycleListener when
+ * the application is undeployed.
+ *
+ * JdbcBeanImpl serves reads from the mapped file while the database is
+ * unavailable; {@link #getAgeMillis()} tells clients how old that data is.
+ *
+ * @author HR Application Team
+ */
+public class EmployeeSnapshotStore {
+
+    private static final Logger LOGGER = Logger.getLogger(EmployeeSnapshotStore.class.getName());
+
+    // Default configuration values
+    public static final String DEFAULT_FILE = "data/employees.snapshot";
+
+    private static volatile EmployeeSnapshotStore instance;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private final Path file;
+    private final EmployeeSnapshotLoader loader;
+    private final long intervalMillis;
+    private final LongSupplier clock;
+
+    private volatile EmployeeSnapshotFile mapped;
+    private volatile long takenAt;
+    private volatile EmployeeSnapshot written;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Create a snapshot store
+     *
+     * @param file Snapshot file, or null to keep no file (nothing to serve during outages)
+     * @param loader Loader that keeps the in-memory snapshot current
+     * @param intervalMillis Time between refreshes of the file in milliseconds
+     */
+    public EmployeeSnapshotStore(Path file, EmployeeSnapshotLoader loader, long intervalMillis) {
+        this(file, loader, intervalMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Create a snapshot store with a custom clock (for testing)
+     */
+    EmployeeSnapshotStore(Path file, EmployeeSnapshotLoader loader, long intervalMillis, LongSupplier clock) {
+        this.file = file;
+        this.loader = loader;
+        this.intervalMillis = Math.max(1000, intervalMillis);
+        this.clock = clock;
+    }
+
+    /**
+     * Create a snapshot store configured from app.snapshot.* properties.
+     * An empty app.snapshot.file disables the file.
+     *
+     * @param connectionFactory Connection factory for employee reads
+     * @param config Database configuration
+     * @return Configured store (not started)
+     */
+    public static EmployeeSnapshotStore fromConfig(ConnectionFactory connectionFactory, DatabaseConfig config) {
+        String fileName = config.getProperty("app.snapshot.file", DEFAULT_FILE).trim();
+        EmployeeSnapshotLoader loader = EmployeeSnapshotLoader.fromConfig(connectionFactory, config);
+        return new EmployeeSnapshotStore(fileName.isEmpty() ? null : Paths.get(fileName), loader,
+            config.getLongProperty("app.snapshot.refreshMillis", EmployeeSnapshotLoader.DEFAULT_REFRESH_MILLIS));
+    }
+
+    /**
+     * Get the store shared by the application, starting it on first use
+     *
+     * @return Started EmployeeSnapshotStore
+     */
+    public static EmployeeSnapshotStore getInstance() {
+        if (instance == null) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    EmployeeSnapshotStore store = fromConfig(ConnectionFactory.getReadInstance(),
+                                                             DatabaseConfig.getInstance());
+                    store.start();
+                    instance = store;
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the shared store only if it has already been created.
+     * Unlike getInstance(), this never creates or starts it.
+     *
+     * @return Shared store, or null if not yet created
+     */
+    public static EmployeeSnapshotStore getInstanceIfInitialized() {
+        return instance;
+    }
+
+    /**
+     * Map the snapshot file of the previous run and start refreshing it in the background
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        open();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HRApp-EmployeeSnapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::persist, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        LOGGER.info("Employee snapshot store started, file " + file + ", refresh interval " + intervalMillis + " ms");
+    }
+
+    /**
+     * Stop refreshing. A file write in progress is allowed to finish.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                    scheduler.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                scheduler.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            scheduler = null;
+            LOGGER.info("Employee snapshot store stopped");
+        }
+    }
+
+    /**
+     * Map an existing snapshot file and seed the loader with it
+     */
+    void open() {
+        if (file == null || !Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            EmployeeSnapshotFile existing = EmployeeSnapshotFile.map(file);
+            takenAt = existing.getTakenAt();
+            mapped = existing;
+            loader.seed(() -> {
+                EmployeeSnapshot saved = existing.toSnapshot();
+                // Lets the first refresh only touch the file if nothing changed since
+                written = saved;
+                return saved;
+            });
+            LOGGER.info("Mapped employee snapshot with " + existing.size() + " rows, taken " +
+                        (clock.getAsLong() - takenAt) / 1000 + " s ago");
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Ignoring unreadable employee snapshot file " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Refresh the loader and bring the snapshot file up to date. Failures are
+     * logged; the previous file stays mapped.
+     */
+    void persist() {
+        EmployeeSnapshot snapshot;
+        long refreshedAt = clock.getAsLong();
+        try {
+            snapshot = loader.refresh();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Employee snapshot not refreshed, database unavailable: " + e.getMessage(), e);
+            return;
+        }
+        if (file == null) {
+            return;
+        }
+        try {
+            if (snapshot == written && mapped != null) {
+                EmployeeSnapshotFile.touch(file, refreshedAt);
+            } else {
+                EmployeeSnapshotFile.write(snapshot, refreshedAt, file);
+                mapped = EmployeeSnapshotFile.map(file);
+                written = snapshot;
+            }
+            takenAt = refreshedAt;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to write employee snapshot file " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the mapped last-known-good snapshot
+     *
+     * @return Mapped snapshot file, or null if there is none
+     */
+    public EmployeeSnapshotFile getFile() {
+        return mapped;
+    }
+
+    /**
+     * Get the loader that keeps the in-memory columnar snapshot current
+     *
+     * @return Snapshot loader
+     */
+    public EmployeeSnapshotLoader getLoader() {
+        return loader;
+    }
+
+    /**
+     * Get the time since the mapped snapshot was last known to match the database
+     *
+     * @return Age in milliseconds, or -1 if there is no snapshot file
+     */
+    public long getAgeMillis() {
+        return mapped == null ? -1 : Math.max(0, clock.getAsLong() - takenAt);
+    }
+}
@@ -0,0 +1,74 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk employee import.
+ *
+ * Valid rows are inserted and invalid rows are skipped. Rejected rows are
+ * reported by their record number in the input (the first data row after
+ * the header is record 1), up to a fixed limit so that a completely broken
+ * file cannot exhaust memory; {@link #getRejectedCount()} always holds the
+ * full count.
+ *
+ * @author HR Application Team
+ */
+public class ImportResult {
+
+    private final long importedCount;
+    private final long rejectedCount;
+    private final List<Rejection> rejections;
+
+    public ImportResult(long importedCount, long rejectedCount, List<Rejection> rejections) {
+        this.importedCount = importedCount;
+        this.rejectedCount = rejectedCount;
+        this.rejections = Collections.unmodifiableList(rejections);
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Get the reported rejections, ordered by record number
+     *
+     * @return Rejected rows (may be fewer than getRejectedCount())
+     */
+    public List<Rejection> getRejections() {
+        return rejections;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImportResult{imported=%d, rejected=%d}", importedCount, rejectedCount);
+    }
+
+    /**
+     * A rejected input row
+     */
+    public static class Rejection {
+        private final long recordNumber;
+        private final String email;
+        private final String reason;
+
+        public Rejection(long recordNumber, String email, String reason) {
+            this.recordNumber = recordNumber;
+            this.email = email;
+            this.reason = reason;
+        }
+
+        public long getRecordNumber() { return recordNumber; }
+        public String getEmail() { return email; }
+        public String getReason() { return reason; }
+
+        @Override
+        public String toString() {
+            return String.format("Rejection{record=%d, email='%s', reason='%s'}", recordNumber, email, reason);
+        }
+    }
+}
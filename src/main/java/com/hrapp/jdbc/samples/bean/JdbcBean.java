@@ -9,8 +9,14 @@
  */
 package com.hrapp.jdbc.samples.bean;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeField;
 
 /**
  * Interface defining database operations for Employee management.
@@ -31,6 +37,64 @@ public interface JdbcBean {
      */
     public List<Employee> getEmployees();
 
+    /**
+     * Get one page of employees ordered by employee ID (keyset pagination).
+     * 
+     * Each page is read as a bounded range scan on the primary key starting
+     * after the given employee ID, so the cost of a page does not depend on
+     * how far into the table it is.
+     * 
+     * @param afterId Return employees with an ID greater than this (0 for the first page)
+     * @param limit Maximum number of employees on the page
+     * @return Page of employees with a token for the next page
+     * @throws IllegalArgumentException if limit is not positive
+     * @throws RuntimeException if database operation fails
+     */
+    public EmployeePage getEmployees(int afterId, int limit);
+
+    /**
+     * Get one page of employees addressed by an opaque page token.
+     * 
+     * @param pageToken Token from {@link EmployeePage#getNextPageToken()}, or null for the first page
+     * @param limit Maximum number of employees on the page
+     * @return Page of employees with a token for the next page
+     * @throws IllegalArgumentException if the token is malformed or limit is not positive
+     * @throws RuntimeException if database operation fails
+     */
+    public EmployeePage getEmployees(String pageToken, int limit);
+
+    /**
+     * Get one page of employees with only the selected fields (keyset pagination).
+     * 
+     * Only the selected columns are read from the database; employee_id is
+     * always read as well, since it is the page cursor.
+     * 
+     * @param fn First name prefix to filter by, or null for all employees
+     * @param pageToken Token from {@link EmployeePage#getNextPageToken()}, or null for the first page
+     * @param limit Maximum number of employees to return (capped by the implementation)
+     * @param fields Fields to select
+     * @return Page of partially populated employees ordered by employee ID
+     * @throws IllegalArgumentException if the token is malformed or limit is not positive
+     */
+    public EmployeePage getEmployees(String fn, String pageToken, int limit, Set<EmployeeField> fields);
+
+    /**
+     * Stream employees to a handler one row at a time, without building a list.
+     * 
+     * The query runs in a read-only transaction with a bounded fetch size, so the
+     * driver holds at most one fetch batch in memory regardless of how many rows
+     * match. Rows are passed to the handler as they are read. Rows served from
+     * the snapshot file during an outage are announced to the handler with
+     * {@link EmployeeHandler#fromSnapshot(long)} before the first one.
+     * 
+     * @param fn First name prefix to filter by, or null for all employees
+     * @param handler Handler that receives each employee in order
+     * @return Number of employees passed to the handler
+     * @throws IOException if the handler fails (e.g. the client disconnected)
+     * @throws RuntimeException if database operation fails after streaming started
+     */
+    public int streamEmployees(String fn, EmployeeHandler handler) throws IOException;
+
     /**
      * Get List of employee based on empId. This will always return one row
      * but returning a List to make signatures consistent with other methods.
@@ -41,6 +105,31 @@ public interface JdbcBean {
      */
     public List<Employee> getEmployee(int empId);
 
+    /**
+     * Get several employees by ID in one query.
+     * 
+     * The IDs are sent as a single array parameter (employee_id = ANY(?)),
+     * so the cost is one round trip and one connection checkout however
+     * many employees are requested. Employees are returned in the order of
+     * the first occurrence of their ID; IDs with no employee are skipped.
+     * 
+     * @param empIds Employee IDs to look up (duplicates are returned once)
+     * @return Employees found, in request order
+     * @throws IllegalArgumentException if more than the maximum page size of IDs is given
+     * @throws RuntimeException if database operation fails
+     */
+    public List<Employee> getEmployees(int[] empIds);
+
+    /**
+     * Get an employee with only the selected fields. Fields outside the
+     * projection may be left null.
+     * 
+     * @param empId Employee ID to search for
+     * @param fields Fields to select
+     * @return List containing the employee with the specified ID, empty list if not found
+     */
+    public List<Employee> getEmployee(int empId, Set<EmployeeField> fields);
+
     /**
      * Update employee based on employee-id. Returns the updated record.
      * 
@@ -113,6 +202,97 @@ public interface JdbcBean {
      */
     public Employee updateEmployee(Employee employee);
 
+    /**
+     * Update only the given fields of an employee in a single statement.
+     * 
+     * Fields that are not in the map keep their current values, so
+     * concurrent partial updates of different fields do not overwrite each
+     * other.
+     * 
+     * @param empId Employee ID to update
+     * @param values New values by field (String for text fields, BigDecimal for salary, null to clear)
+     * @return The updated employee, or null if no employee has this ID
+     * @throws IllegalArgumentException if values is empty or contains the employee ID
+     * @throws RuntimeException if database operation fails
+     */
+    public Employee patchEmployee(int empId, Map<EmployeeField, Object> values);
+
+    /**
+     * Create several employee records in one transaction using JDBC batching.
+     * 
+     * Rows are sent to the server in batches (see app.batch.size) and, with
+     * pgjdbc's reWriteBatchedInserts, as multi-row INSERT statements. If any
+     * row fails, the whole transaction is rolled back.
+     * 
+     * @param employees Employees to insert (employee IDs are ignored)
+     * @return Per-row outcomes, in input order
+     */
+    public BatchResult createEmployees(List<Employee> employees);
+
+    /**
+     * Update several employee records in one transaction using JDBC batching.
+     * 
+     * Rows whose ID does not exist are reported as NOT_FOUND. If any row fails,
+     * the whole transaction is rolled back.
+     * 
+     * @param employees Employees containing updated data (each must have a valid ID)
+     * @return Per-row outcomes, in input order
+     * @throws IllegalArgumentException if an employee has no ID
+     */
+    public BatchResult updateEmployees(List<Employee> employees);
+
+    /**
+     * Delete several employee records in one transaction using JDBC batching.
+     * 
+     * IDs that do not exist are reported as NOT_FOUND. If any row fails,
+     * the whole transaction is rolled back.
+     * 
+     * @param empIds Employee IDs to delete
+     * @return Per-row outcomes, in input order
+     */
+    public BatchResult deleteEmployees(int[] empIds);
+
+    /**
+     * Bulk import employees from CSV using PostgreSQL COPY.
+     * 
+     * Rows are staged and validated against the employees table constraints;
+     * valid rows are inserted and invalid rows are reported. Memory use does
+     * not depend on the size of the input.
+     * 
+     * @param csv CSV with header row: first_name,last_name,email,phone_number,job_id,salary
+     * @return Number of imported rows and the rejected rows with reasons
+     * @throws IOException if reading the input fails
+     * @throws RuntimeException if database operation fails (nothing is imported)
+     */
+    public ImportResult importEmployees(Reader csv) throws IOException;
+
+    /**
+     * Export employees as CSV using PostgreSQL COPY TO STDOUT.
+     * 
+     * The bytes produced by the server are written straight to the stream;
+     * no Employee objects are created and nothing is buffered beyond the
+     * driver's network buffer.
+     * 
+     * @param fields Columns to export, in declaration order of {@link EmployeeField}
+     * @param out Stream to write the CSV (with header row) to; not closed
+     * @return Number of exported rows
+     * @throws IOException if writing to the stream fails (the export is cancelled)
+     * @throws RuntimeException if database operation fails
+     */
+    public long exportEmployees(Set<EmployeeField> fields, OutputStream out) throws IOException;
+
+    /**
+     * Get the current version of the employees table.
+     *
+     * The version is a counter bumped by a trigger on every write statement,
+     * so it is a single primary key lookup and changes whenever any employee
+     * data changes. Read it before the data it describes: a response tagged
+     * with an older version is at worst revalidated once more.
+     *
+     * @return Table version, or -1 if it cannot be determined (e.g. database unavailable)
+     */
+    public long getDataVersion();
+
     /**
      * Check if the database connection is healthy and available.
      * 
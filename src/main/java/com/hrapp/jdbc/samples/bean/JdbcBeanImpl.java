@@ -1,18 +1,32 @@
 package com.hrapp.jdbc.samples.bean;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.hrapp.jdbc.samples.config.ConnectionFactory;
+import com.hrapp.jdbc.samples.config.DatabaseConfig;
 import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeField;
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+import com.hrapp.jdbc.samples.entity.JobDictionary;
 
 /**
  * PostgreSQL-compatible implementation of the JdbcBean interface.
@@ -24,6 +38,12 @@ import com.hrapp.jdbc.samples.entity.Employee;
  * - PostgreSQL function calls instead of Oracle stored procedures
  * - Enhanced error handling with fallback mechanisms
  * - Modern Java practices with proper resource management
+ * - Bounded read-through cache for employee lookups, invalidated on writes
+ * - Employee reads routed to the read replica connection factory
+ * - Trigger-maintained table version for conditional (ETag) requests
+ * - Job codes held as JobDictionary ordinals, loaded from the hr.jobs catalog
+ * - Columnar employee snapshot for count/sum/filter/top-K reporting queries
+ * - Memory-mapped last-known-good snapshot file served while the database is unavailable
  * 
  * @author HR Application Team (migrated from Oracle implementation)
  */
@@ -34,65 +54,317 @@ public class JdbcBeanImpl implements JdbcBean {
     // Connection factory for database access
     private final ConnectionFactory connectionFactory;
     
-    // Sample data for fallback when database is unavailable
+    // Connection factory for employee reads (may route to a read replica)
+    private final ConnectionFactory readConnectionFactory;
+    
+    // Read-through cache for getEmployee/getEmployees
+    private final EmployeeCache employeeCache;
+    
+    // Columnar snapshot for analytical reads, refreshed incrementally
+    private EmployeeSnapshotLoader snapshotLoader;
+    
+    // Last-known-good snapshot file served during outages; null with the constructors for testing
+    private EmployeeSnapshotStore snapshotStore;
+    
+    // Fetch size used by streamEmployees
+    private int streamFetchSize = DEFAULT_STREAM_FETCH_SIZE;
+    
+    // Batch size used by createEmployees/updateEmployees/deleteEmployees
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    
+    // Last table version seen by getDataVersion
+    private final AtomicLong lastDataVersion = new AtomicLong(VERSION_UNKNOWN);
+    
+    // Upper bound for a single keyset page
+    public static final int MAX_PAGE_SIZE = 1000;
+    
+    // Rows fetched per round trip when streaming
+    public static final int DEFAULT_STREAM_FETCH_SIZE = 500;
+    
+    // Rows sent per executeBatch() call
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    
+    // Returned by getDataVersion when the database cannot be reached
+    public static final long VERSION_UNKNOWN = -1;
+    
+    // Built-in sample data, the outage fallback when there is no snapshot store (constructors for testing)
     private static final List<Employee> SAMPLE_EMPLOYEES = createSampleEmployees();
     
     /**
      * Default constructor using singleton ConnectionFactory
      */
     public JdbcBeanImpl() {
-        this.connectionFactory = ConnectionFactory.getInstance();
+        this(ConnectionFactory.getInstance(), ConnectionFactory.getReadInstance(),
+             createEmployeeCache(DatabaseConfig.getInstance()));
+        setStreamFetchSize(DatabaseConfig.getInstance().getIntProperty("app.stream.fetchSize", DEFAULT_STREAM_FETCH_SIZE));
+        setBatchSize(DatabaseConfig.getInstance().getIntProperty("app.batch.size", DEFAULT_BATCH_SIZE));
+        snapshotStore = EmployeeSnapshotStore.getInstance();
+        snapshotLoader = snapshotStore.getLoader();
+        loadJobCatalog();
     }
     
     /**
-     * Constructor with custom ConnectionFactory (for testing)
+     * Constructor with custom ConnectionFactory (for testing).
+     * Caching is disabled so that every call reaches the connection factory.
      * 
      * @param connectionFactory Custom connection factory
      */
     public JdbcBeanImpl(ConnectionFactory connectionFactory) {
+        this(connectionFactory, EmployeeCache.disabled());
+    }
+    
+    /**
+     * Constructor with custom ConnectionFactory and employee cache
+     * 
+     * @param connectionFactory Custom connection factory
+     * @param employeeCache Cache used for employee reads
+     */
+    public JdbcBeanImpl(ConnectionFactory connectionFactory, EmployeeCache employeeCache) {
+        this(connectionFactory, connectionFactory, employeeCache);
+    }
+    
+    /**
+     * Constructor with separate connection factories for writes and reads
+     * 
+     * @param connectionFactory Connection factory for writes (primary)
+     * @param readConnectionFactory Connection factory for employee reads
+     * @param employeeCache Cache used for employee reads
+     */
+    public JdbcBeanImpl(ConnectionFactory connectionFactory, ConnectionFactory readConnectionFactory,
+                        EmployeeCache employeeCache) {
         this.connectionFactory = connectionFactory;
+        this.readConnectionFactory = readConnectionFactory;
+        this.employeeCache = employeeCache;
+        this.snapshotLoader = new EmployeeSnapshotLoader(readConnectionFactory);
+    }
+    
+    private static EmployeeCache createEmployeeCache(DatabaseConfig config) {
+        if (!config.getBooleanProperty("app.cache.enabled", true)) {
+            return EmployeeCache.disabled();
+        }
+        return new EmployeeCache(
+            config.getIntProperty("app.cache.maxSize", EmployeeCache.DEFAULT_MAX_SIZE),
+            config.getLongProperty("app.cache.ttl", EmployeeCache.DEFAULT_TTL_SECONDS) * 1000
+        );
     }
     
     @Override
     public List<Employee> getEmployees() {
-        List<Employee> employees = new ArrayList<>();
+        List<EmployeeRecord> cached = employeeCache.getAllRecords();
+        if (cached != null) {
+            return toEmployees(cached);
+        }
+        long readGeneration = employeeCache.generation();
+        List<EmployeeRecord> records = new ArrayList<>();
         
         String sql = "SELECT employee_id, first_name, last_name, email, phone_number, job_id, salary " +
                     "FROM employees ORDER BY employee_id";
         
-        try (Connection connection = connectionFactory.getConnection();
+        try (Connection connection = readConnectionFactory.getConnection();
              Statement statement = connection.createStatement();
              ResultSet resultSet = statement.executeQuery(sql)) {
             
+            RowMapper<EmployeeRecord> mapper = EmployeeRowMapper.forResultSet(resultSet);
             while (resultSet.next()) {
-                employees.add(new Employee(resultSet));
+                records.add(mapper.mapRow(resultSet));
             }
             
-            LOGGER.info("Retrieved " + employees.size() + " employees from database");
+            LOGGER.info("Retrieved " + records.size() + " employees from database");
+            if (!readConnectionFactory.isReplicaCatchingUp()) {
+                employeeCache.putAllRecords(records, readGeneration);
+            }
             
         } catch (SQLException e) {
-            LOGGER.log(Level.WARNING, "Database not available, returning sample data: " + e.getMessage(), e);
-            return new ArrayList<>(SAMPLE_EMPLOYEES);
+            LOGGER.log(Level.WARNING, "Database not available, returning fallback data: " + e.getMessage(), e);
+            return fromSnapshot(new ArrayList<>(fallbackEmployees()));
         }
         
-        return employees;
+        return toEmployees(records);
+    }
+    
+    @Override
+    public EmployeePage getEmployees(int afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        List<Employee> employees = new ArrayList<>(pageSize);
+        boolean fallback = false;
+        
+        // Fetch one extra row to find out whether another page follows
+        String sql = "SELECT employee_id, first_name, last_name, email, phone_number, job_id, salary " +
+                    "FROM employees WHERE employee_id > ? ORDER BY employee_id LIMIT ?";
+        
+        try (Connection connection = readConnectionFactory.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            
+            preparedStatement.setInt(1, afterId);
+            preparedStatement.setInt(2, pageSize + 1);
+            
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                RowMapper<Employee> mapper = EmployeeRowMapper.forResultSet(resultSet).employees();
+                while (resultSet.next()) {
+                    employees.add(mapper.mapRow(resultSet));
+                }
+            }
+            
+            LOGGER.info("Retrieved page of " + Math.min(employees.size(), pageSize) + " employees after ID: " + afterId);
+            
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Database not available, returning fallback data page after ID " + afterId + ": " + e.getMessage(), e);
+            employees = getFallbackEmployeesAfter(afterId, pageSize + 1);
+            fallback = true;
+        }
+        
+        boolean hasMore = employees.size() > pageSize;
+        if (hasMore) {
+            employees.remove(pageSize);
+        }
+        return new EmployeePage(fallback ? fromSnapshot(employees) : employees, hasMore);
+    }
+    
+    @Override
+    public EmployeePage getEmployees(String pageToken, int limit) {
+        return getEmployees(EmployeePage.decodeToken(pageToken), limit);
+    }
+    
+    @Override
+    public EmployeePage getEmployees(String fn, String pageToken, int limit, Set<EmployeeField> fields) {
+        int afterId = EmployeePage.decodeToken(pageToken);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        Set<EmployeeField> selected = withEmployeeId(fields);
+        List<Employee> employees = new ArrayList<>(pageSize);
+        boolean fallback = false;
+        
+        // Fetch one extra row to find out whether another page follows
+        String sql = "SELECT " + EmployeeField.columnList(selected) + " FROM employees WHERE employee_id > ?" +
+                    (fn != null ? " AND first_name ILIKE ?" : "") + " ORDER BY employee_id LIMIT ?";
+        
+        try (Connection connection = readConnectionFactory.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            
+            int index = 1;
+            preparedStatement.setInt(index++, afterId);
+            if (fn != null) {
+                preparedStatement.setString(index++, fn + "%");
+            }
+            preparedStatement.setInt(index, pageSize + 1);
+            
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    employees.add(EmployeeField.map(resultSet, selected));
+                }
+            }
+            
+            LOGGER.info("Retrieved page of " + Math.min(employees.size(), pageSize) + " employees (" +
+                       selected.size() + " fields) after ID: " + afterId);
+            
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Database not available, returning fallback data page after ID " + afterId + ": " + e.getMessage(), e);
+            employees = new ArrayList<>();
+            for (Employee emp : fn != null ? getFallbackEmployeesByName(fn) : fallbackEmployees()) {
+                if (emp.getEmployeeId() > afterId && employees.size() <= pageSize) {
+                    employees.add(emp);
+                }
+            }
+            fallback = true;
+        }
+        
+        boolean hasMore = employees.size() > pageSize;
+        if (hasMore) {
+            employees.remove(pageSize);
+        }
+        return new EmployeePage(fallback ? fromSnapshot(employees) : employees, hasMore);
+    }
+    
+    @Override
+    public int streamEmployees(String fn, EmployeeHandler handler) throws IOException {
+        String sql = fn == null
+            ? "SELECT employee_id, first_name, last_name, email, phone_number, job_id, salary " +
+              "FROM employees ORDER BY employee_id"
+            : "SELECT employee_id, first_name, last_name, email, phone_number, job_id, salary " +
+              "FROM employees WHERE first_name ILIKE ? ORDER BY first_name, last_name";
+        
+        // pgjdbc only honours the fetch size (server-side cursor) with auto-commit off
+        Connection connection;
+        try {
+            connection = readConnectionFactory.getConnection(false);
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Database not available, streaming fallback data: " + e.getMessage(), e);
+            List<Employee> sample = fn == null ? fromSnapshot(fallbackEmployees()) : getFallbackEmployeesByName(fn);
+            long snapshotAge = SnapshotEmployeeList.snapshotAgeOf(sample);
+            if (snapshotAge >= 0) {
+                handler.fromSnapshot(snapshotAge);
+            }
+            for (Employee emp : sample) {
+                handler.handle(emp);
+            }
+            return sample.size();
+        }
+        
+        int count = 0;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            preparedStatement.setFetchSize(streamFetchSize);
+            if (fn != null) {
+                preparedStatement.setString(1, fn + "%");
+            }
+            
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                RowMapper<Employee> mapper = EmployeeRowMapper.forResultSet(resultSet).employees();
+                while (resultSet.next()) {
+                    handler.handle(mapper.mapRow(resultSet));
+                    count++;
+                }
+            }
+            
+            ConnectionFactory.commitTransaction(connection);
+            LOGGER.info("Streamed " + count + " employees" + (fn != null ? " with first name starting with: " + fn : ""));
+            return count;
+            
+        } catch (SQLException e) {
+            ConnectionFactory.rollbackTransaction(connection);
+            LOGGER.log(Level.SEVERE, "Streaming query failed after " + count + " employees", e);
+            throw new RuntimeException("Streaming operation failed: " + e.getMessage(), e);
+        } catch (IOException e) {
+            ConnectionFactory.rollbackTransaction(connection);
+            LOGGER.log(Level.WARNING, "Streaming aborted after " + count + " employees: " + e.getMessage());
+            throw e;
+        } finally {
+            ConnectionFactory.closeConnection(connection);
+        }
     }
     
     @Override
     public List<Employee> getEmployee(int empId) {
         List<Employee> employees = new ArrayList<>();
         
+        EmployeeRecord cached = employeeCache.getRecord(empId);
+        if (cached != null) {
+            employees.add(cached.toEmployee());
+            return employees;
+        }
+        long readGeneration = employeeCache.generation();
+        
         String sql = "SELECT employee_id, first_name, last_name, email, phone_number, job_id, salary " +
                     "FROM employees WHERE employee_id = ?";
         
-        try (Connection connection = connectionFactory.getConnection();
+        try (Connection connection = readConnectionFactory.getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             
             preparedStatement.setInt(1, empId);
             
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
-                    employees.add(new Employee(resultSet));
+                    EmployeeRecord record = EmployeeRowMapper.forResultSet(resultSet).mapRow(resultSet);
+                    employees.add(record.toEmployee());
+                    if (!readConnectionFactory.isReplicaCatchingUp()) {
+                        employeeCache.put(record, readGeneration);
+                    }
                     LOGGER.info("Retrieved employee with ID: " + empId);
                 } else {
                     LOGGER.info("No employee found with ID: " + empId);
@@ -100,8 +372,117 @@ public class JdbcBeanImpl implements JdbcBean {
             }
             
         } catch (SQLException e) {
-            LOGGER.log(Level.WARNING, "Database not available, returning sample data for ID " + empId + ": " + e.getMessage(), e);
-            return getSampleEmployeeById(empId);
+            LOGGER.log(Level.WARNING, "Database not available, returning fallback data for ID " + empId + ": " + e.getMessage(), e);
+            return getFallbackEmployeeById(empId);
+        }
+        
+        return employees;
+    }
+    
+    @Override
+    public List<Employee> getEmployees(int[] empIds) {
+        if (empIds.length > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_PAGE_SIZE + " IDs can be requested at once");
+        }
+        Set<Integer> requested = new LinkedHashSet<>();
+        for (int empId : empIds) {
+            requested.add(empId);
+        }
+        
+        // Cached rows are served directly; only the rest goes to the database
+        Map<Integer, EmployeeRecord> found = new HashMap<>();
+        boolean fallback = false;
+        List<Integer> uncached = new ArrayList<>();
+        for (Integer empId : requested) {
+            EmployeeRecord cached = employeeCache.getRecord(empId);
+            if (cached != null) {
+                found.put(empId, cached);
+            } else {
+                uncached.add(empId);
+            }
+        }
+        
+        if (!uncached.isEmpty()) {
+            long readGeneration = employeeCache.generation();
+            String sql = "SELECT employee_id, first_name, last_name, email, phone_number, job_id, salary " +
+                        "FROM employees WHERE employee_id = ANY(?)";
+            
+            try (Connection connection = readConnectionFactory.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                
+                Array idArray = connection.createArrayOf("integer", uncached.toArray());
+                try {
+                    preparedStatement.setArray(1, idArray);
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        RowMapper<EmployeeRecord> mapper = EmployeeRowMapper.forResultSet(resultSet);
+                        // Rows from a replica that may lag this node's writes are not cached
+                        boolean cacheable = !readConnectionFactory.isReplicaCatchingUp();
+                        while (resultSet.next()) {
+                            EmployeeRecord record = mapper.mapRow(resultSet);
+                            found.put(record.employeeId(), record);
+                            if (cacheable) {
+                                employeeCache.put(record, readGeneration);
+                            }
+                        }
+                    }
+                } finally {
+                    idArray.free();
+                }
+                
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Database not available, returning fallback data for " + uncached.size() +
+                          " IDs: " + e.getMessage(), e);
+                for (Integer empId : uncached) {
+                    for (Employee emp : getFallbackEmployeeById(empId)) {
+                        found.put(empId, EmployeeRecord.of(emp));
+                    }
+                }
+                fallback = true;
+            }
+        }
+        
+        List<Employee> employees = new ArrayList<>(found.size());
+        for (Integer empId : requested) {
+            EmployeeRecord record = found.get(empId);
+            if (record != null) {
+                employees.add(record.toEmployee());
+            }
+        }
+        LOGGER.info("Retrieved " + employees.size() + " of " + requested.size() + " requested employees");
+        return fallback ? fromSnapshot(employees) : employees;
+    }
+    
+    @Override
+    public List<Employee> getEmployee(int empId, Set<EmployeeField> fields) {
+        Set<EmployeeField> selected = withEmployeeId(fields);
+        if (selected.containsAll(EmployeeField.ALL)) {
+            return getEmployee(empId);
+        }
+        
+        // A cached full row serves any projection
+        List<Employee> employees = new ArrayList<>();
+        Employee cached = employeeCache.get(empId);
+        if (cached != null) {
+            employees.add(cached);
+            return employees;
+        }
+        
+        String sql = "SELECT " + EmployeeField.columnList(selected) + " FROM employees WHERE employee_id = ?";
+        
+        try (Connection connection = readConnectionFactory.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            
+            preparedStatement.setInt(1, empId);
+            
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    employees.add(EmployeeField.map(resultSet, selected));
+                }
+            }
+            
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Database not available, returning fallback data for ID " + empId + ": " + e.getMessage(), e);
+            return getFallbackEmployeeById(empId);
         }
         
         return employees;
@@ -126,6 +507,7 @@ public class JdbcBeanImpl implements JdbcBean {
                     LOGGER.warning("No employee found with ID: " + empId + " for update");
                     return null;
                 }
+                employeeCache.invalidate(empId);
             }
             
             // Retrieve the updated employee
@@ -134,7 +516,8 @@ public class JdbcBeanImpl implements JdbcBean {
                 
                 try (ResultSet resultSet = selectStmt.executeQuery()) {
                     if (resultSet.next()) {
-                        Employee updatedEmployee = new Employee(resultSet);
+                        Employee updatedEmployee = EmployeeRowMapper.forResultSet(resultSet).mapEmployee(resultSet);
+                        employeeCache.update(updatedEmployee);
                         LOGGER.info("Updated employee with ID: " + empId + ", new salary: " + updatedEmployee.getSalary());
                         return updatedEmployee;
                     }
@@ -142,8 +525,8 @@ public class JdbcBeanImpl implements JdbcBean {
             }
             
         } catch (SQLException e) {
-            LOGGER.log(Level.WARNING, "Database not available, returning sample updated data for ID " + empId + ": " + e.getMessage(), e);
-            return getSampleUpdatedEmployee(empId);
+            LOGGER.log(Level.SEVERE, "Failed to update employee with ID: " + empId, e);
+            throw new RuntimeException("Update operation failed: " + e.getMessage(), e);
         }
         
         return null;
@@ -156,22 +539,23 @@ public class JdbcBeanImpl implements JdbcBean {
         String sql = "SELECT employee_id, first_name, last_name, email, phone_number, job_id, salary " +
                     "FROM employees WHERE first_name ILIKE ? ORDER BY first_name, last_name";
         
-        try (Connection connection = connectionFactory.getConnection();
+        try (Connection connection = readConnectionFactory.getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             
             preparedStatement.setString(1, fn + "%");
             
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                RowMapper<Employee> mapper = EmployeeRowMapper.forResultSet(resultSet).employees();
                 while (resultSet.next()) {
-                    employees.add(new Employee(resultSet));
+                    employees.add(mapper.mapRow(resultSet));
                 }
                 
                 LOGGER.info("Retrieved " + employees.size() + " employees with first name starting with: " + fn);
             }
             
         } catch (SQLException e) {
-            LOGGER.log(Level.WARNING, "Database not available, returning sample data for name " + fn + ": " + e.getMessage(), e);
-            return getSampleEmployeesByName(fn);
+            LOGGER.log(Level.WARNING, "Database not available, returning fallback data for name " + fn + ": " + e.getMessage(), e);
+            return getFallbackEmployeesByName(fn);
         }
         
         return employees;
@@ -190,16 +574,20 @@ public class JdbcBeanImpl implements JdbcBean {
             preparedStatement.setInt(1, incrementPct);
             
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                RowMapper<Employee> mapper = EmployeeRowMapper.forResultSet(resultSet).employees();
                 while (resultSet.next()) {
-                    employees.add(new Employee(resultSet));
+                    employees.add(mapper.mapRow(resultSet));
                 }
                 
+                employeeCache.clear();
                 LOGGER.info("Applied " + incrementPct + "% salary increment to " + employees.size() + " employees");
             }
             
         } catch (SQLException e) {
-            LOGGER.log(Level.WARNING, "Database not available, returning sample data with " + incrementPct + "% increment: " + e.getMessage(), e);
-            return getSampleEmployeesWithIncrement(incrementPct);
+            // The outcome is unknown if the connection broke after the commit
+            employeeCache.clear();
+            LOGGER.log(Level.SEVERE, "Failed to apply " + incrementPct + "% salary increment", e);
+            throw new RuntimeException("Salary increment failed: " + e.getMessage(), e);
         }
         
         return employees;
@@ -217,6 +605,7 @@ public class JdbcBeanImpl implements JdbcBean {
             
             boolean deleted = rowsDeleted > 0;
             if (deleted) {
+                employeeCache.invalidate(empId);
                 LOGGER.info("Successfully deleted employee with ID: " + empId);
             } else {
                 LOGGER.warning("No employee found with ID: " + empId + " for deletion");
@@ -247,7 +636,8 @@ public class JdbcBeanImpl implements JdbcBean {
             
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
-                    Employee createdEmployee = new Employee(resultSet);
+                    Employee createdEmployee = EmployeeRowMapper.forResultSet(resultSet).mapEmployee(resultSet);
+                    employeeCache.invalidateAll();
                     LOGGER.info("Successfully created employee with ID: " + createdEmployee.getEmployeeId());
                     return createdEmployee;
                 }
@@ -280,7 +670,8 @@ public class JdbcBeanImpl implements JdbcBean {
             
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
-                    Employee updatedEmployee = new Employee(resultSet);
+                    Employee updatedEmployee = EmployeeRowMapper.forResultSet(resultSet).mapEmployee(resultSet);
+                    employeeCache.update(updatedEmployee);
                     LOGGER.info("Successfully updated employee with ID: " + updatedEmployee.getEmployeeId());
                     return updatedEmployee;
                 } else {
@@ -295,12 +686,287 @@ public class JdbcBeanImpl implements JdbcBean {
         }
     }
     
+    @Override
+    public Employee patchEmployee(int empId, Map<EmployeeField, Object> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No fields to update");
+        }
+        if (values.containsKey(EmployeeField.EMPLOYEE_ID)) {
+            throw new IllegalArgumentException("Employee ID cannot be changed");
+        }
+        
+        StringBuilder assignments = new StringBuilder();
+        for (EmployeeField field : values.keySet()) {
+            if (assignments.length() > 0) {
+                assignments.append(", ");
+            }
+            assignments.append(field.getColumnName()).append(" = ?");
+        }
+        String sql = "UPDATE employees SET " + assignments + " WHERE employee_id = ? " +
+                    "RETURNING employee_id, first_name, last_name, email, phone_number, job_id, salary";
+        
+        try (Connection connection = connectionFactory.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            
+            int index = 1;
+            for (Map.Entry<EmployeeField, Object> entry : values.entrySet()) {
+                if (entry.getKey() == EmployeeField.SALARY) {
+                    preparedStatement.setBigDecimal(index++, (BigDecimal) entry.getValue());
+                } else {
+                    preparedStatement.setString(index++, (String) entry.getValue());
+                }
+            }
+            preparedStatement.setInt(index, empId);
+            
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    Employee updatedEmployee = EmployeeRowMapper.forResultSet(resultSet).mapEmployee(resultSet);
+                    employeeCache.update(updatedEmployee);
+                    LOGGER.info("Successfully updated " + values.size() + " fields of employee with ID: " + empId);
+                    return updatedEmployee;
+                } else {
+                    LOGGER.warning("No employee found with ID: " + empId + " for update");
+                    return null;
+                }
+            }
+            
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Failed to update employee with ID: " + empId, e);
+            throw new RuntimeException("Update operation failed: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public BatchResult createEmployees(List<Employee> employees) {
+        String sql = "INSERT INTO employees (first_name, last_name, email, phone_number, job_id, salary) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+        
+        BatchResult result = executeBatch(sql, employees.size(), (preparedStatement, i) -> {
+            Employee employee = employees.get(i);
+            preparedStatement.setString(1, employee.getFirstName());
+            preparedStatement.setString(2, employee.getLastName());
+            preparedStatement.setString(3, employee.getEmail());
+            preparedStatement.setString(4, employee.getPhoneNumber());
+            preparedStatement.setString(5, employee.getJobId());
+            preparedStatement.setBigDecimal(6, employee.getSalary());
+        });
+        
+        if (result.isCommitted()) {
+            employeeCache.invalidateAll();
+        }
+        LOGGER.info("Batch create of " + employees.size() + " employees: " + result);
+        return result;
+    }
+    
+    @Override
+    public BatchResult updateEmployees(List<Employee> employees) {
+        for (Employee employee : employees) {
+            if (employee.getEmployeeId() == null) {
+                throw new IllegalArgumentException("Employee ID is required for batch update: " + employee.getEmail());
+            }
+        }
+        
+        String sql = "UPDATE employees SET first_name = ?, last_name = ?, email = ?, " +
+                    "phone_number = ?, job_id = ?, salary = ? WHERE employee_id = ?";
+        
+        BatchResult result = executeBatch(sql, employees.size(), (preparedStatement, i) -> {
+            Employee employee = employees.get(i);
+            preparedStatement.setString(1, employee.getFirstName());
+            preparedStatement.setString(2, employee.getLastName());
+            preparedStatement.setString(3, employee.getEmail());
+            preparedStatement.setString(4, employee.getPhoneNumber());
+            preparedStatement.setString(5, employee.getJobId());
+            preparedStatement.setBigDecimal(6, employee.getSalary());
+            preparedStatement.setInt(7, employee.getEmployeeId());
+        });
+        
+        if (result.isCommitted()) {
+            for (Employee employee : employees) {
+                employeeCache.invalidate(employee.getEmployeeId());
+            }
+        }
+        LOGGER.info("Batch update of " + employees.size() + " employees: " + result);
+        return result;
+    }
+    
+    @Override
+    public BatchResult deleteEmployees(int[] empIds) {
+        String sql = "DELETE FROM employees WHERE employee_id = ?";
+        
+        BatchResult result = executeBatch(sql, empIds.length,
+            (preparedStatement, i) -> preparedStatement.setInt(1, empIds[i]));
+        
+        if (result.isCommitted()) {
+            for (int empId : empIds) {
+                employeeCache.invalidate(empId);
+            }
+        }
+        LOGGER.info("Batch delete of " + empIds.length + " employees: " + result);
+        return result;
+    }
+    
+    /**
+     * Run a parameterized statement for every row in one transaction, sending
+     * batchSize rows per executeBatch() call.
+     * 
+     * @param sql Statement to execute per row
+     * @param size Number of rows
+     * @param binder Binds the parameters of one row
+     * @return Per-row outcomes
+     */
+    private BatchResult executeBatch(String sql, int size, BatchBinder binder) {
+        if (size == 0) {
+            return BatchResult.committed(new int[0]);
+        }
+        
+        // Index of the first row of the chunk currently being executed
+        int[] chunkStart = {0};
+        
+        try {
+            int[] updateCounts = connectionFactory.executeInTransaction(connection -> {
+                int[] counts = new int[size];
+                try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < size; i++) {
+                        binder.bind(preparedStatement, i);
+                        preparedStatement.addBatch();
+                        
+                        if (i - chunkStart[0] + 1 == batchSize || i == size - 1) {
+                            int[] chunk = preparedStatement.executeBatch();
+                            for (int j = chunkStart[0]; j <= i; j++) {
+                                int k = j - chunkStart[0];
+                                counts[j] = k < chunk.length ? chunk[k] : Statement.SUCCESS_NO_INFO;
+                            }
+                            chunkStart[0] = i + 1;
+                        }
+                    }
+                }
+                return counts;
+            });
+            return BatchResult.committed(updateCounts);
+            
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Batch operation failed, transaction rolled back", e);
+            return BatchResult.rolledBack(size, chunkStart[0], e);
+        }
+    }
+    
+    /**
+     * Binds the parameters of one batch row
+     */
+    @FunctionalInterface
+    private interface BatchBinder {
+        void bind(PreparedStatement preparedStatement, int index) throws SQLException;
+    }
+    
+    @Override
+    public ImportResult importEmployees(Reader csv) throws IOException {
+        ImportResult result = new EmployeeBulkImporter(connectionFactory).importCsv(csv);
+        if (result.getImportedCount() > 0) {
+            employeeCache.invalidateAll();
+        }
+        return result;
+    }
+    
+    @Override
+    public long exportEmployees(Set<EmployeeField> fields, OutputStream out) throws IOException {
+        return new EmployeeCsvExporter(readConnectionFactory).exportCsv(fields, out);
+    }
+    
+    @Override
+    public long getDataVersion() {
+        String sql = "SELECT version FROM table_versions WHERE table_name = 'employees'";
+        
+        long version;
+        try (Connection connection = readConnectionFactory.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            
+            version = resultSet.next() ? resultSet.getLong(1) : VERSION_UNKNOWN;
+            
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Table version not available: " + e.getMessage(), e);
+            return VERSION_UNKNOWN;
+        }
+        
+        // Writes made through other nodes change the version without
+        // invalidating this node's cache; drop it so that data tagged with
+        // the new version is never served from older entries. A lagging
+        // replica may still report an older version, which must not clear
+        // the cache again.
+        long previous = lastDataVersion.getAndAccumulate(version, Math::max);
+        if (previous != VERSION_UNKNOWN && version > previous) {
+            employeeCache.clear();
+        }
+        return version;
+    }
+    
+    /**
+     * Get the columnar employee snapshot for analytical reads (filter, count,
+     * sum, top-K). It lags behind writes by at most the snapshot refresh
+     * interval (app.snapshot.refreshMillis).
+     * 
+     * @return Current snapshot; empty if it could never be loaded
+     */
+    public EmployeeSnapshot getEmployeeSnapshot() {
+        return snapshotLoader.getSnapshot();
+    }
+    
+    /**
+     * Load the hr.jobs catalog into the shared JobDictionary.
+     * Codes already in the dictionary keep their ordinals; if the database is
+     * not available the dictionary keeps the codes of the initial catalog and
+     * learns any other code the first time it is read.
+     * 
+     * @return Number of job codes added to the dictionary
+     */
+    public int loadJobCatalog() {
+        String sql = "SELECT job_id FROM jobs ORDER BY job_id";
+        
+        List<String> codes = new ArrayList<>();
+        try (Connection connection = readConnectionFactory.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            
+            while (resultSet.next()) {
+                codes.add(resultSet.getString(1));
+            }
+            
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Job catalog not available, using built-in job codes: " + e.getMessage(), e);
+            return 0;
+        }
+        
+        int added = JobDictionary.getInstance().addAll(codes);
+        LOGGER.info("Loaded " + codes.size() + " job codes from catalog (" + added + " new)");
+        return added;
+    }
+    
     @Override
     public boolean isConnectionHealthy() {
         return connectionFactory.isHealthy();
     }
     
-    // Helper methods for sample data fallback
+    private static Set<EmployeeField> withEmployeeId(Set<EmployeeField> fields) {
+        if (fields.contains(EmployeeField.EMPLOYEE_ID)) {
+            return fields;
+        }
+        EnumSet<EmployeeField> selected = EnumSet.of(EmployeeField.EMPLOYEE_ID);
+        selected.addAll(fields);
+        return selected;
+    }
+    
+    /**
+     * Convert records to Employee beans as they leave the bean layer
+     */
+    private static List<Employee> toEmployees(List<EmployeeRecord> records) {
+        List<Employee> employees = new ArrayList<>(records.size());
+        for (EmployeeRecord record : records) {
+            employees.add(record.toEmployee());
+        }
+        return employees;
+    }
+    
+    // Helper methods for the outage fallback
     
     private static List<Employee> createSampleEmployees() {
         List<Employee> employees = new ArrayList<>();
@@ -312,9 +978,40 @@ public class JdbcBeanImpl implements JdbcBean {
         return employees;
     }
     
-    private List<Employee> getSampleEmployeeById(int empId) {
+    // Employees served while the database is unavailable: the mapped
+    // last-known-good snapshot (empty if there is none yet), or the sample
+    // data when this bean has no snapshot store
+    private List<Employee> fallbackEmployees() {
+        if (snapshotStore == null) {
+            return SAMPLE_EMPLOYEES;
+        }
+        EmployeeSnapshotFile snapshotFile = snapshotStore.getFile();
+        if (snapshotFile == null) {
+            // An empty list would look like an empty table
+            throw new DataUnavailableException("Database unavailable and no snapshot has been saved yet");
+        }
+        return snapshotFile.getEmployees();
+    }
+    
+    // Tag a fallback result with the age of the snapshot file it was read
+    // from; sample data and outages without a snapshot file get no age
+    private List<Employee> fromSnapshot(List<Employee> employees) {
+        long snapshotAge = snapshotStore != null ? snapshotStore.getAgeMillis() : -1;
+        return snapshotAge >= 0 ? new SnapshotEmployeeList(employees, snapshotAge) : employees;
+    }
+    
+    private List<Employee> getFallbackEmployeeById(int empId) {
         List<Employee> result = new ArrayList<>();
-        for (Employee emp : SAMPLE_EMPLOYEES) {
+        EmployeeSnapshotFile snapshotFile = snapshotStore != null ? snapshotStore.getFile() : null;
+        if (snapshotFile != null) {
+            // Binary search instead of decoding every row of the mapped file
+            Employee employee = snapshotFile.getEmployee(empId);
+            if (employee != null) {
+                result.add(employee);
+            }
+            return fromSnapshot(result);
+        }
+        for (Employee emp : fallbackEmployees()) {
             if (emp.getEmployeeId().equals(empId)) {
                 result.add(emp);
                 break;
@@ -323,39 +1020,28 @@ public class JdbcBeanImpl implements JdbcBean {
         return result;
     }
     
-    private Employee getSampleUpdatedEmployee(int empId) {
-        for (Employee emp : SAMPLE_EMPLOYEES) {
-            if (emp.getEmployeeId().equals(empId)) {
-                // Return employee with 10% salary increase
-                BigDecimal newSalary = emp.getSalary().multiply(new BigDecimal("1.1"));
-                return new Employee(emp.getEmployeeId(), emp.getFirstName(), emp.getLastName(),
-                                  emp.getEmail(), emp.getPhoneNumber(), emp.getJobId(), newSalary);
+    private List<Employee> getFallbackEmployeesAfter(int afterId, int limit) {
+        List<Employee> result = new ArrayList<>();
+        for (Employee emp : fallbackEmployees()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (emp.getEmployeeId() > afterId) {
+                result.add(emp);
             }
         }
-        return null;
+        return result;
     }
     
-    private List<Employee> getSampleEmployeesByName(String fn) {
+    private List<Employee> getFallbackEmployeesByName(String fn) {
         List<Employee> result = new ArrayList<>();
         String lowerFn = fn.toLowerCase();
-        for (Employee emp : SAMPLE_EMPLOYEES) {
+        for (Employee emp : fallbackEmployees()) {
             if (emp.getFirstName().toLowerCase().startsWith(lowerFn)) {
                 result.add(emp);
             }
         }
-        return result;
-    }
-    
-    private List<Employee> getSampleEmployeesWithIncrement(int incrementPct) {
-        List<Employee> result = new ArrayList<>();
-        BigDecimal multiplier = BigDecimal.ONE.add(new BigDecimal(incrementPct).divide(new BigDecimal("100")));
-        
-        for (Employee emp : SAMPLE_EMPLOYEES) {
-            BigDecimal newSalary = emp.getSalary().multiply(multiplier);
-            result.add(new Employee(emp.getEmployeeId(), emp.getFirstName(), emp.getLastName(),
-                                  emp.getEmail(), emp.getPhoneNumber(), emp.getJobId(), newSalary));
-        }
-        return result;
+        return fromSnapshot(result);
     }
     
     /**
@@ -375,4 +1061,55 @@ public class JdbcBeanImpl implements JdbcBean {
     public String getPoolStats() {
         return connectionFactory.getPoolStats();
     }
+    
+    /**
+     * Set the fetch size used by streamEmployees
+     * 
+     * @param streamFetchSize Rows fetched per round trip (must be positive)
+     */
+    public void setStreamFetchSize(int streamFetchSize) {
+        if (streamFetchSize <= 0) {
+            throw new IllegalArgumentException("Stream fetch size must be positive: " + streamFetchSize);
+        }
+        this.streamFetchSize = streamFetchSize;
+    }
+    
+    /**
+     * Set the snapshot store served during outages (for testing)
+     * 
+     * @param snapshotStore Snapshot store, or null for the built-in sample data
+     */
+    void setSnapshotStore(EmployeeSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+    
+    /**
+     * Set the number of rows sent per executeBatch() call
+     * 
+     * @param batchSize Rows per batch (must be positive)
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+    
+    /**
+     * Get employee cache instance (for testing and monitoring)
+     * 
+     * @return EmployeeCache instance
+     */
+    public EmployeeCache getEmployeeCache() {
+        return employeeCache;
+    }
+    
+    /**
+     * Get employee cache statistics (hits, misses, evictions)
+     * 
+     * @return Cache statistics as string
+     */
+    public String getCacheStats() {
+        return employeeCache.getStats();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a ResultSet to an object.
+ *
+ * Mappers are created for one ResultSet and may resolve column positions
+ * when they are created, so that mapping a row reads every column by index
+ * instead of looking its name up again for each row.
+ *
+ * @param <T> Type of the mapped rows
+ * @author HR Application Team
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Map the row the ResultSet is positioned on
+     *
+     * @param resultSet ResultSet positioned on a row; not advanced by the mapper
+     * @return Mapped row
+     * @throws SQLException if ResultSet access fails
+     */
+    T mapRow(ResultSet resultSet) throws SQLException;
+}
@@ -0,0 +1,64 @@
+package com.hrapp.jdbc.samples.bean;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+
+/**
+ * Read-only employee query result that was answered from the last-known-good
+ * snapshot file because the database could not be reached.
+ *
+ * The age travels with the result it describes, so a caller can tell stale
+ * data from live data without asking the bean afterwards, when other
+ * requests may already have changed what the bean would report.
+ *
+ * @author HR Application Team
+ */
+public final class SnapshotEmployeeList extends AbstractList<Employee> implements RandomAccess {
+
+    private final List<Employee> employees;
+    private final long snapshotAgeMillis;
+
+    /**
+     * Create a snapshot result
+     *
+     * @param employees Employees read from the snapshot file
+     * @param snapshotAgeMillis Age of the snapshot file in milliseconds
+     */
+    public SnapshotEmployeeList(List<Employee> employees, long snapshotAgeMillis) {
+        this.employees = employees;
+        this.snapshotAgeMillis = snapshotAgeMillis;
+    }
+
+    /**
+     * Get the time since the snapshot was last known to match the database
+     *
+     * @return Age in milliseconds
+     */
+    public long getSnapshotAgeMillis() {
+        return snapshotAgeMillis;
+    }
+
+    /**
+     * Get the snapshot age of a query result
+     *
+     * @param employees Result of a JdbcBean read, may be null
+     * @return Age in milliseconds, or -1 if the result came from the database
+     */
+    public static long snapshotAgeOf(List<?> employees) {
+        return employees instanceof SnapshotEmployeeList
+            ? ((SnapshotEmployeeList) employees).snapshotAgeMillis : -1;
+    }
+
+    @Override
+    public Employee get(int index) {
+        return employees.get(index);
+    }
+
+    @Override
+    public int size() {
+        return employees.size();
+    }
+}
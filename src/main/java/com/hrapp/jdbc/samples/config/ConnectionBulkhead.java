@@ -0,0 +1,159 @@
+package com.hrapp.jdbc.samples.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fair semaphore in front of the connection pool.
+ *
+ * With virtual threads there can be tens of thousands of requests waiting
+ * for a database connection. Instead of letting all of them poll HikariCP,
+ * callers queue in FIFO order on a semaphore with one permit per pooled
+ * connection; a waiting virtual thread is just a parked continuation and
+ * does not hold a carrier thread. The permit is released when the
+ * connection is closed.
+ *
+ * Callers must not request a second connection while holding one, since
+ * with as many permits as connections that could deadlock.
+ *
+ * @author HR Application Team
+ */
+public class ConnectionBulkhead {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutMillis;
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * Create a bulkhead
+     *
+     * @param maxPermits Maximum number of connections handed out at once
+     * @param timeoutMillis Maximum time to wait for a permit
+     */
+    public ConnectionBulkhead(int maxPermits, long timeoutMillis) {
+        if (maxPermits <= 0) {
+            throw new IllegalArgumentException("Bulkhead permits must be positive: " + maxPermits);
+        }
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Wait for a permit, then obtain a connection. The returned connection
+     * releases the permit when it is closed.
+     *
+     * @param source Obtains the connection once a permit is held
+     * @return Connection holding a permit, or null (and no permit held) if the source returned null
+     * @throws SQLException if no permit is available within the timeout or
+     *         the connection cannot be obtained
+     */
+    public Connection acquire(ConnectionSource source) throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException(
+                    "Timed out after " + timeoutMillis + " ms waiting for a database connection (" +
+                    permits.getQueueLength() + " requests queued)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            Connection connection = source.getConnection();
+            if (connection == null) {
+                permits.release();
+                return null;
+            }
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new ReleasingHandler(connection));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the number of permits currently available
+     *
+     * @return Available permits
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Get the (estimated) number of callers waiting for a permit
+     *
+     * @return Queue length
+     */
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Get the number of callers that gave up waiting for a permit
+     *
+     * @return Timeout count
+     */
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    /**
+     * Obtains a connection once a permit is held; may return null if it has none to offer
+     */
+    @FunctionalInterface
+    public interface ConnectionSource {
+        Connection getConnection() throws SQLException;
+    }
+
+    /**
+     * Releases the permit exactly once when the connection is closed
+     */
+    private final class ReleasingHandler implements InvocationHandler {
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName())) {
+                try {
+                    target.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.hrapp.jdbc.samples.config;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,6 +17,8 @@ import java.util.logging.Logger;
  * - Connection validation and health checks
  * - Proper error handling and logging
  * - Resource cleanup utilities
+ * - Fast checkout mode without per-checkout validation round trips
+ * - Separate read instance that routes to the read replica when configured
  * 
  * @author HR Application Team
  */
@@ -26,15 +29,42 @@ public class ConnectionFactory {
     // Database configuration instance
     private final DatabaseConfig databaseConfig;
     
-    // Singleton instance
+    // Whether connections come from the read replica router
+    private final boolean readOnly;
+    
+    // Singleton instances
     private static volatile ConnectionFactory instance;
-    private static final Object LOCK = new Object();
+    private static volatile ConnectionFactory readInstance;
+    // A lock rather than synchronized, so that a virtual thread blocked on
+    // DatabaseConfig initialization does not pin its carrier thread
+    private static final ReentrantLock LOCK = new ReentrantLock();
     
     /**
      * Private constructor for singleton pattern
      */
-    private ConnectionFactory() {
-        this.databaseConfig = DatabaseConfig.getInstance();
+    private ConnectionFactory(boolean readOnly) {
+        this(DatabaseConfig.getInstance(), readOnly);
+    }
+    
+    /**
+     * Constructor with custom DatabaseConfig (for testing)
+     * 
+     * @param databaseConfig Database configuration to obtain connections from
+     */
+    public ConnectionFactory(DatabaseConfig databaseConfig) {
+        this(databaseConfig, false);
+    }
+    
+    /**
+     * Constructor with custom DatabaseConfig and routing (for testing)
+     * 
+     * @param databaseConfig Database configuration to obtain connections from
+     * @param readOnly true to obtain connections for read-only work, which
+     *                 may come from the read replica
+     */
+    public ConnectionFactory(DatabaseConfig databaseConfig, boolean readOnly) {
+        this.databaseConfig = databaseConfig;
+        this.readOnly = readOnly;
     }
     
     /**
@@ -44,15 +74,40 @@ public class ConnectionFactory {
      */
     public static ConnectionFactory getInstance() {
         if (instance == null) {
-            synchronized (LOCK) {
+            LOCK.lock();
+            try {
                 if (instance == null) {
-                    instance = new ConnectionFactory();
+                    instance = new ConnectionFactory(false);
                 }
+            } finally {
+                LOCK.unlock();
             }
         }
         return instance;
     }
     
+    /**
+     * Get singleton instance of the ConnectionFactory for read-only work.
+     * Its connections come from the read replica while the replica is within
+     * the configured lag bound, and from the primary otherwise. Never use it
+     * for writes.
+     * 
+     * @return Read-only ConnectionFactory instance
+     */
+    public static ConnectionFactory getReadInstance() {
+        if (readInstance == null) {
+            LOCK.lock();
+            try {
+                if (readInstance == null) {
+                    readInstance = new ConnectionFactory(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return readInstance;
+    }
+    
     /**
      * Get a database connection from the pool
      * 
@@ -61,10 +116,12 @@ public class ConnectionFactory {
      */
     public Connection getConnection() throws SQLException {
         try {
-            Connection connection = databaseConfig.getConnection();
+            Connection connection = readOnly ? databaseConfig.getReadConnection() : databaseConfig.getConnection();
             
-            // Validate connection before returning
-            if (!connection.isValid(5)) {
+            // Validate connection before returning, unless HikariCP's own
+            // liveness checks are trusted (FAST mode)
+            if (databaseConfig.getCheckoutMode() != DatabaseConfig.CheckoutMode.FAST && !connection.isValid(5)) {
+                closeConnection(connection);
                 throw new SQLException("Connection validation failed");
             }
             
@@ -151,6 +208,39 @@ public class ConnectionFactory {
         return databaseConfig.getPoolStats();
     }
     
+    /**
+     * Check whether this factory serves read-only work
+     * 
+     * @return true if connections may come from the read replica
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+    
+    /**
+     * Check whether rows read through this factory may predate a recent
+     * write of this node, because the replica may not have replayed it yet.
+     * Such rows must not be cached.
+     * 
+     * @return true for a read-only factory while the replica catches up
+     */
+    public boolean isReplicaCatchingUp() {
+        if (!readOnly) {
+            return false;
+        }
+        ReplicaRouter router = databaseConfig.getReplicaRouter();
+        return router != null && router.isCatchingUp();
+    }
+    
+    /**
+     * Get the JDBC round-trip counter
+     * 
+     * @return Round-trip counter, or null if counting is disabled
+     */
+    public RoundTripCounter getRoundTripCounter() {
+        return databaseConfig.getRoundTripCounter();
+    }
+    
     /**
      * Safely close a database connection
      * 
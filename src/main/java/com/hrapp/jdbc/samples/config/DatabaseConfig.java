@@ -7,8 +7,10 @@ import javax.sql.DataSource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,6 +24,10 @@ import java.util.logging.Logger;
  * - Configuration from properties file
  * - Health checks and connection validation
  * - Proper resource management and cleanup
+ * - Optional fast checkout mode and JDBC round-trip counting
+ * - Cached background health probing
+ * - Optional read-only replica pool with lag-based fallback to the primary
+ * - Fair bulkhead in front of each pool so that virtual threads queue cheaply
  * 
  * @author HR Application Team
  */
@@ -31,7 +37,9 @@ public class DatabaseConfig {
     
     // Singleton instance
     private static volatile DatabaseConfig instance;
-    private static final Object LOCK = new Object();
+    // A lock rather than synchronized: initialization connects to the database,
+    // and blocking inside synchronized would pin a virtual thread's carrier
+    private static final ReentrantLock LOCK = new ReentrantLock();
     
     // HikariCP DataSource
     private HikariDataSource dataSource;
@@ -39,6 +47,28 @@ public class DatabaseConfig {
     // Configuration properties
     private Properties config;
     
+    // Connection checkout behaviour
+    private CheckoutMode checkoutMode = CheckoutMode.VALIDATE;
+    
+    // Counts server round trips when enabled (null otherwise)
+    private RoundTripCounter roundTripCounter;
+    
+    // Background health prober (null if disabled)
+    private HealthMonitor healthMonitor;
+    
+    // Read replica pool and router (null if no replica is configured)
+    private HikariDataSource replicaDataSource;
+    private ReplicaRouter replicaRouter;
+    
+    // Limits concurrent replica checkouts to the replica pool size (null if disabled or no replica)
+    private ConnectionBulkhead replicaBulkhead;
+    
+    // Limits concurrent checkouts to the pool size (null if disabled)
+    private ConnectionBulkhead bulkhead;
+    
+    // LISTEN connection for employee change notifications (null if disabled)
+    private NotificationListener notificationListener;
+    
     // Default configuration values
     private static final String DEFAULT_URL = "jdbc:postgresql://localhost:5432/hrdb";
     private static final String DEFAULT_USERNAME = "hr_user";
@@ -55,7 +85,28 @@ public class DatabaseConfig {
      */
     private DatabaseConfig() {
         loadConfiguration();
+        initializeCheckout();
+        initializeBulkhead();
         initializeDataSource();
+        initializeReplica();
+        initializeHealthMonitor();
+        initializeNotificationListener();
+    }
+    
+    /**
+     * Connection checkout modes
+     */
+    public enum CheckoutMode {
+        /**
+         * Validate every checked-out connection with isValid() and set the
+         * schema on every checkout (two extra round trips per checkout)
+         */
+        VALIDATE,
+        /**
+         * Trust HikariCP's own liveness checks; the schema is set once per
+         * physical connection by HikariCP (no extra round trips per checkout)
+         */
+        FAST
     }
     
     /**
@@ -65,15 +116,28 @@ public class DatabaseConfig {
      */
     public static DatabaseConfig getInstance() {
         if (instance == null) {
-            synchronized (LOCK) {
+            LOCK.lock();
+            try {
                 if (instance == null) {
                     instance = new DatabaseConfig();
                 }
+            } finally {
+                LOCK.unlock();
             }
         }
         return instance;
     }
     
+    /**
+     * Get the singleton instance only if it has already been created.
+     * Unlike getInstance(), this never tries to connect to the database.
+     * 
+     * @return DatabaseConfig instance, or null if not yet initialized
+     */
+    public static DatabaseConfig getInstanceIfInitialized() {
+        return instance;
+    }
+    
     /**
      * Load configuration from application.properties file
      */
@@ -112,6 +176,37 @@ public class DatabaseConfig {
         config.setProperty("hikari.maxLifetime", String.valueOf(DEFAULT_MAX_LIFETIME));
     }
     
+    /**
+     * Read checkout mode and round-trip counter settings
+     */
+    private void initializeCheckout() {
+        String mode = getProperty("db.checkoutMode", CheckoutMode.VALIDATE.name());
+        try {
+            checkoutMode = CheckoutMode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Invalid value for property db.checkoutMode, using default: " + CheckoutMode.VALIDATE);
+            checkoutMode = CheckoutMode.VALIDATE;
+        }
+        if (getBooleanProperty("db.roundTripCounter.enabled", false)) {
+            roundTripCounter = new RoundTripCounter();
+        }
+        LOGGER.info("Connection checkout mode: " + checkoutMode +
+                   (roundTripCounter != null ? ", round-trip counter enabled" : ""));
+    }
+    
+    /**
+     * Create the connection bulkhead if enabled
+     */
+    private void initializeBulkhead() {
+        if (!getBooleanProperty("db.bulkhead.enabled", true)) {
+            return;
+        }
+        bulkhead = new ConnectionBulkhead(
+            getIntProperty("db.bulkhead.permits", getIntProperty("hikari.maximumPoolSize", DEFAULT_MAX_POOL_SIZE)),
+            getLongProperty("hikari.connectionTimeout", DEFAULT_CONNECTION_TIMEOUT));
+        LOGGER.info("Connection bulkhead enabled with " + bulkhead.getMaxPermits() + " permits");
+    }
+    
     /**
      * Initialize HikariCP DataSource with configuration
      */
@@ -151,7 +246,8 @@ public class DatabaseConfig {
             hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
             hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
             hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
-            hikariConfig.addDataSourceProperty("reWriteBatchedInserts", "true");
+            // Lets pgjdbc turn JDBC insert batches into multi-row INSERT statements
+            hikariConfig.addDataSourceProperty("reWriteBatchedInserts", getProperty("db.reWriteBatchedInserts", "true"));
             
             // Initialize the data source
             dataSource = new HikariDataSource(hikariConfig);
@@ -169,6 +265,100 @@ public class DatabaseConfig {
         }
     }
     
+    /**
+     * Initialize the read replica pool if db.replica.url is set.
+     * A replica that cannot be reached does not prevent startup; reads
+     * then stay on the primary until the replica answers a lag check.
+     */
+    private void initializeReplica() {
+        String replicaUrl = getProperty("db.replica.url", "");
+        if (replicaUrl.trim().isEmpty()) {
+            return;
+        }
+        try {
+            HikariConfig hikariConfig = new HikariConfig();
+            
+            hikariConfig.setJdbcUrl(replicaUrl.trim());
+            hikariConfig.setUsername(getProperty("db.replica.username", getProperty("db.username", DEFAULT_USERNAME)));
+            hikariConfig.setPassword(getProperty("db.replica.password", getProperty("db.password", DEFAULT_PASSWORD)));
+            hikariConfig.setDriverClassName("org.postgresql.Driver");
+            hikariConfig.setReadOnly(true);
+            
+            // Fail fast so that an unreachable replica falls back to the primary quickly
+            hikariConfig.setMaximumPoolSize(getIntProperty("db.replica.maximumPoolSize",
+                getIntProperty("hikari.maximumPoolSize", DEFAULT_MAX_POOL_SIZE)));
+            hikariConfig.setMinimumIdle(getIntProperty("hikari.minimumIdle", DEFAULT_MIN_IDLE));
+            hikariConfig.setConnectionTimeout(getLongProperty("db.replica.connectionTimeout", 1000));
+            hikariConfig.setIdleTimeout(getLongProperty("hikari.idleTimeout", DEFAULT_IDLE_TIMEOUT));
+            hikariConfig.setMaxLifetime(getLongProperty("hikari.maxLifetime", DEFAULT_MAX_LIFETIME));
+            hikariConfig.setInitializationFailTimeout(-1);
+            hikariConfig.setPoolName("HRApp-ReplicaPool");
+            
+            String schema = getProperty("db.schema", DEFAULT_SCHEMA);
+            if (schema != null && !schema.trim().isEmpty()) {
+                hikariConfig.setSchema(schema);
+            }
+            
+            hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
+            hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
+            hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
+            
+            replicaDataSource = new HikariDataSource(hikariConfig);
+            // Replica reads queue separately, so they neither take permits from writes on the
+            // primary nor are limited to the primary's pool size
+            if (bulkhead != null) {
+                replicaBulkhead = new ConnectionBulkhead(hikariConfig.getMaximumPoolSize(),
+                    getLongProperty("hikari.connectionTimeout", DEFAULT_CONNECTION_TIMEOUT));
+            }
+            replicaRouter = new ReplicaRouter(replicaDataSource,
+                getLongProperty("db.replica.maxLagMillis", ReplicaRouter.DEFAULT_MAX_LAG_MILLIS),
+                getLongProperty("db.replica.lagCheckIntervalMillis", ReplicaRouter.DEFAULT_CHECK_INTERVAL_MILLIS));
+            
+            LOGGER.info("Read replica pool initialized: maxPoolSize=" + hikariConfig.getMaximumPoolSize());
+            
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to initialize read replica, all reads use the primary", e);
+            replicaDataSource = null;
+            replicaRouter = null;
+            replicaBulkhead = null;
+        }
+    }
+    
+    /**
+     * Start the background health prober if enabled
+     */
+    private void initializeHealthMonitor() {
+        if (!getBooleanProperty("app.health.monitor.enabled", true)) {
+            return;
+        }
+        int maxPoolSize = getIntProperty("hikari.maximumPoolSize", DEFAULT_MAX_POOL_SIZE);
+        healthMonitor = new HealthMonitor(
+            this::probeHealth,
+            () -> dataSource != null && !dataSource.isClosed() ? dataSource.getHikariPoolMXBean() : null,
+            () -> bulkhead != null ? bulkhead.getQueueLength() : 0,
+            maxPoolSize,
+            getIntProperty("app.health.maxWaitingThreads", maxPoolSize),
+            getLongProperty("app.health.intervalMillis", HealthMonitor.DEFAULT_INTERVAL_MILLIS)
+        );
+        healthMonitor.start();
+    }
+    
+    /**
+     * Initialize the employee change listener (one LISTEN connection per node)
+     */
+    private void initializeNotificationListener() {
+        if (!getBooleanProperty("app.notify.enabled", true)) {
+            return;
+        }
+        notificationListener = new NotificationListener(
+            this::openDedicatedConnection,
+            NotificationListener.EMPLOYEES_CHANNEL,
+            getLongProperty("app.notify.pollMillis", NotificationListener.DEFAULT_POLL_MILLIS)
+        );
+        notificationListener.start();
+    }
+    
     /**
      * Get DataSource instance
      * 
@@ -192,7 +382,76 @@ public class DatabaseConfig {
             throw new SQLException("DataSource is not available");
         }
         
-        Connection connection = dataSource.getConnection();
+        // The primary connection may be used for a write; keep the writer's
+        // reads on the primary until the replica can have caught up
+        if (replicaRouter != null) {
+            replicaRouter.markPrimaryUse();
+        }
+        if (bulkhead != null) {
+            return prepareConnection(bulkhead.acquire(dataSource::getConnection));
+        }
+        return prepareConnection(dataSource.getConnection());
+    }
+    
+    /**
+     * Open a connection to the primary outside the pool, for session-bound
+     * work such as LISTEN that must not be returned to the pool. The caller
+     * closes it.
+     * 
+     * @return New unpooled connection
+     * @throws SQLException if connection cannot be opened
+     */
+    public Connection openDedicatedConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection(
+            getProperty("db.url", DEFAULT_URL),
+            getProperty("db.username", DEFAULT_USERNAME),
+            getProperty("db.password", DEFAULT_PASSWORD));
+        String schema = getProperty("db.schema", DEFAULT_SCHEMA);
+        if (schema != null && !schema.trim().isEmpty()) {
+            connection.setSchema(schema);
+        }
+        return connection;
+    }
+    
+    /**
+     * Get a connection for read-only work. Uses the replica when one is
+     * configured and within the lag bound, and the primary otherwise.
+     * 
+     * @return Database connection
+     * @throws SQLException if connection cannot be obtained
+     */
+    public Connection getReadConnection() throws SQLException {
+        if (replicaRouter != null && replicaDataSource != null && !replicaDataSource.isClosed()) {
+            // Each pool has its own bulkhead; a replica permit is given back if the router picks the primary
+            Connection replicaConnection = replicaBulkhead != null
+                ? replicaBulkhead.acquire(replicaRouter::getConnection)
+                : replicaRouter.getConnection();
+            if (replicaConnection != null) {
+                return prepareConnection(replicaConnection);
+            }
+        }
+        if (dataSource == null || dataSource.isClosed()) {
+            throw new SQLException("DataSource is not available");
+        }
+        if (bulkhead != null) {
+            return prepareConnection(bulkhead.acquire(dataSource::getConnection));
+        }
+        return prepareConnection(dataSource.getConnection());
+    }
+    
+    /**
+     * Apply round-trip counting and the schema to a pooled connection
+     */
+    private Connection prepareConnection(Connection connection) {
+        if (roundTripCounter != null) {
+            connection = roundTripCounter.wrap(connection);
+        }
+        
+        // In FAST mode HikariCP has already applied the schema when the
+        // physical connection was opened, and resets it on return
+        if (checkoutMode == CheckoutMode.FAST) {
+            return connection;
+        }
         
         // Set schema if configured
         String schema = getProperty("db.schema", DEFAULT_SCHEMA);
@@ -238,21 +497,48 @@ public class DatabaseConfig {
             return "DataSource not initialized";
         }
         
-        return String.format(
+        String stats = String.format(
             "Pool Stats - Active: %d, Idle: %d, Total: %d, Waiting: %d",
             dataSource.getHikariPoolMXBean().getActiveConnections(),
             dataSource.getHikariPoolMXBean().getIdleConnections(),
             dataSource.getHikariPoolMXBean().getTotalConnections(),
             dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection()
         );
+        if (bulkhead != null) {
+            stats += String.format(", Queued: %d, Queue timeouts: %d",
+                bulkhead.getQueueLength(), bulkhead.getTimeoutCount());
+        }
+        if (replicaBulkhead != null) {
+            stats += String.format(", Replica queued: %d, Replica queue timeouts: %d",
+                replicaBulkhead.getQueueLength(), replicaBulkhead.getTimeoutCount());
+        }
+        if (replicaRouter != null) {
+            stats += String.format(", Sticky primary reads: %d", replicaRouter.getStickyReadCount());
+        }
+        return stats;
     }
     
     /**
-     * Check if DataSource is healthy
+     * Check if DataSource is healthy.
+     * 
+     * When the background health monitor is running this returns its cached
+     * state and does not touch the pool; otherwise the database is probed.
      * 
      * @return true if DataSource is healthy
      */
     public boolean isHealthy() {
+        if (healthMonitor != null) {
+            return dataSource != null && !dataSource.isClosed() && healthMonitor.isHealthy();
+        }
+        return probeHealth();
+    }
+    
+    /**
+     * Probe the database by borrowing a connection and validating it
+     * 
+     * @return true if a valid connection could be obtained
+     */
+    private boolean probeHealth() {
         if (dataSource == null || dataSource.isClosed()) {
             return false;
         }
@@ -272,6 +558,16 @@ public class DatabaseConfig {
      * Shutdown the DataSource and cleanup resources
      */
     public void shutdown() {
+        if (healthMonitor != null) {
+            healthMonitor.stop();
+        }
+        if (notificationListener != null) {
+            notificationListener.stop();
+        }
+        if (replicaDataSource != null && !replicaDataSource.isClosed()) {
+            LOGGER.info("Shutting down read replica connection pool");
+            replicaDataSource.close();
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             LOGGER.info("Shutting down database connection pool");
             dataSource.close();
@@ -306,11 +602,25 @@ public class DatabaseConfig {
     
     // Helper methods for configuration
     
-    private String getProperty(String key, String defaultValue) {
+    /**
+     * Get a configuration property from application.properties
+     * 
+     * @param key Property key
+     * @param defaultValue Value to use if the property is not set
+     * @return Property value
+     */
+    public String getProperty(String key, String defaultValue) {
         return config.getProperty(key, defaultValue);
     }
     
-    private int getIntProperty(String key, int defaultValue) {
+    /**
+     * Get an integer configuration property from application.properties
+     * 
+     * @param key Property key
+     * @param defaultValue Value to use if the property is not set or invalid
+     * @return Property value
+     */
+    public int getIntProperty(String key, int defaultValue) {
         try {
             String value = config.getProperty(key);
             return value != null ? Integer.parseInt(value) : defaultValue;
@@ -320,7 +630,14 @@ public class DatabaseConfig {
         }
     }
     
-    private long getLongProperty(String key, long defaultValue) {
+    /**
+     * Get a long configuration property from application.properties
+     * 
+     * @param key Property key
+     * @param defaultValue Value to use if the property is not set or invalid
+     * @return Property value
+     */
+    public long getLongProperty(String key, long defaultValue) {
         try {
             String value = config.getProperty(key);
             return value != null ? Long.parseLong(value) : defaultValue;
@@ -330,6 +647,72 @@ public class DatabaseConfig {
         }
     }
     
+    /**
+     * Get a boolean configuration property from application.properties
+     * 
+     * @param key Property key
+     * @param defaultValue Value to use if the property is not set
+     * @return Property value
+     */
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = config.getProperty(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+    
+    /**
+     * Get the background health monitor
+     * 
+     * @return Health monitor, or null if disabled
+     */
+    public HealthMonitor getHealthMonitor() {
+        return healthMonitor;
+    }
+    
+    /**
+     * Get the employee change listener
+     * 
+     * @return Notification listener, or null if disabled
+     */
+    public NotificationListener getNotificationListener() {
+        return notificationListener;
+    }
+    
+    /**
+     * Get the connection bulkhead
+     * 
+     * @return Bulkhead, or null if disabled
+     */
+    public ConnectionBulkhead getBulkhead() {
+        return bulkhead;
+    }
+    
+    /**
+     * Get the read replica router
+     * 
+     * @return Replica router, or null if no replica is configured
+     */
+    public ReplicaRouter getReplicaRouter() {
+        return replicaRouter;
+    }
+    
+    /**
+     * Get connection checkout mode
+     * 
+     * @return Checkout mode
+     */
+    public CheckoutMode getCheckoutMode() {
+        return checkoutMode;
+    }
+    
+    /**
+     * Get the JDBC round-trip counter
+     * 
+     * @return Round-trip counter, or null if counting is disabled
+     */
+    public RoundTripCounter getRoundTripCounter() {
+        return roundTripCounter;
+    }
+    
     /**
      * Get database URL
      * 
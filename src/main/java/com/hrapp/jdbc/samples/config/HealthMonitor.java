@@ -0,0 +1,240 @@
+package com.hrapp.jdbc.samples.config;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Background database health prober.
+ *
+ * A single daemon thread probes the database on a fixed schedule and
+ * combines the result with HikariCP pool saturation into a cached
+ * {@link Status} snapshot. Health and readiness checks read that snapshot
+ * and never borrow a pool connection on the caller's thread, so frequent
+ * load balancer polling costs nothing on the database.
+ *
+ * The cached state is treated as unhealthy if the prober has not refreshed
+ * it within the staleness bound (e.g. because a probe is hanging).
+ *
+ * @author HR Application Team
+ */
+public class HealthMonitor {
+
+    private static final Logger LOGGER = Logger.getLogger(HealthMonitor.class.getName());
+
+    // Default configuration values
+    public static final long DEFAULT_INTERVAL_MILLIS = 5000;
+
+    private final BooleanSupplier probe;
+    private final Supplier<HikariPoolMXBean> poolSupplier;
+    private final IntSupplier queuedSupplier;
+    private final int maxPoolSize;
+    private final int maxWaitingThreads;
+    private final long intervalMillis;
+    private final long staleAfterMillis;
+    private final LongSupplier clock;
+
+    private volatile Status status = Status.UNKNOWN;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Create a health monitor
+     *
+     * @param probe Database probe run on the background thread
+     * @param poolSupplier Supplies the pool MXBean (may return null)
+     * @param maxPoolSize Configured maximum pool size
+     * @param maxWaitingThreads Pool is saturated when more threads than this wait for a connection
+     * @param intervalMillis Probe interval in milliseconds
+     */
+    public HealthMonitor(BooleanSupplier probe, Supplier<HikariPoolMXBean> poolSupplier,
+                         int maxPoolSize, int maxWaitingThreads, long intervalMillis) {
+        this(probe, poolSupplier, () -> 0, maxPoolSize, maxWaitingThreads, intervalMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Create a health monitor that also counts callers queued in front of the pool
+     *
+     * @param probe Database probe run on the background thread
+     * @param poolSupplier Supplies the pool MXBean (may return null)
+     * @param queuedSupplier Supplies the number of callers queued before reaching the pool
+     * @param maxPoolSize Configured maximum pool size
+     * @param maxWaitingThreads Pool is saturated when more threads than this wait for a connection
+     * @param intervalMillis Probe interval in milliseconds
+     */
+    public HealthMonitor(BooleanSupplier probe, Supplier<HikariPoolMXBean> poolSupplier, IntSupplier queuedSupplier,
+                         int maxPoolSize, int maxWaitingThreads, long intervalMillis) {
+        this(probe, poolSupplier, queuedSupplier, maxPoolSize, maxWaitingThreads, intervalMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Create a health monitor with a custom clock (for testing)
+     */
+    HealthMonitor(BooleanSupplier probe, Supplier<HikariPoolMXBean> poolSupplier,
+                  int maxPoolSize, int maxWaitingThreads, long intervalMillis, LongSupplier clock) {
+        this(probe, poolSupplier, () -> 0, maxPoolSize, maxWaitingThreads, intervalMillis, clock);
+    }
+
+    /**
+     * Create a health monitor with a queue supplier and a custom clock (for testing)
+     */
+    HealthMonitor(BooleanSupplier probe, Supplier<HikariPoolMXBean> poolSupplier, IntSupplier queuedSupplier,
+                  int maxPoolSize, int maxWaitingThreads, long intervalMillis, LongSupplier clock) {
+        this.probe = probe;
+        this.poolSupplier = poolSupplier;
+        this.queuedSupplier = queuedSupplier;
+        this.maxPoolSize = maxPoolSize;
+        this.maxWaitingThreads = maxWaitingThreads;
+        this.intervalMillis = intervalMillis;
+        this.staleAfterMillis = intervalMillis * 3;
+        this.clock = clock;
+    }
+
+    /**
+     * Start probing in the background. The first probe runs synchronously so
+     * that the cached state is valid as soon as this method returns.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        refresh();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HRApp-HealthMonitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        LOGGER.info("Health monitor started, probe interval " + intervalMillis + " ms");
+    }
+
+    /**
+     * Stop probing
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+            LOGGER.info("Health monitor stopped");
+        }
+    }
+
+    /**
+     * Run one probe and update the cached status
+     */
+    void refresh() {
+        boolean databaseUp;
+        try {
+            databaseUp = probe.getAsBoolean();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Health probe failed", e);
+            databaseUp = false;
+        }
+
+        int active = 0, idle = 0, total = 0, waiting = 0;
+        try {
+            HikariPoolMXBean pool = poolSupplier.get();
+            if (pool != null) {
+                active = pool.getActiveConnections();
+                idle = pool.getIdleConnections();
+                total = pool.getTotalConnections();
+                waiting = pool.getThreadsAwaitingConnection();
+            }
+            waiting += queuedSupplier.getAsInt();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.FINE, "Pool statistics unavailable", e);
+        }
+
+        boolean saturated = active >= maxPoolSize && waiting > maxWaitingThreads;
+        Status previous = status;
+        status = new Status(databaseUp, saturated, active, idle, total, waiting, clock.getAsLong());
+
+        if (previous.isDatabaseUp() != databaseUp || previous.isSaturated() != saturated) {
+            LOGGER.info("Health state changed: " + status);
+        }
+    }
+
+    /**
+     * Get the last cached status
+     *
+     * @return Status snapshot
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Check whether the cached status is recent enough to trust
+     *
+     * @return true if the last probe finished within the staleness bound
+     */
+    public boolean isFresh() {
+        Status current = status;
+        return current.getCheckedAt() > 0 && clock.getAsLong() - current.getCheckedAt() <= staleAfterMillis;
+    }
+
+    /**
+     * Liveness of the database as seen by the last probe
+     *
+     * @return true if the database answered the last probe and the result is fresh
+     */
+    public boolean isHealthy() {
+        return status.isDatabaseUp() && isFresh();
+    }
+
+    /**
+     * Readiness to take traffic: healthy and the pool is not saturated
+     *
+     * @return true if ready
+     */
+    public boolean isReady() {
+        return isHealthy() && !status.isSaturated();
+    }
+
+    /**
+     * Immutable health snapshot
+     */
+    public static final class Status {
+        static final Status UNKNOWN = new Status(false, false, 0, 0, 0, 0, 0);
+
+        private final boolean databaseUp;
+        private final boolean saturated;
+        private final int activeConnections;
+        private final int idleConnections;
+        private final int totalConnections;
+        private final int threadsAwaiting;
+        private final long checkedAt;
+
+        Status(boolean databaseUp, boolean saturated, int activeConnections, int idleConnections,
+               int totalConnections, int threadsAwaiting, long checkedAt) {
+            this.databaseUp = databaseUp;
+            this.saturated = saturated;
+            this.activeConnections = activeConnections;
+            this.idleConnections = idleConnections;
+            this.totalConnections = totalConnections;
+            this.threadsAwaiting = threadsAwaiting;
+            this.checkedAt = checkedAt;
+        }
+
+        public boolean isDatabaseUp() { return databaseUp; }
+        public boolean isSaturated() { return saturated; }
+        public int getActiveConnections() { return activeConnections; }
+        public int getIdleConnections() { return idleConnections; }
+        public int getTotalConnections() { return totalConnections; }
+        public int getThreadsAwaiting() { return threadsAwaiting; }
+        public long getCheckedAt() { return checkedAt; }
+
+        @Override
+        public String toString() {
+            return String.format("Status{databaseUp=%s, saturated=%s, active=%d, idle=%d, total=%d, waiting=%d}",
+                    databaseUp, saturated, activeConnections, idleConnections, totalConnections, threadsAwaiting);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.hrapp.jdbc.samples.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+/**
+ * Background listener for a PostgreSQL NOTIFY channel.
+ *
+ * A single daemon thread holds one dedicated (unpooled) connection that has
+ * executed LISTEN, waits for notifications and passes each payload to the
+ * registered subscribers. A pooled connection cannot be used: LISTEN is
+ * bound to the session and would be lost when the connection is returned.
+ *
+ * If the connection fails, the listener reconnects with a growing delay.
+ * Notifications sent while it was disconnected are lost, so subscribers are
+ * told to resynchronize after every reconnect.
+ *
+ * @author HR Application Team
+ */
+public class NotificationListener {
+
+    private static final Logger LOGGER = Logger.getLogger(NotificationListener.class.getName());
+
+    // Channel the V6 migration notifies on
+    public static final String EMPLOYEES_CHANNEL = "employees_changed";
+
+    // Default configuration values
+    public static final long DEFAULT_POLL_MILLIS = 10000;
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 30000;
+
+    /**
+     * Receives notifications on the listener thread. Implementations must
+     * not block.
+     */
+    public interface Subscriber {
+
+        /**
+         * Handle one notification
+         *
+         * @param payload Notification payload (empty string if none was sent)
+         */
+        void onNotification(String payload);
+
+        /**
+         * Called after the listener reconnected; notifications may have been missed
+         */
+        default void onReconnect() {
+        }
+    }
+
+    private final ConnectionBulkhead.ConnectionSource connectionSource;
+    private final String channel;
+    private final long pollMillis;
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread thread;
+
+    /**
+     * Create a listener
+     *
+     * @param connectionSource Opens a dedicated connection (closed by the listener)
+     * @param channel Channel name (an SQL identifier, not user input)
+     * @param pollMillis Longest wait for notifications before checking for shutdown
+     */
+    public NotificationListener(ConnectionBulkhead.ConnectionSource connectionSource, String channel, long pollMillis) {
+        this.connectionSource = connectionSource;
+        this.channel = channel;
+        this.pollMillis = pollMillis;
+    }
+
+    public void subscribe(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Check whether the listening connection is currently established
+     *
+     * @return true if notifications are being received
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    /**
+     * Start listening in the background
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "HRApp-NotificationListener");
+        thread.setDaemon(true);
+        thread.start();
+        LOGGER.info("Notification listener started on channel " + channel);
+    }
+
+    /**
+     * Stop listening and close the connection
+     */
+    public synchronized void stop() {
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join(pollMillis + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        LOGGER.info("Notification listener stopped");
+    }
+
+    private void run() {
+        long reconnectDelay = 1000;
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = connectionSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                listening = true;
+                reconnectDelay = 1000;
+                if (connectedBefore) {
+                    LOGGER.info("Notification listener reconnected on channel " + channel);
+                    for (Subscriber subscriber : subscribers) {
+                        dispatch(subscriber, null);
+                    }
+                }
+                connectedBefore = true;
+                poll(connection.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                LOGGER.log(Level.WARNING, "Notification listener connection failed, retrying in " +
+                          reconnectDelay + " ms: " + e.getMessage());
+            } finally {
+                listening = false;
+            }
+
+            try {
+                Thread.sleep(reconnectDelay);
+            } catch (InterruptedException e) {
+                break;
+            }
+            reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * Wait for notifications until stopped or the connection fails
+     */
+    void poll(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications((int) pollMillis);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                for (Subscriber subscriber : subscribers) {
+                    dispatch(subscriber, notification.getParameter());
+                }
+            }
+        }
+    }
+
+    private static void dispatch(Subscriber subscriber, String payload) {
+        try {
+            if (payload == null) {
+                subscriber.onReconnect();
+            } else {
+                subscriber.onNotification(payload);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Notification subscriber failed", e);
+        }
+    }
+}
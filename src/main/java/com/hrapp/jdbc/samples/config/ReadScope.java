@@ -0,0 +1,183 @@
+package com.hrapp.jdbc.samples.config;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read routing state of one client request (or one client session, carried
+ * from request to request by the web tier).
+ *
+ * A write on the primary keeps the writer's own reads on the primary until
+ * the replica can have replayed it, so a client sees its own changes
+ * without pinning every other client on the node to the primary as well.
+ * Work outside a scope (background refreshes, listeners) is routed on lag
+ * alone.
+ *
+ * The scope also records where its reads went. Once a read has used the
+ * primary, later reads of the scope stay there, so that a table version and
+ * the rows it tags come from the same source. If a later read still ends up
+ * elsewhere (the replica fell behind after the first read), the scope is
+ * marked mixed and its results should not be tagged with that version.
+ *
+ * The scope is bound to the thread that serves the request; work handed to
+ * another thread is bound with {@link #propagate(Supplier)}.
+ *
+ * @author HR Application Team
+ */
+public final class ReadScope {
+
+    private static final ThreadLocal<ReadScope> CURRENT = new ThreadLocal<>();
+
+    // Reads stay on the primary until this time (epoch milliseconds)
+    private volatile long primaryUntil;
+
+    // Source of the reads so far
+    private static final int UNROUTED = 0;
+    private static final int PRIMARY = 1;
+    private static final int REPLICA = 2;
+    private int route = UNROUTED;
+    private volatile boolean mixed;
+
+    private ReadScope(long primaryUntil) {
+        this.primaryUntil = primaryUntil;
+    }
+
+    /**
+     * Bind a new scope to the current thread
+     *
+     * @param primaryUntil Time until which reads stay on the primary, from
+     *                     an earlier request of the same client (0 for none)
+     * @return New scope
+     */
+    public static ReadScope begin(long primaryUntil) {
+        ReadScope scope = new ReadScope(primaryUntil);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Get the scope bound to the current thread
+     *
+     * @return Scope, or null outside a request
+     */
+    public static ReadScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Unbind the scope from the current thread
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Run an operation in the current thread's scope on whichever thread
+     * executes it
+     *
+     * @param operation Operation to wrap
+     * @return Wrapped operation, or the operation itself outside a scope
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> operation) {
+        ReadScope scope = CURRENT.get();
+        if (scope == null) {
+            return operation;
+        }
+        return () -> scope.run(operation);
+    }
+
+    /**
+     * Run a continuation in the current thread's scope on whichever thread
+     * executes it
+     *
+     * @param operation Continuation to wrap
+     * @return Wrapped continuation, or the continuation itself outside a scope
+     */
+    public static <T, R> Function<T, R> propagate(Function<T, R> operation) {
+        ReadScope scope = CURRENT.get();
+        if (scope == null) {
+            return operation;
+        }
+        return value -> scope.run(() -> operation.apply(value));
+    }
+
+    private <T> T run(Supplier<T> operation) {
+        ReadScope previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return operation.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Keep reads on the primary until the given time
+     *
+     * @param until Epoch milliseconds
+     */
+    void markWrite(long until) {
+        synchronized (this) {
+            if (until > primaryUntil) {
+                primaryUntil = until;
+            }
+        }
+    }
+
+    /**
+     * Check whether reads must stay on the primary
+     *
+     * @param now Epoch milliseconds
+     * @return true within the lag bound after a write of this scope
+     */
+    boolean keepsPrimary(long now) {
+        return now < primaryUntil;
+    }
+
+    /**
+     * Check whether reads must stay on the primary because an earlier read
+     * of this scope used it
+     *
+     * @return true once a read went to the primary
+     */
+    synchronized boolean isPinnedToPrimary() {
+        return route == PRIMARY;
+    }
+
+    /**
+     * Record the source of a read
+     *
+     * @param replica true if the read went to the replica
+     */
+    synchronized void recordRoute(boolean replica) {
+        int source = replica ? REPLICA : PRIMARY;
+        if (route == UNROUTED) {
+            route = source;
+        } else if (route != source) {
+            mixed = true;
+        }
+    }
+
+    /**
+     * Check whether the reads of this scope used both the primary and the
+     * replica, so that they may not reflect the same table version
+     *
+     * @return true if the reads came from different sources
+     */
+    public boolean isMixed() {
+        return mixed;
+    }
+
+    /**
+     * Get the time until which reads stay on the primary
+     *
+     * @return Epoch milliseconds, 0 if this client has not written
+     */
+    public long getPrimaryUntil() {
+        return primaryUntil;
+    }
+}
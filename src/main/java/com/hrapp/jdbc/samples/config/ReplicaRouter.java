@@ -0,0 +1,225 @@
+package com.hrapp.jdbc.samples.config;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Routes read-only work to a streaming replica while it is close enough
+ * to the primary.
+ *
+ * Replication lag is measured from pg_last_xact_replay_timestamp() on a
+ * replica connection that is about to be handed out anyway, at most once
+ * per check interval, so routing normally costs no extra round trip. When
+ * the lag exceeds the configured bound, or the replica cannot be reached,
+ * {@link #getConnection()} returns null and the caller uses the primary
+ * until a later check sees the replica caught up again.
+ *
+ * Reads that follow a write on the primary within the lag bound are also
+ * sent to the primary, but only for the {@link ReadScope} that wrote, so
+ * that steady writes from one client do not keep the whole node off the
+ * replica. While any write of this node may not have been replayed,
+ * {@link #isCatchingUp()} tells callers not to cache replica rows. Once a
+ * read of a scope has gone to the primary, the rest of the scope's reads
+ * follow it.
+ *
+ * @author HR Application Team
+ */
+public class ReplicaRouter {
+
+    private static final Logger LOGGER = Logger.getLogger(ReplicaRouter.class.getName());
+
+    // Default configuration values
+    public static final long DEFAULT_MAX_LAG_MILLIS = 1000;
+    public static final long DEFAULT_CHECK_INTERVAL_MILLIS = 1000;
+
+    // Lag is 0 on a primary and on a replica that has replayed everything it
+    // received; NULL if the replica has not replayed any transaction yet
+    static final String LAG_SQL =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE (EXTRACT(EPOCH FROM (clock_timestamp() - pg_last_xact_replay_timestamp())) * 1000)::BIGINT END";
+
+    // Marker for an unknown or unmeasurable lag
+    public static final long LAG_UNKNOWN = -1;
+
+    private final DataSource replica;
+    private final long maxLagMillis;
+    private final long checkIntervalMillis;
+    private final LongSupplier clock;
+
+    private final AtomicLong nextCheckAt = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong lastPrimaryUseAt = new AtomicLong(Long.MIN_VALUE);
+    private volatile boolean usable;
+    private volatile long lagMillis = LAG_UNKNOWN;
+
+    // Reads sent to the primary only because their scope wrote recently
+    private final LongAdder stickyReads = new LongAdder();
+
+    /**
+     * Create a replica router
+     *
+     * @param replica Replica connection pool
+     * @param maxLagMillis Replica is bypassed while its lag exceeds this bound
+     * @param checkIntervalMillis Minimum time between lag measurements
+     */
+    public ReplicaRouter(DataSource replica, long maxLagMillis, long checkIntervalMillis) {
+        this(replica, maxLagMillis, checkIntervalMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Create a replica router with a custom clock (for testing)
+     */
+    ReplicaRouter(DataSource replica, long maxLagMillis, long checkIntervalMillis, LongSupplier clock) {
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+        this.checkIntervalMillis = checkIntervalMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Get a replica connection for read-only work
+     *
+     * @return Replica connection, or null if the primary should be used
+     */
+    public Connection getConnection() {
+        long now = clock.getAsLong();
+        ReadScope scope = ReadScope.current();
+        if (scope == null) {
+            return route(now);
+        }
+
+        Connection connection;
+        if (scope.keepsPrimary(now)) {
+            if (usable) {
+                stickyReads.increment();
+            }
+            connection = null;
+        } else if (scope.isPinnedToPrimary()) {
+            connection = null;
+        } else {
+            connection = route(now);
+        }
+        scope.recordRoute(connection != null);
+        return connection;
+    }
+
+    private Connection route(long now) {
+        // Only one caller per interval measures the lag
+        long due = nextCheckAt.get();
+        boolean check = now >= due && nextCheckAt.compareAndSet(due, now + checkIntervalMillis);
+        if (!check && !usable) {
+            return null;
+        }
+
+        Connection connection;
+        try {
+            connection = replica.getConnection();
+        } catch (SQLException e) {
+            markUnusable("Replica unavailable, reading from primary: " + e.getMessage(), e);
+            return null;
+        }
+
+        if (check) {
+            try {
+                lagMillis = measureLag(connection);
+            } catch (SQLException e) {
+                ConnectionFactory.closeConnection(connection);
+                markUnusable("Replica lag check failed, reading from primary: " + e.getMessage(), e);
+                return null;
+            }
+
+            boolean withinBound = lagMillis != LAG_UNKNOWN && lagMillis <= maxLagMillis;
+            if (withinBound != usable) {
+                LOGGER.info(withinBound
+                    ? "Replica lag " + lagMillis + " ms within bound, routing reads to replica"
+                    : "Replica lag " + (lagMillis == LAG_UNKNOWN ? "unknown" : lagMillis + " ms") +
+                      " exceeds " + maxLagMillis + " ms, routing reads to primary");
+            }
+            usable = withinBound;
+            if (!withinBound) {
+                ConnectionFactory.closeConnection(connection);
+                return null;
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Record that the primary was used, possibly for a write. Reads of the
+     * current scope are kept on the primary for the lag bound afterwards.
+     */
+    public void markPrimaryUse() {
+        long now = clock.getAsLong();
+        lastPrimaryUseAt.set(now);
+        ReadScope scope = ReadScope.current();
+        if (scope != null) {
+            scope.markWrite(now + maxLagMillis);
+        }
+    }
+
+    /**
+     * Check whether the replica may not have replayed a recent write of
+     * this node yet. Rows read from the replica now must not be cached.
+     *
+     * @return true within the lag bound after the last primary use
+     */
+    public boolean isCatchingUp() {
+        long lastPrimaryUse = lastPrimaryUseAt.get();
+        return lastPrimaryUse != Long.MIN_VALUE && clock.getAsLong() - lastPrimaryUse < maxLagMillis;
+    }
+
+    /**
+     * Get the number of reads sent to the primary, although the replica was
+     * usable, because their scope had written within the lag bound
+     *
+     * @return Read count since startup
+     */
+    public long getStickyReadCount() {
+        return stickyReads.sum();
+    }
+
+    /**
+     * Check whether reads are currently routed to the replica
+     *
+     * @return true if the last lag check found the replica within bound
+     */
+    public boolean isUsable() {
+        return usable;
+    }
+
+    /**
+     * Get the last measured replication lag
+     *
+     * @return Lag in milliseconds, or LAG_UNKNOWN
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    private long measureLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+            if (resultSet.next()) {
+                long lag = resultSet.getLong(1);
+                return resultSet.wasNull() ? LAG_UNKNOWN : Math.max(lag, 0);
+            }
+            return LAG_UNKNOWN;
+        }
+    }
+
+    private void markUnusable(String message, SQLException e) {
+        if (usable) {
+            LOGGER.log(Level.WARNING, message, e);
+        } else {
+            LOGGER.log(Level.FINE, message, e);
+        }
+        usable = false;
+    }
+}
@@ -0,0 +1,129 @@
+package com.hrapp.jdbc.samples.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts JDBC calls that cost a server round trip.
+ *
+ * Connections handed out by the pool are wrapped in a dynamic proxy that
+ * counts statement executions (execute, executeQuery, executeUpdate,
+ * executeBatch) and the connection calls that talk to the server
+ * (isValid, setSchema, commit, rollback, setTransactionIsolation).
+ * Rows fetched by a cursor after the first batch are not counted.
+ *
+ * The global count covers all threads; the per-thread count lets a test
+ * or benchmark measure the cost of a single operation under concurrency.
+ *
+ * @author HR Application Team
+ */
+public class RoundTripCounter {
+
+    private static final Set<String> CONNECTION_ROUND_TRIPS = Set.of(
+        "isValid", "setSchema", "commit", "rollback", "setTransactionIsolation");
+
+    private static final Set<String> STATEMENT_ROUND_TRIPS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of(
+        "createStatement", "prepareStatement", "prepareCall");
+
+    private final LongAdder total = new LongAdder();
+    private final ThreadLocal<long[]> perThread = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Wrap a connection so that its round trips are counted
+     *
+     * @param connection Connection to wrap
+     * @return Counting connection
+     */
+    public Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new CountingHandler(connection, CONNECTION_ROUND_TRIPS, true));
+    }
+
+    /**
+     * Get the number of round trips counted on all threads
+     *
+     * @return Round trip count
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Get the number of round trips counted on the current thread
+     *
+     * @return Round trip count for this thread
+     */
+    public long getThreadCount() {
+        return perThread.get()[0];
+    }
+
+    /**
+     * Reset the counter of the current thread
+     */
+    public void resetThreadCount() {
+        perThread.get()[0] = 0;
+    }
+
+    private void record() {
+        total.increment();
+        perThread.get()[0]++;
+    }
+
+    /**
+     * Invocation handler shared by connection and statement proxies
+     */
+    private final class CountingHandler implements InvocationHandler {
+        private final Object target;
+        private final Set<String> roundTrips;
+        private final boolean isConnection;
+
+        CountingHandler(Object target, Set<String> roundTrips, boolean isConnection) {
+            this.target = target;
+            this.roundTrips = roundTrips;
+            this.isConnection = isConnection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (roundTrips.contains(name)) {
+                record();
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (isConnection && STATEMENT_FACTORIES.contains(name) && result instanceof Statement) {
+                return wrapStatement((Statement) result);
+            }
+            return result;
+        }
+
+        private Statement wrapStatement(Statement statement) {
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+            return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(),
+                new Class<?>[] {type},
+                new CountingHandler(statement, STATEMENT_ROUND_TRIPS, false));
+        }
+    }
+}
@@ -374,19 +374,11 @@ public class Employee {
     }
     
     /**
-     * Convert to JSON-like string representation
+     * Convert to JSON string representation (strings escaped, null fields as null)
      * 
-     * @return JSON-style string
+     * @return JSON object
      */
     public String toJson() {
-        return "{" +
-               "\"employeeId\":" + employeeId + "," +
-               "\"firstName\":\"" + firstName + "\"," +
-               "\"lastName\":\"" + lastName + "\"," +
-               "\"email\":\"" + email + "\"," +
-               "\"phoneNumber\":\"" + phoneNumber + "\"," +
-               "\"jobId\":\"" + jobId + "\"," +
-               "\"salary\":" + salary +
-               "}";
+        return EmployeeJsonWriter.toJson(this, true);
     }
 }
\ No newline at end of file
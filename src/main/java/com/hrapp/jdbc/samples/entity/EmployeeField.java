@@ -0,0 +1,153 @@
+package com.hrapp.jdbc.samples.entity;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Employee attributes that can be selected individually.
+ *
+ * Each field knows its JSON name and its column in the employees table, so
+ * a projection such as {@code fields=employeeId,firstName,lastName} narrows
+ * both the SELECT column list and the JSON output.
+ *
+ * @author HR Application Team
+ */
+public enum EmployeeField {
+
+    EMPLOYEE_ID("employeeId", "employee_id"),
+    FIRST_NAME("firstName", "first_name"),
+    LAST_NAME("lastName", "last_name"),
+    EMAIL("email", "email"),
+    PHONE_NUMBER("phoneNumber", "phone_number"),
+    JOB_ID("jobId", "job_id"),
+    SALARY("salary", "salary");
+
+    /** Every field (the default when no projection is requested) */
+    public static final Set<EmployeeField> ALL = Collections.unmodifiableSet(EnumSet.allOf(EmployeeField.class));
+
+    private final String jsonName;
+    private final String columnName;
+
+    EmployeeField(String jsonName, String columnName) {
+        this.jsonName = jsonName;
+        this.columnName = columnName;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    /**
+     * Find a field by its JSON name (case-insensitive)
+     *
+     * @param jsonName JSON attribute name, e.g. "firstName"
+     * @return Field, or null if there is no such field
+     */
+    public static EmployeeField fromJsonName(String jsonName) {
+        for (EmployeeField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(jsonName)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse a comma-separated list of JSON field names
+     *
+     * @param fields Field list such as "employeeId,firstName", or null/empty for all fields
+     * @return Selected fields
+     * @throws IllegalArgumentException if a name is unknown
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<EmployeeField> selected = EnumSet.noneOf(EmployeeField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            EmployeeField field = fromJsonName(trimmed);
+            if (field == null) {
+                throw new IllegalArgumentException("Unknown field: " + trimmed);
+            }
+            selected.add(field);
+        }
+        return selected.isEmpty() ? ALL : selected;
+    }
+
+    /**
+     * Build the SELECT column list for a projection, in declaration order
+     *
+     * @param fields Selected fields
+     * @return Comma-separated column names
+     */
+    public static String columnList(Set<EmployeeField> fields) {
+        StringBuilder columns = new StringBuilder();
+        for (EmployeeField field : values()) {
+            if (fields.contains(field)) {
+                if (columns.length() > 0) {
+                    columns.append(", ");
+                }
+                columns.append(field.columnName);
+            }
+        }
+        return columns.toString();
+    }
+
+    /**
+     * Map a row selected with {@link #columnList(Set)}. Fields outside the
+     * projection are left null.
+     *
+     * @param resultSet Result set positioned on a row
+     * @param fields Fields the row was selected with
+     * @return Partially populated employee
+     * @throws SQLException if ResultSet access fails
+     */
+    public static Employee map(ResultSet resultSet, Set<EmployeeField> fields) throws SQLException {
+        Employee employee = new Employee();
+        int index = 1;
+        for (EmployeeField field : values()) {
+            if (fields.contains(field)) {
+                field.read(resultSet, index++, employee);
+            }
+        }
+        return employee;
+    }
+
+    private void read(ResultSet resultSet, int index, Employee employee) throws SQLException {
+        switch (this) {
+            case EMPLOYEE_ID:
+                int employeeId = resultSet.getInt(index);
+                employee.setEmployeeId(resultSet.wasNull() ? null : employeeId);
+                break;
+            case FIRST_NAME:
+                employee.setFirstName(resultSet.getString(index));
+                break;
+            case LAST_NAME:
+                employee.setLastName(resultSet.getString(index));
+                break;
+            case EMAIL:
+                employee.setEmail(resultSet.getString(index));
+                break;
+            case PHONE_NUMBER:
+                employee.setPhoneNumber(resultSet.getString(index));
+                break;
+            case JOB_ID:
+                employee.setJobId(resultSet.getString(index));
+                break;
+            case SALARY:
+                employee.setSalary(resultSet.getBigDecimal(index));
+                break;
+        }
+    }
+}
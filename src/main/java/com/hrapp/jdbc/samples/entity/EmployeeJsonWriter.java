@@ -0,0 +1,383 @@
+package com.hrapp.jdbc.samples.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Hand-written streaming JSON encoder for {@link Employee}.
+ *
+ * Writes UTF-8 bytes straight into a small reusable buffer in front of an
+ * OutputStream: field names are pre-encoded, strings are escaped and
+ * encoded character by character and integers digit by digit, so no
+ * intermediate String, char[] or reflection is involved per row.
+ *
+ * The output is identical to Gson's default serialization of Employee:
+ * same field names and order, null fields omitted (unless serializeNulls is
+ * set), and the same HTML-safe escaping of {@code < > & = '}.
+ *
+ * A set of {@link EmployeeField}s restricts the output to a projection;
+ * fields outside it are never written.
+ *
+ * Not thread-safe; use one writer per response.
+ *
+ * @author HR Application Team
+ */
+public class EmployeeJsonWriter implements Closeable, Flushable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // Largest number of bytes a single char can expand to (\\uXXXX escape)
+    private static final int MAX_BYTES_PER_CHAR = 6;
+
+    private static final byte[] EMPLOYEE_ID = ascii("\"employeeId\":");
+    private static final byte[] FIRST_NAME = ascii("\"firstName\":");
+    private static final byte[] LAST_NAME = ascii("\"lastName\":");
+    private static final byte[] EMAIL = ascii("\"email\":");
+    private static final byte[] PHONE_NUMBER = ascii("\"phoneNumber\":");
+    private static final byte[] JOB_ID = ascii("\"jobId\":");
+    private static final byte[] SALARY = ascii("\"salary\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    private final OutputStream out;
+    private final boolean serializeNulls;
+    private final Set<EmployeeField> fields;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    // True until the first element of the current array has been written
+    private boolean firstElement = true;
+    // True until the first field of the current object has been written
+    private boolean firstField;
+
+    /**
+     * Create a writer that omits null fields (like Gson's defaults)
+     *
+     * @param out Stream to write UTF-8 JSON to
+     */
+    public EmployeeJsonWriter(OutputStream out) {
+        this(out, false);
+    }
+
+    /**
+     * Create a writer
+     *
+     * @param out Stream to write UTF-8 JSON to
+     * @param serializeNulls true to write null fields as JSON null
+     */
+    public EmployeeJsonWriter(OutputStream out, boolean serializeNulls) {
+        this(out, serializeNulls, EmployeeField.ALL);
+    }
+
+    /**
+     * Create a writer for a projection
+     *
+     * @param out Stream to write UTF-8 JSON to
+     * @param serializeNulls true to write null fields (within the projection) as JSON null
+     * @param fields Fields to write
+     */
+    public EmployeeJsonWriter(OutputStream out, boolean serializeNulls, Set<EmployeeField> fields) {
+        this.out = out;
+        this.serializeNulls = serializeNulls;
+        this.fields = fields;
+    }
+
+    /**
+     * Encode a single employee as a JSON string
+     *
+     * @param employee Employee to encode
+     * @param serializeNulls true to write null fields as JSON null
+     * @return JSON object
+     */
+    public static String toJson(Employee employee, boolean serializeNulls) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (EmployeeJsonWriter writer = new EmployeeJsonWriter(bytes, serializeNulls)) {
+            writer.write(employee);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    public EmployeeJsonWriter beginArray() throws IOException {
+        writeByte('[');
+        firstElement = true;
+        return this;
+    }
+
+    public EmployeeJsonWriter endArray() throws IOException {
+        writeByte(']');
+        return this;
+    }
+
+    /**
+     * Write a whole list as a JSON array
+     *
+     * @param employees Employees to write
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public EmployeeJsonWriter writeArray(Collection<Employee> employees) throws IOException {
+        beginArray();
+        for (Employee employee : employees) {
+            write(employee);
+        }
+        return endArray();
+    }
+
+    /**
+     * Write one employee, as an array element if inside an array
+     *
+     * @param employee Employee to write (null is written as JSON null)
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public EmployeeJsonWriter write(Employee employee) throws IOException {
+        if (!firstElement) {
+            writeByte(',');
+        }
+        firstElement = false;
+
+        if (employee == null) {
+            writeBytes(NULL);
+            return this;
+        }
+
+        writeByte('{');
+        firstField = true;
+        if (fields.contains(EmployeeField.EMPLOYEE_ID)) {
+            Integer employeeId = employee.getEmployeeId();
+            if (employeeId != null) {
+                writeName(EMPLOYEE_ID);
+                writeInt(employeeId);
+            } else if (serializeNulls) {
+                writeName(EMPLOYEE_ID);
+                writeBytes(NULL);
+            }
+        }
+        writeStringField(EmployeeField.FIRST_NAME, FIRST_NAME, employee.getFirstName());
+        writeStringField(EmployeeField.LAST_NAME, LAST_NAME, employee.getLastName());
+        writeStringField(EmployeeField.EMAIL, EMAIL, employee.getEmail());
+        writeStringField(EmployeeField.PHONE_NUMBER, PHONE_NUMBER, employee.getPhoneNumber());
+        writeStringField(EmployeeField.JOB_ID, JOB_ID, employee.getJobId());
+        if (fields.contains(EmployeeField.SALARY)) {
+            if (employee.getSalary() != null) {
+                writeName(SALARY);
+                // BigDecimal caches its string form, so this allocates at most once per value
+                writeAscii(employee.getSalary().toString());
+            } else if (serializeNulls) {
+                writeName(SALARY);
+                writeBytes(NULL);
+            }
+        }
+        writeByte('}');
+        return this;
+    }
+
+    /**
+     * Write one employee as a line of newline-delimited JSON (NDJSON)
+     *
+     * @param employee Employee to write
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public EmployeeJsonWriter writeLine(Employee employee) throws IOException {
+        firstElement = true;
+        write(employee);
+        writeByte('\n');
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * Flush buffered bytes and close the underlying stream
+     */
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+        out.close();
+    }
+
+    private void writeStringField(EmployeeField field, byte[] name, String value) throws IOException {
+        if (!fields.contains(field)) {
+            return;
+        }
+        if (value != null) {
+            writeName(name);
+            writeString(value);
+        } else if (serializeNulls) {
+            writeName(name);
+            writeBytes(NULL);
+        }
+    }
+
+    private void writeName(byte[] name) throws IOException {
+        if (!firstField) {
+            writeByte(',');
+        }
+        firstField = false;
+        writeBytes(name);
+    }
+
+    private void writeString(String value) throws IOException {
+        writeByte('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (position > BUFFER_SIZE - MAX_BYTES_PER_CHAR) {
+                flushBuffer();
+            }
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                writeAsciiChar(c);
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (c == 0x2028 || c == 0x2029) {
+                // Line and paragraph separators break JavaScript string literals
+                writeUnicodeEscape(c);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate: replaced like the JDK's UTF-8 encoder does
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeAsciiChar(char c) {
+        switch (c) {
+            case '"':
+                buffer[position++] = '\\';
+                buffer[position++] = '"';
+                break;
+            case '\\':
+                buffer[position++] = '\\';
+                buffer[position++] = '\\';
+                break;
+            case '\t':
+                buffer[position++] = '\\';
+                buffer[position++] = 't';
+                break;
+            case '\b':
+                buffer[position++] = '\\';
+                buffer[position++] = 'b';
+                break;
+            case '\n':
+                buffer[position++] = '\\';
+                buffer[position++] = 'n';
+                break;
+            case '\r':
+                buffer[position++] = '\\';
+                buffer[position++] = 'r';
+                break;
+            case '\f':
+                buffer[position++] = '\\';
+                buffer[position++] = 'f';
+                break;
+            case '<':
+            case '>':
+            case '&':
+            case '=':
+            case '\'':
+                // HTML-safe, as Gson does by default
+                writeUnicodeEscape(c);
+                break;
+            default:
+                if (c < 0x20) {
+                    writeUnicodeEscape(c);
+                } else {
+                    buffer[position++] = (byte) c;
+                }
+        }
+    }
+
+    private void writeUnicodeEscape(char c) {
+        buffer[position++] = '\\';
+        buffer[position++] = 'u';
+        buffer[position++] = HEX[(c >> 12) & 0xF];
+        buffer[position++] = HEX[(c >> 8) & 0xF];
+        buffer[position++] = HEX[(c >> 4) & 0xF];
+        buffer[position++] = HEX[c & 0xF];
+    }
+
+    private void writeInt(int value) throws IOException {
+        if (position > BUFFER_SIZE - 11) {
+            flushBuffer();
+        }
+        if (value == Integer.MIN_VALUE) {
+            writeAscii(Integer.toString(value));
+            return;
+        }
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+    }
+
+    private void writeAscii(String value) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (position == BUFFER_SIZE) {
+                flushBuffer();
+            }
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (position > BUFFER_SIZE - bytes.length) {
+            flushBuffer();
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeByte(char c) throws IOException {
+        if (position == BUFFER_SIZE) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) c;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,90 @@
+package com.hrapp.jdbc.samples.entity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Compact, immutable employee row used inside the bean layer.
+ *
+ * Compared with {@link Employee}, the ID is a primitive int instead of a
+ * boxed Integer and the salary is a long number of cents instead of a
+ * BigDecimal, which saves two objects (about half the retained size) per
+ * row. The job code is held as its {@link JobDictionary} ordinal instead
+ * of the String the driver creates for every row. Records are what the
+ * employee cache holds; they are converted to Employee beans only when
+ * they leave the bean layer.
+ *
+ * The salary column is NUMERIC(8,2), so cents represent every stored value
+ * exactly. A missing salary (e.g. a row read with a field projection) is
+ * represented by {@link #NO_SALARY}.
+ *
+ * @param employeeId Employee ID
+ * @param firstName First name
+ * @param lastName Last name
+ * @param email Email address
+ * @param phoneNumber Phone number
+ * @param jobOrdinal Job code ordinal in the shared JobDictionary, or NO_JOB
+ * @param salaryCents Salary in cents, or NO_SALARY
+ * @author HR Application Team
+ */
+public record EmployeeRecord(int employeeId, String firstName, String lastName, String email,
+                             String phoneNumber, short jobOrdinal, long salaryCents) {
+
+    // Marker for a row without a salary
+    public static final long NO_SALARY = Long.MIN_VALUE;
+
+    /**
+     * Convert an Employee bean
+     *
+     * @param employee Employee with an ID
+     * @return Record with the same values
+     * @throws IllegalArgumentException if the employee has no ID
+     * @throws ArithmeticException if the salary does not fit in a long number of cents
+     */
+    public static EmployeeRecord of(Employee employee) {
+        if (employee.getEmployeeId() == null) {
+            throw new IllegalArgumentException("Employee ID is required");
+        }
+        return new EmployeeRecord(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+                                  employee.getEmail(), employee.getPhoneNumber(),
+                                  JobDictionary.getInstance().ordinal(employee.getJobId()),
+                                  toCents(employee.getSalary()));
+    }
+
+    /**
+     * Create a new Employee bean with the values of this record
+     *
+     * @return Employee (salary with scale 2)
+     */
+    public Employee toEmployee() {
+        return new Employee(employeeId, firstName, lastName, email, phoneNumber, jobId(), salary());
+    }
+
+    /**
+     * Get the job code
+     *
+     * @return Shared job code instance from the JobDictionary, or null if the record has none
+     */
+    public String jobId() {
+        return JobDictionary.getInstance().code(jobOrdinal);
+    }
+
+    /**
+     * Get the salary as a decimal amount
+     *
+     * @return Salary with scale 2, or null if the record has none
+     */
+    public BigDecimal salary() {
+        return salaryCents == NO_SALARY ? null : BigDecimal.valueOf(salaryCents, 2);
+    }
+
+    /**
+     * Convert a decimal amount to cents, rounding half-even beyond two decimals
+     *
+     * @param salary Salary, may be null
+     * @return Cents, or NO_SALARY for null
+     */
+    public static long toCents(BigDecimal salary) {
+        return salary == null ? NO_SALARY : salary.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,142 @@
+package com.hrapp.jdbc.samples.entity;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory dictionary of job codes from the hr.jobs catalog.
+ *
+ * Each code is assigned a small ordinal once and keeps it for the lifetime
+ * of the JVM, so records held in caches and snapshots can store a short
+ * instead of their own String copy, and job filters compare integers.
+ * Ordinals are never reassigned: codes are only ever appended, either when
+ * the catalog is loaded at startup or when a code that was added to the
+ * catalog later is first seen in a row.
+ *
+ * The dictionary starts with the job codes of the initial catalog so that
+ * it is usable before (or without) the database.
+ *
+ * @author HR Application Team
+ */
+public final class JobDictionary {
+
+    // Ordinal of a missing (null) job code
+    public static final short NO_JOB = -1;
+
+    // Job codes of the initial hr.jobs catalog (V7 migration)
+    static final String[] DEFAULT_CODES = {
+        "IT_PROG", "HR_REP", "HR_MAN", "SA_REP", "SA_MAN", "FI_ACCOUNT", "FI_MGR", "AD_ASST", "AD_VP", "AD_PRES"
+    };
+
+    private static final JobDictionary INSTANCE = new JobDictionary(DEFAULT_CODES);
+
+    // Copy-on-write: readers never lock, writers replace both under the monitor
+    private volatile String[] codes = new String[0];
+    private volatile Map<String, Short> ordinals = Map.of();
+
+    JobDictionary(String... initialCodes) {
+        addAll(Arrays.asList(initialCodes));
+    }
+
+    /**
+     * Get the dictionary shared by the application
+     *
+     * @return Shared JobDictionary
+     */
+    public static JobDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the ordinal of a job code, assigning the next free ordinal to a code seen for the first time
+     *
+     * @param code Job code, may be null
+     * @return Ordinal, or NO_JOB for null
+     * @throws IllegalStateException if the dictionary is full
+     */
+    public short ordinal(String code) {
+        if (code == null) {
+            return NO_JOB;
+        }
+        Short ordinal = ordinals.get(code);
+        return ordinal != null ? ordinal : add(code);
+    }
+
+    /**
+     * Look up the ordinal of a job code without adding it
+     *
+     * @param code Job code, may be null
+     * @return Ordinal, or NO_JOB if the code is null or not in the dictionary
+     */
+    public short find(String code) {
+        Short ordinal = code != null ? ordinals.get(code) : null;
+        return ordinal != null ? ordinal : NO_JOB;
+    }
+
+    /**
+     * Get the job code of an ordinal
+     *
+     * @param ordinal Ordinal returned by ordinal(String)
+     * @return Shared job code instance, or null for NO_JOB
+     * @throws IllegalArgumentException if the ordinal was never assigned
+     */
+    public String code(short ordinal) {
+        if (ordinal == NO_JOB) {
+            return null;
+        }
+        String[] current = codes;
+        if (ordinal < 0 || ordinal >= current.length) {
+            throw new IllegalArgumentException("Unknown job ordinal: " + ordinal);
+        }
+        return current[ordinal];
+    }
+
+    /**
+     * Add job codes (e.g. the rows of hr.jobs), keeping the ordinals of codes already present
+     *
+     * @param newCodes Job codes; nulls and known codes are skipped
+     * @return Number of codes added
+     * @throws IllegalStateException if the dictionary is full
+     */
+    public synchronized int addAll(Collection<String> newCodes) {
+        int added = 0;
+        for (String code : newCodes) {
+            if (code != null && !ordinals.containsKey(code)) {
+                add(code);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Get the number of job codes
+     *
+     * @return Number of assigned ordinals
+     */
+    public int size() {
+        return codes.length;
+    }
+
+    private synchronized short add(String code) {
+        Short existing = ordinals.get(code);
+        if (existing != null) {
+            return existing;
+        }
+        String[] current = codes;
+        if (current.length > Short.MAX_VALUE) {
+            throw new IllegalStateException("Job dictionary is full");
+        }
+        short ordinal = (short) current.length;
+        String[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[ordinal] = code;
+        Map<String, Short> grownOrdinals = new HashMap<>(ordinals);
+        grownOrdinals.put(code, ordinal);
+        // Publish the code before its ordinal, so code(ordinal) works for every ordinal a reader can see
+        codes = grown;
+        ordinals = grownOrdinals;
+        return ordinal;
+    }
+}
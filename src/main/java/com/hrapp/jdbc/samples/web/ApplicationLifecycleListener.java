@@ -0,0 +1,88 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * ApplicationLifecycleListener: deploy-time startup and undeploy cleanup
+ */
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.bean.EmployeeSnapshotStore;
+import com.hrapp.jdbc.samples.config.DatabaseConfig;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Initializes the database when the application is deployed and shuts it
+ * down, together with the employee snapshot store, when the application is
+ * undeployed.
+ *
+ * DatabaseConfig starts the background {@link com.hrapp.jdbc.samples.config.HealthMonitor},
+ * so /ready can report the database as soon as the application is up
+ * instead of waiting for the first request that touches the database.
+ * Initialization runs on a background thread and is retried until the
+ * database answers; /ready answers 503 until then.
+ *
+ * @author HR Web Application - OpenJDK Migration
+ */
+@WebListener
+public class ApplicationLifecycleListener implements ServletContextListener {
+
+    private static final Logger LOGGER = Logger.getLogger(ApplicationLifecycleListener.class.getName());
+
+    // Time between database initialization attempts while the database is unavailable
+    static final long RETRY_MILLIS = 10000;
+
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HRApp-Startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::initializeDatabase);
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            try {
+                // Let an initialization in progress finish before its pool is closed
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Stop refreshing the snapshot file before the pools it reads from are closed
+        EmployeeSnapshotStore snapshotStore = EmployeeSnapshotStore.getInstanceIfInitialized();
+        if (snapshotStore != null) {
+            snapshotStore.stop();
+        }
+        // Stops the health prober, the change listener and the connection pools
+        DatabaseConfig config = DatabaseConfig.getInstanceIfInitialized();
+        if (config != null) {
+            config.shutdown();
+        }
+    }
+
+    private void initializeDatabase() {
+        try {
+            DatabaseConfig.getInstance();
+            LOGGER.info("Database initialized at startup");
+        } catch (RuntimeException e) {
+            if (scheduler.isShutdown()) {
+                return;
+            }
+            LOGGER.log(Level.WARNING, "Database not available at startup, retrying in " + RETRY_MILLIS + " ms: " +
+                       e.getMessage());
+            scheduler.schedule(this::initializeDatabase, RETRY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+}
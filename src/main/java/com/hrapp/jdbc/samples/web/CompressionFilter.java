@@ -0,0 +1,310 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * CompressionFilter for gzip response compression
+ */
+package com.hrapp.jdbc.samples.web;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.annotation.WebInitParam;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Gzip compression for dynamic responses and static pages.
+ *
+ * Dynamic responses (employee JSON) are compressed on the fly by
+ * {@link GzipResponseWrapper} once they exceed minSize bytes, streaming
+ * instead of buffering the whole body. Static pages and stylesheets are
+ * loaded into a {@link StaticResourceCache} at startup; their gzip copies
+ * are served from memory, with validators and caching headers, to clients
+ * that accept gzip. Other clients fall through to
+ * {@link StaticResourceServlet}, which serves the raw copies from the same
+ * cache.
+ *
+ * Compressed responses carry strong ETags with a "-gzip" suffix. The suffix
+ * is removed from If-None-Match before the request reaches the servlet, so
+ * conditional requests keep matching the servlet's own ETags.
+ *
+ * Init parameters: minSize (bytes, default 1024) and precompress
+ * (comma-separated file extensions, default html,css,js).
+ *
+ * @author HR Web Application - OpenJDK Migration
+ */
+@WebFilter(filterName = "CompressionFilter",
+           urlPatterns = {"/WebController", "/api/*", "*.html", "*.css", "*.js"},
+           asyncSupported = true,
+           initParams = {
+               @WebInitParam(name = "minSize", value = "1024"),
+               @WebInitParam(name = "precompress", value = "html,css,js")
+           })
+public class CompressionFilter implements Filter {
+
+    private static final Logger LOGGER = Logger.getLogger(CompressionFilter.class.getName());
+
+    // Default configuration values
+    public static final int DEFAULT_MIN_SIZE = 1024;
+    private static final String DEFAULT_PRECOMPRESS = "html,css,js";
+
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
+    private int minSize = DEFAULT_MIN_SIZE;
+
+    // Static resources, shared with StaticResourceServlet
+    private StaticResourceCache staticResources = StaticResourceCache.empty();
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        String value = filterConfig.getInitParameter("minSize");
+        if (value != null && !value.isBlank()) {
+            minSize = Integer.parseInt(value.trim());
+        }
+
+        String extensions = filterConfig.getInitParameter("precompress");
+        Set<String> suffixes = new HashSet<>();
+        for (String extension : (extensions != null ? extensions : DEFAULT_PRECOMPRESS).split(",")) {
+            if (!extension.isBlank()) {
+                suffixes.add("." + extension.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        ServletContext context = filterConfig.getServletContext();
+        staticResources = StaticResourceCache.load(context, suffixes);
+        context.setAttribute(StaticResourceCache.CONTEXT_ATTRIBUTE, staticResources);
+        LOGGER.info("Compression filter initialized: " + staticResources.getCompressedCount() +
+                   " static resources precompressed, dynamic responses from " + minSize + " bytes");
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest) || !(response instanceof HttpServletResponse)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        addVary(httpResponse);
+        if (!acceptsGzip(httpRequest.getHeader("Accept-Encoding")) || "HEAD".equals(httpRequest.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        StaticResourceCache.Resource resource = "GET".equals(httpRequest.getMethod())
+                ? staticResources.get(httpRequest.getRequestURI().substring(httpRequest.getContextPath().length()))
+                : null;
+        if (resource != null && resource.isCompressed()) {
+            resource.send(httpRequest, httpResponse, true);
+            return;
+        }
+
+        String ifNoneMatch = httpRequest.getHeader(IF_NONE_MATCH_HEADER);
+        boolean gzipVariantRequested = ifNoneMatch != null && ifNoneMatch.contains(GzipResponseWrapper.GZIP_ETAG_SUFFIX + "\"");
+        GzipResponseWrapper gzipResponse = new GzipResponseWrapper(httpResponse, minSize, gzipVariantRequested);
+        GzipRequestWrapper gzipRequest = new GzipRequestWrapper(httpRequest, gzipResponse);
+
+        chain.doFilter(gzipRequest, gzipResponse);
+
+        // Asynchronous requests are finished when they complete
+        if (!gzipRequest.isAsyncStarted()) {
+            gzipResponse.finish();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        staticResources = StaticResourceCache.empty();
+    }
+
+    /**
+     * Check whether an Accept-Encoding header allows gzip
+     *
+     * @param acceptEncoding Header value, may be null
+     * @return true if gzip (or *) is listed without q=0
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        // An explicit gzip entry takes precedence over *
+        Boolean gzip = null;
+        boolean any = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (parameter.startsWith("q=")) {
+                    try {
+                        accepted = Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (name.equals("gzip")) {
+                gzip = accepted;
+            } else if (name.equals("*")) {
+                any = accepted;
+            }
+        }
+        return gzip != null ? gzip : any;
+    }
+
+    /**
+     * Check whether a content type is worth compressing
+     *
+     * @param contentType Content type, possibly with parameters; may be null
+     * @return true for textual types
+     */
+    static boolean isCompressibleType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/")
+            || type.startsWith("application/json")
+            || type.startsWith("application/x-ndjson")
+            || type.startsWith("application/javascript")
+            || type.startsWith("application/xml")
+            || type.startsWith("image/svg+xml");
+    }
+
+    static void addVary(HttpServletResponse response) {
+        // Caches must keep compressed and uncompressed copies apart
+        response.addHeader("Vary", "Accept-Encoding");
+    }
+
+    /**
+     * Remove the "-gzip" suffix that marks compressed copies from ETags
+     *
+     * @param value If-None-Match header value, may be null
+     * @return Value matching the uncompressed ETags
+     */
+    static String stripGzipSuffix(String value) {
+        return value == null ? null : value.replace(GzipResponseWrapper.GZIP_ETAG_SUFFIX + "\"", "\"");
+    }
+
+    /**
+     * Get the number of precompressed static resources (for testing and monitoring)
+     *
+     * @return Resource count
+     */
+    public int getPrecompressedCount() {
+        return staticResources.getCompressedCount();
+    }
+
+    /**
+     * Request seen by the servlet: If-None-Match without the "-gzip" ETag
+     * suffix, and asynchronous contexts that finish the compressed body
+     * before completing
+     */
+    private static final class GzipRequestWrapper extends HttpServletRequestWrapper {
+        private final GzipResponseWrapper gzipResponse;
+        private AsyncContext asyncContext;
+
+        GzipRequestWrapper(HttpServletRequest request, GzipResponseWrapper gzipResponse) {
+            super(request);
+            this.gzipResponse = gzipResponse;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            return IF_NONE_MATCH_HEADER.equalsIgnoreCase(name) ? stripGzipSuffix(value) : value;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            Enumeration<String> values = super.getHeaders(name);
+            if (!IF_NONE_MATCH_HEADER.equalsIgnoreCase(name) || values == null) {
+                return values;
+            }
+            List<String> stripped = new ArrayList<>();
+            while (values.hasMoreElements()) {
+                stripped.add(stripGzipSuffix(values.nextElement()));
+            }
+            return Collections.enumeration(stripped);
+        }
+
+        @Override
+        public AsyncContext startAsync() {
+            return startAsync(this, gzipResponse);
+        }
+
+        @Override
+        public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+            asyncContext = new FinishingAsyncContext(super.startAsync(servletRequest, servletResponse), gzipResponse);
+            return asyncContext;
+        }
+
+        @Override
+        public AsyncContext getAsyncContext() {
+            return asyncContext != null ? asyncContext : super.getAsyncContext();
+        }
+    }
+
+    /**
+     * Asynchronous context that ends the gzip stream before the response is completed
+     */
+    private static final class FinishingAsyncContext implements AsyncContext {
+        private final AsyncContext delegate;
+        private final GzipResponseWrapper gzipResponse;
+
+        FinishingAsyncContext(AsyncContext delegate, GzipResponseWrapper gzipResponse) {
+            this.delegate = delegate;
+            this.gzipResponse = gzipResponse;
+        }
+
+        @Override
+        public void complete() {
+            try {
+                gzipResponse.finish();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Could not finish compressed response: " + e.getMessage());
+            } finally {
+                delegate.complete();
+            }
+        }
+
+        @Override public ServletRequest getRequest() { return delegate.getRequest(); }
+        @Override public ServletResponse getResponse() { return delegate.getResponse(); }
+        @Override public boolean hasOriginalRequestAndResponse() { return delegate.hasOriginalRequestAndResponse(); }
+        @Override public void dispatch() { delegate.dispatch(); }
+        @Override public void dispatch(String path) { delegate.dispatch(path); }
+        @Override public void dispatch(ServletContext context, String path) { delegate.dispatch(context, path); }
+        @Override public void start(Runnable run) { delegate.start(run); }
+        @Override public void addListener(AsyncListener listener) { delegate.addListener(listener); }
+        @Override
+        public void addListener(AsyncListener listener, ServletRequest servletRequest, ServletResponse servletResponse) {
+            delegate.addListener(listener, servletRequest, servletResponse);
+        }
+        @Override
+        public <T extends AsyncListener> T createListener(Class<T> clazz) throws ServletException {
+            return delegate.createListener(clazz);
+        }
+        @Override public void setTimeout(long timeout) { delegate.setTimeout(timeout); }
+        @Override public long getTimeout() { return delegate.getTimeout(); }
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * EmployeeApiServlet: resource-oriented REST endpoint for employees
+ */
+package com.hrapp.jdbc.samples.web;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.hrapp.jdbc.samples.bean.DataUnavailableException;
+import com.hrapp.jdbc.samples.bean.EmployeePage;
+import com.hrapp.jdbc.samples.bean.JdbcBean;
+import com.hrapp.jdbc.samples.config.ReadScope;
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeField;
+import com.hrapp.jdbc.samples.entity.EmployeeJsonWriter;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * REST endpoint for employees, routed by path and HTTP method:
+ *
+ * <pre>
+ * GET    /api/employees             list (firstName, pageToken, limit, fields)
+ * GET    /api/employees/{id}        one employee (fields)
+ * POST   /api/employees             create, 201 with Location
+ * PUT    /api/employees/{id}        replace all fields
+ * PATCH  /api/employees/{id}        update the fields present in the body
+ * DELETE /api/employees/{id}        delete, 204
+ * </pre>
+ *
+ * The fields parameter (e.g. fields=employeeId,firstName,lastName) narrows
+ * both the SELECT column list and the JSON output. Reads carry the same
+ * table-version ETags as {@link WebController}, or the same X-Snapshot-Age
+ * header when they were answered from the last-known-good snapshot.
+ *
+ * @author HR Web Application - OpenJDK Migration
+ */
+@WebServlet(name = "EmployeeApiServlet", urlPatterns = {"/api/employees", "/api/employees/*"})
+public class EmployeeApiServlet extends HttpServlet {
+
+    private static final Logger LOGGER = Logger.getLogger(EmployeeApiServlet.class.getName());
+
+    private static final String FIELDS = "fields";
+    private static final String FN_KEY = "firstName";
+    private static final String PAGE_TOKEN = "pageToken";
+    private static final String LIMIT = "limit";
+    private static final String NEXT_PAGE_HEADER = "X-Next-Page-Token";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    // Results of resourceId()
+    private static final int COLLECTION = 0;
+    private static final int INVALID_PATH = -1;
+
+    // Unique constraint violation
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private static final Gson GSON = new Gson();
+
+    // Overridable for testing; the application's shared bean when null
+    JdbcBean jdbcBean;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        if (jdbcBean == null) {
+            jdbcBean = SharedJdbcBean.forContext(getServletContext());
+        }
+    }
+
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        // HttpServlet does not dispatch PATCH
+        if ("PATCH".equals(request.getMethod())) {
+            doPatch(request, response);
+        } else {
+            super.service(request, response);
+        }
+    }
+
+    /**
+     * Handles the HTTP <code>GET</code> method: list or single employee.
+     *
+     * @param request servlet request
+     * @param response servlet response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        int empId = resourceId(request);
+        if (empId == INVALID_PATH) {
+            writeError(response, HttpServletResponse.SC_NOT_FOUND, "No such resource");
+            return;
+        }
+
+        try {
+            Set<EmployeeField> fields = EmployeeField.parse(request.getParameter(FIELDS));
+            int limit = empId == COLLECTION ? parseLimit(request.getParameter(LIMIT)) : 0;
+
+            String etag = WebController.toETag(jdbcBean.getDataVersion());
+            if (WebController.matchesETag(request.getHeader("If-None-Match"), etag)) {
+                setETag(response, etag);
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+
+            if (empId == COLLECTION) {
+                EmployeePage page = jdbcBean.getEmployees(request.getParameter(FN_KEY),
+                        request.getParameter(PAGE_TOKEN), limit, fields);
+                if (page.getNextPageToken() != null) {
+                    response.setHeader(NEXT_PAGE_HEADER, page.getNextPageToken());
+                }
+                if (!WebController.setSnapshotAge(response, page.getEmployees())
+                        && !WebController.isMixedRead(ReadScope.current())) {
+                    setETag(response, etag);
+                }
+                writeEmployees(page.getEmployees(), fields, response);
+            } else {
+                List<Employee> employees = jdbcBean.getEmployee(empId, fields);
+                if (employees.isEmpty()) {
+                    writeError(response, HttpServletResponse.SC_NOT_FOUND, "Employee " + empId + " not found");
+                    return;
+                }
+                if (!WebController.setSnapshotAge(response, employees)
+                        && !WebController.isMixedRead(ReadScope.current())) {
+                    setETag(response, etag);
+                }
+                writeEmployee(employees.get(0), fields, response);
+            }
+        } catch (RuntimeException e) {
+            handleFailure(e, response);
+        }
+    }
+
+    /**
+     * Handles the HTTP <code>POST</code> method: create an employee.
+     *
+     * @param request servlet request
+     * @param response servlet response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        if (resourceId(request) != COLLECTION) {
+            response.setHeader("Allow", "GET, PUT, PATCH, DELETE");
+            writeError(response, HttpServletResponse.SC_METHOD_NOT_ALLOWED, "POST is only allowed on the collection");
+            return;
+        }
+
+        try {
+            Employee employee = readEmployee(request);
+            employee.setEmployeeId(null);
+            Employee created = jdbcBean.createEmployee(employee);
+            if (created == null) {
+                writeError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Employee was not created");
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_CREATED);
+            response.setHeader("Location", request.getRequestURL().append('/').append(created.getEmployeeId()).toString());
+            writeEmployee(created, EmployeeField.ALL, response);
+        } catch (RuntimeException e) {
+            handleFailure(e, response);
+        }
+    }
+
+    /**
+     * Handles the HTTP <code>PUT</code> method: replace an employee.
+     *
+     * @param request servlet request
+     * @param response servlet response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doPut(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        int empId = requireItem(request, response);
+        if (empId <= 0) {
+            return;
+        }
+
+        try {
+            Employee employee = readEmployee(request);
+            if (employee.getEmployeeId() != null && employee.getEmployeeId() != empId) {
+                throw new IllegalArgumentException("Employee ID in body does not match the path");
+            }
+            employee.setEmployeeId(empId);
+            writeUpdated(empId, jdbcBean.updateEmployee(employee), response);
+        } catch (RuntimeException e) {
+            handleFailure(e, response);
+        }
+    }
+
+    /**
+     * Handles the HTTP <code>PATCH</code> method: update the fields present
+     * in the JSON body (null clears a field).
+     *
+     * @param request servlet request
+     * @param response servlet response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    protected void doPatch(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        int empId = requireItem(request, response);
+        if (empId <= 0) {
+            return;
+        }
+
+        try {
+            JsonElement body = JsonParser.parseReader(request.getReader());
+            if (!body.isJsonObject()) {
+                throw new IllegalArgumentException("Request body must be a JSON object");
+            }
+            Map<EmployeeField, Object> values = new EnumMap<>(EmployeeField.class);
+            for (Map.Entry<String, JsonElement> entry : body.getAsJsonObject().entrySet()) {
+                EmployeeField field = EmployeeField.fromJsonName(entry.getKey());
+                if (field == null) {
+                    throw new IllegalArgumentException("Unknown field: " + entry.getKey());
+                }
+                if (field == EmployeeField.EMPLOYEE_ID) {
+                    continue;
+                }
+                JsonElement value = entry.getValue();
+                if (!value.isJsonNull() && !value.isJsonPrimitive()) {
+                    throw new IllegalArgumentException("Field " + entry.getKey() + " must be a string or a number");
+                }
+                if (value.isJsonNull()) {
+                    values.put(field, null);
+                } else if (field == EmployeeField.SALARY) {
+                    values.put(field, value.getAsBigDecimal());
+                } else {
+                    values.put(field, value.getAsString());
+                }
+            }
+            writeUpdated(empId, jdbcBean.patchEmployee(empId, values), response);
+        } catch (RuntimeException e) {
+            handleFailure(e, response);
+        }
+    }
+
+    /**
+     * Handles the HTTP <code>DELETE</code> method: delete an employee.
+     *
+     * @param request servlet request
+     * @param response servlet response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doDelete(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        int empId = requireItem(request, response);
+        if (empId <= 0) {
+            return;
+        }
+
+        try {
+            if (jdbcBean.deleteEmployee(empId)) {
+                response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+            } else {
+                writeError(response, HttpServletResponse.SC_NOT_FOUND, "Employee " + empId + " not found");
+            }
+        } catch (RuntimeException e) {
+            handleFailure(e, response);
+        }
+    }
+
+    /**
+     * Resolve the employee ID from the path
+     *
+     * @param request servlet request
+     * @return Employee ID, COLLECTION for /api/employees, or INVALID_PATH
+     */
+    static int resourceId(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        if (pathInfo == null || pathInfo.equals("/")) {
+            return COLLECTION;
+        }
+        try {
+            int empId = Integer.parseInt(pathInfo.substring(1));
+            return empId > 0 ? empId : INVALID_PATH;
+        } catch (NumberFormatException e) {
+            return INVALID_PATH;
+        }
+    }
+
+    private int requireItem(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        int empId = resourceId(request);
+        if (empId == COLLECTION) {
+            response.setHeader("Allow", "GET, POST");
+            writeError(response, HttpServletResponse.SC_METHOD_NOT_ALLOWED, request.getMethod() + " requires an employee ID");
+        } else if (empId == INVALID_PATH) {
+            writeError(response, HttpServletResponse.SC_NOT_FOUND, "No such resource");
+        }
+        return empId;
+    }
+
+    private Employee readEmployee(HttpServletRequest request) throws IOException {
+        Employee employee = GSON.fromJson(request.getReader(), Employee.class);
+        if (employee == null) {
+            throw new IllegalArgumentException("Request body must be a JSON object");
+        }
+        return employee;
+    }
+
+    private void writeUpdated(int empId, Employee updated, HttpServletResponse response) throws IOException {
+        if (updated == null) {
+            writeError(response, HttpServletResponse.SC_NOT_FOUND, "Employee " + empId + " not found");
+        } else {
+            writeEmployee(updated, EmployeeField.ALL, response);
+        }
+    }
+
+    private int parseLimit(String value) {
+        if (value == null || value.isEmpty()) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid limit: " + value, e);
+        }
+    }
+
+    /**
+     * Map a failed operation to a status code: 400 for invalid input (parse
+     * and validation errors), 409 for a duplicate email, 400 for other
+     * constraint violations, 500 otherwise
+     */
+    private void handleFailure(RuntimeException e, HttpServletResponse response) throws IOException {
+        if (e instanceof IllegalArgumentException || e instanceof JsonParseException) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        if (e instanceof DataUnavailableException) {
+            LOGGER.warning(e.getMessage());
+            writeError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, e.getMessage());
+            return;
+        }
+        if (e.getCause() instanceof SQLException) {
+            String sqlState = ((SQLException) e.getCause()).getSQLState();
+            if (UNIQUE_VIOLATION.equals(sqlState)) {
+                writeError(response, HttpServletResponse.SC_CONFLICT, "An employee with this email already exists");
+                return;
+            }
+            if (sqlState != null && sqlState.startsWith("23")) {
+                writeError(response, HttpServletResponse.SC_BAD_REQUEST, "Constraint violation: " + e.getCause().getMessage());
+                return;
+            }
+        }
+        LOGGER.log(Level.SEVERE, "Employee API request failed", e);
+        writeError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Internal error");
+    }
+
+    private static void setETag(HttpServletResponse response, String etag) {
+        if (etag != null) {
+            response.setHeader("ETag", etag);
+            response.setHeader("Cache-Control", "private, no-cache");
+        }
+    }
+
+    private void writeEmployees(List<Employee> employees, Set<EmployeeField> fields, HttpServletResponse response)
+            throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        EmployeeJsonWriter jsonWriter = new EmployeeJsonWriter(response.getOutputStream(), false, fields);
+        jsonWriter.writeArray(employees);
+        jsonWriter.flush();
+    }
+
+    private void writeEmployee(Employee employee, Set<EmployeeField> fields, HttpServletResponse response)
+            throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        EmployeeJsonWriter jsonWriter = new EmployeeJsonWriter(response.getOutputStream(), false, fields);
+        jsonWriter.write(employee);
+        jsonWriter.flush();
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        JsonObject error = new JsonObject();
+        error.addProperty("error", message);
+        Writer writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+        GSON.toJson(error, writer);
+        writer.flush();
+    }
+
+    /**
+     * Returns a short description of the servlet.
+     *
+     * @return a String containing servlet description
+     */
+    @Override
+    public String getServletInfo() {
+        return "HR Web Application EmployeeApiServlet: REST access to employees with field projection";
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * EmployeeEventsServlet: Server-Sent Events feed of employee changes
+ */
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.config.DatabaseConfig;
+import com.hrapp.jdbc.samples.config.NotificationListener;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Streams employee changes to browsers as Server-Sent Events.
+ *
+ * Changes arrive once per node from the {@link NotificationListener}'s
+ * LISTEN connection and are fanned out to every connected client:
+ *
+ * <pre>
+ * event: employee
+ * data: {"op":"U","employee":{...}}
+ *
+ * event: resync
+ * data:
+ * </pre>
+ *
+ * Each client has a bounded queue drained by its own virtual thread, so a
+ * slow browser never delays the listener or other clients. A client whose
+ * queue overflows is disconnected; EventSource reconnects and the page
+ * reloads its data. An SSE comment is sent when a client has been idle for
+ * app.notify.heartbeatSeconds, which keeps proxies from closing the stream
+ * and detects clients that went away.
+ *
+ * @author HR Web Application - OpenJDK Migration
+ */
+@WebServlet(name = "EmployeeEventsServlet", urlPatterns = {"/events/employees"}, asyncSupported = true)
+public class EmployeeEventsServlet extends HttpServlet {
+
+    private static final Logger LOGGER = Logger.getLogger(EmployeeEventsServlet.class.getName());
+
+    // Events buffered per client before it is considered too slow
+    static final int CLIENT_QUEUE_CAPACITY = 256;
+
+    private static final long DEFAULT_HEARTBEAT_SECONDS = 25;
+    private static final String RESYNC_EVENT = "event: resync\ndata:\n\n";
+    private static final String HEARTBEAT = ": keepalive\n\n";
+    // Milliseconds EventSource waits before reconnecting
+    private static final String PREAMBLE = "retry: 5000\n\n";
+
+    // Overridable for testing; resolved from DatabaseConfig when null
+    NotificationListener notificationListener;
+
+    long heartbeatSeconds = DEFAULT_HEARTBEAT_SECONDS;
+
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+
+    private final NotificationListener.Subscriber fanOut = new NotificationListener.Subscriber() {
+        @Override
+        public void onNotification(String payload) {
+            broadcast(toEvent(payload));
+        }
+
+        @Override
+        public void onReconnect() {
+            broadcast(RESYNC_EVENT);
+        }
+    };
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        if (notificationListener == null) {
+            DatabaseConfig config = DatabaseConfig.getInstance();
+            notificationListener = config.getNotificationListener();
+            heartbeatSeconds = config.getLongProperty("app.notify.heartbeatSeconds", DEFAULT_HEARTBEAT_SECONDS);
+        }
+        if (notificationListener != null) {
+            notificationListener.subscribe(fanOut);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (notificationListener != null) {
+            notificationListener.unsubscribe(fanOut);
+        }
+        for (Client client : clients) {
+            client.close();
+        }
+        super.destroy();
+    }
+
+    /**
+     * Handles the HTTP <code>GET</code> method: opens an event stream.
+     *
+     * @param request servlet request
+     * @param response servlet response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        if (notificationListener == null) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Change feed is disabled");
+            return;
+        }
+
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        // Ask reverse proxies not to buffer the stream
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(0);
+        Client client = new Client(asyncContext, response.getOutputStream());
+        asyncContext.addListener(client);
+        clients.add(client);
+        client.queue.offer(PREAMBLE);
+        Thread.ofVirtual().name("HRApp-SSE-", clients.size()).start(client::run);
+    }
+
+    /**
+     * Get the number of connected clients
+     *
+     * @return Connected client count
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Format a notification payload as an SSE event. Payloads are single-line
+     * JSON; line breaks would end the data field and are escaped defensively.
+     *
+     * @param payload Notification payload
+     * @return SSE event
+     */
+    static String toEvent(String payload) {
+        return "event: employee\ndata: " + payload.replace("\r", "").replace("\n", "\ndata: ") + "\n\n";
+    }
+
+    private void broadcast(String event) {
+        for (Client client : clients) {
+            if (!client.queue.offer(event)) {
+                LOGGER.info("Disconnecting slow event stream client");
+                client.close();
+            }
+        }
+    }
+
+    /**
+     * One connected browser
+     */
+    private final class Client implements AsyncListener {
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out;
+        private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(CLIENT_QUEUE_CAPACITY);
+        private volatile boolean closed;
+        private volatile boolean completed;
+
+        Client(AsyncContext asyncContext, ServletOutputStream out) {
+            this.asyncContext = asyncContext;
+            this.out = out;
+        }
+
+        void run() {
+            try {
+                while (!closed) {
+                    String event = queue.poll(heartbeatSeconds, TimeUnit.SECONDS);
+                    if (closed) {
+                        break;
+                    }
+                    out.write((event != null ? event : HEARTBEAT).getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Event stream client disconnected: " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                closed = true;
+                clients.remove(this);
+                // Only the writer completes the response, so completion never races a write
+                if (!completed) {
+                    try {
+                        asyncContext.complete();
+                    } catch (IllegalStateException e) {
+                        LOGGER.fine("Event stream already completed: " + e.getMessage());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Ask the writer thread to end the stream; safe to call from any thread
+         */
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            clients.remove(this);
+            // Wake the writer thread if it is waiting for events; a full queue wakes it anyway
+            queue.offer(HEARTBEAT);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            completed = true;
+            closed = true;
+            clients.remove(this);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    /**
+     * Returns a short description of the servlet.
+     *
+     * @return a String containing servlet description
+     */
+    @Override
+    public String getServletInfo() {
+        return "HR Web Application EmployeeEventsServlet: Server-Sent Events feed of employee changes";
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * EmployeeExportServlet for streaming CSV exports of the employees table
+ */
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.bean.JdbcBean;
+import com.hrapp.jdbc.samples.entity.EmployeeField;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Full employee export as CSV, e.g. for the nightly finance extract.
+ *
+ * The CSV is produced by PostgreSQL (COPY ... TO STDOUT) and piped straight
+ * into the response, optionally through gzip when the client sends
+ * Accept-Encoding: gzip. Columns can be selected with the fields parameter
+ * using the JSON field names of /api/employees, e.g.
+ * /export/employees.csv?fields=employeeId,lastName,salary
+ *
+ * @author HR Web Application - OpenJDK Migration
+ */
+@WebServlet(name = "EmployeeExportServlet", urlPatterns = {"/export/employees.csv"})
+public class EmployeeExportServlet extends HttpServlet {
+
+    private static final Logger LOGGER = Logger.getLogger(EmployeeExportServlet.class.getName());
+
+    private static final String FIELDS = "fields";
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    // Overridable for testing; the application's shared bean when null
+    JdbcBean jdbcBean;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        if (jdbcBean == null) {
+            jdbcBean = SharedJdbcBean.forContext(getServletContext());
+        }
+    }
+
+    /**
+     * Handles the HTTP <code>GET</code> method.
+     *
+     * @param request servlet request
+     * @param response servlet response
+     * @throws ServletException if the export fails after the response was committed
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        Set<EmployeeField> fields;
+        try {
+            fields = EmployeeField.parse(request.getParameter(FIELDS));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        boolean gzip = CompressionFilter.acceptsGzip(request.getHeader("Accept-Encoding"));
+        response.setContentType("text/csv");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"employees.csv\"");
+        response.setHeader("Cache-Control", "no-store");
+        CompressionFilter.addVary(response);
+        if (gzip) {
+            response.setHeader("Content-Encoding", "gzip");
+        }
+
+        OutputStream out = response.getOutputStream();
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : null;
+        try {
+            jdbcBean.exportEmployees(fields, gzipOut != null ? gzipOut : out);
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                return;
+            }
+            // Part of the file is already sent; fail the request so the container
+            // aborts the connection instead of ending it like a complete file
+            throw new ServletException("CSV export failed after the response was committed", e);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "CSV export aborted, client disconnected: " + e.getMessage());
+            return;
+        }
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns a short description of the servlet.
+     *
+     * @return a String containing servlet description
+     */
+    @Override
+    public String getServletInfo() {
+        return "HR Web Application EmployeeExportServlet: streaming CSV export via COPY";
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * Response wrapper that gzip-compresses the body on the fly
+ */
+package com.hrapp.jdbc.samples.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response wrapper that gzip-compresses the body while it is written.
+ *
+ * The first minSize bytes are held back. If the body ends before that, it
+ * is sent as is with a Content-Length; otherwise compression starts and the
+ * remaining body is streamed through a GZIPOutputStream, so memory use does
+ * not depend on the response size. Flushes while the first bytes are held
+ * back are deferred; once compressing, a flush emits a gzip sync block so
+ * streamed rows still reach the client.
+ *
+ * Only textual content types are compressed, and never a response that
+ * already has a Content-Encoding or no body (204, 304).
+ *
+ * A strong ETag gets a "-gzip" suffix when the body is compressed, since
+ * the compressed bytes are a different representation.
+ *
+ * A response that switches to non-blocking I/O (setWriteListener) is sent
+ * uncompressed: the held-back bytes and the gzip trailer would need
+ * blocking writes that the container does not allow in that mode.
+ *
+ * @author HR Web Application - OpenJDK Migration
+ */
+class GzipResponseWrapper extends HttpServletResponseWrapper {
+
+    static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final int minSize;
+    private final boolean gzipVariantRequested;
+
+    private CompressingOutputStream outputStream;
+    private PrintWriter writer;
+    private long contentLength = -1;
+
+    /**
+     * Create a compressing response
+     *
+     * @param response Response to wrap
+     * @param minSize Bodies smaller than this are sent uncompressed
+     * @param gzipVariantRequested true if the client revalidates a compressed
+     *        copy, so a bodiless 304 reports the compressed ETag
+     */
+    GzipResponseWrapper(HttpServletResponse response, int minSize, boolean gzipVariantRequested) {
+        super(response);
+        this.minSize = minSize;
+        this.gzipVariantRequested = gzipVariantRequested;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        return stream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called for this response");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    private CompressingOutputStream stream() {
+        if (outputStream == null) {
+            outputStream = new CompressingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        // The length is only known to be right once the body is sent uncompressed
+        if (outputStream != null && outputStream.state == State.IDENTITY) {
+            super.setContentLengthLong(len);
+        } else if (outputStream == null || outputStream.state == State.BUFFERING) {
+            contentLength = len;
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (isContentLength(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (isContentLength(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (isContentLength(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (isContentLength(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    private static boolean isContentLength(String name) {
+        return "Content-Length".equalsIgnoreCase(name);
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+        if (outputStream == null || outputStream.state != State.BUFFERING) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        discardBody();
+        CompressionFilter.addVary(this);
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        if (outputStream != null && outputStream.state == State.BUFFERING) {
+            outputStream.count = 0;
+        }
+    }
+
+    private void discardBody() {
+        outputStream = null;
+        writer = null;
+        contentLength = -1;
+    }
+
+    /**
+     * Send any held-back bytes and end the gzip stream. Must be called once
+     * the servlet is done with the response (after the filter chain, or
+     * before an asynchronous request completes).
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.finish();
+        } else if (getStatus() == HttpServletResponse.SC_NOT_MODIFIED && gzipVariantRequested) {
+            markGzipETag();
+        }
+    }
+
+    /**
+     * Check whether the body is being compressed (for testing)
+     *
+     * @return true once compression has started
+     */
+    boolean isCompressing() {
+        return outputStream != null && outputStream.state == State.GZIP;
+    }
+
+    private boolean isCompressible() {
+        int status = getStatus();
+        if (status == HttpServletResponse.SC_NO_CONTENT || status == HttpServletResponse.SC_NOT_MODIFIED
+                || status == HttpServletResponse.SC_PARTIAL_CONTENT) {
+            return false;
+        }
+        if (containsHeader("Content-Encoding")) {
+            return false;
+        }
+        return CompressionFilter.isCompressibleType(getContentType());
+    }
+
+    private void markGzipETag() {
+        String etag = getHeader("ETag");
+        if (etag != null && etag.startsWith("\"") && etag.endsWith("\"") && etag.length() > 1
+                && !etag.endsWith(GZIP_ETAG_SUFFIX + "\"")) {
+            super.setHeader("ETag", etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"");
+        }
+    }
+
+    private enum State { BUFFERING, IDENTITY, GZIP }
+
+    /**
+     * Holds back the first bytes, then writes either through a gzip stream
+     * or unchanged to the wrapped response
+     */
+    private final class CompressingOutputStream extends ServletOutputStream {
+        private final byte[] buffer = new byte[minSize];
+        private int count;
+        private State state = State.BUFFERING;
+        private ServletOutputStream target;
+        private GZIPOutputStream gzip;
+        private boolean finished;
+        private boolean nonBlocking;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (state == State.BUFFERING) {
+                if (count < buffer.length) {
+                    buffer[count++] = (byte) b;
+                    return;
+                }
+                startBody(true);
+            }
+            if (state == State.GZIP) {
+                gzip.write(b);
+            } else {
+                target.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (state == State.BUFFERING) {
+                if (count + len <= buffer.length) {
+                    System.arraycopy(b, off, buffer, count, len);
+                    count += len;
+                    return;
+                }
+                startBody(true);
+            }
+            if (state == State.GZIP) {
+                gzip.write(b, off, len);
+            } else {
+                target.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Deferred while buffering: at most minSize bytes are held back
+            if (state == State.GZIP) {
+                gzip.flush();
+            } else if (state == State.IDENTITY) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            // A non-blocking writer has written and flushed its body through the listener
+            if (nonBlocking) {
+                return;
+            }
+            if (state == State.BUFFERING) {
+                startBody(false);
+            }
+            if (state == State.GZIP) {
+                gzip.finish();
+            }
+            target.flush();
+        }
+
+        /**
+         * Decide how the body is sent and write out the held-back bytes
+         *
+         * @param large true if the body has outgrown the buffer
+         */
+        private void startBody(boolean large) throws IOException {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            target = response.getOutputStream();
+            if (large && isCompressible()) {
+                state = State.GZIP;
+                response.setHeader("Content-Encoding", "gzip");
+                markGzipETag();
+                gzip = new GZIPOutputStream(target, GZIP_BUFFER_SIZE, true);
+                gzip.write(buffer, 0, count);
+            } else {
+                state = State.IDENTITY;
+                if (contentLength >= 0) {
+                    response.setContentLengthLong(contentLength);
+                } else if (!large) {
+                    response.setContentLength(count);
+                }
+                target.write(buffer, 0, count);
+            }
+            count = 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return target == null || target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            if (state == State.GZIP) {
+                throw new IllegalStateException("Non-blocking I/O must be set up before a compressed body is written");
+            }
+            if (state == State.BUFFERING) {
+                passThrough();
+            }
+            nonBlocking = true;
+            target.setWriteListener(writeListener);
+        }
+
+        /**
+         * Send the body uncompressed and write out the held-back bytes, without
+         * fixing a Content-Length since more of the body follows
+         */
+        private void passThrough() {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            try {
+                target = response.getOutputStream();
+                state = State.IDENTITY;
+                if (contentLength >= 0) {
+                    response.setContentLengthLong(contentLength);
+                }
+                target.write(buffer, 0, count);
+                count = 0;
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not switch response to non-blocking I/O", e);
+            }
+        }
+    }
+}
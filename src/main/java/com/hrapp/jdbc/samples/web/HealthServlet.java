@@ -0,0 +1,106 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * HealthServlet for load balancer liveness and readiness checks
+ */
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.config.DatabaseConfig;
+import com.hrapp.jdbc.samples.config.HealthMonitor;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Cheap health endpoints for load balancers and orchestrators.
+ * 
+ * /health (liveness) answers 200 as long as the application is running.
+ * /ready (readiness) answers 200 only if the background health monitor saw
+ * the database answer its last probe and the connection pool is not
+ * saturated, and 503 otherwise.
+ * 
+ * Both endpoints only read the state cached by {@link HealthMonitor}; they
+ * never borrow a pool connection on the request thread.
+ * 
+ * The monitor is started at deploy time by {@link ApplicationLifecycleListener};
+ * /ready answers 503 until the database has been initialized.
+ * 
+ * @author HR Web Application - OpenJDK Migration
+ */
+@WebServlet(name = "HealthServlet", urlPatterns = {"/health", "/ready"})
+public class HealthServlet extends HttpServlet {
+
+    private static final String READY_PATH = "/ready";
+
+    // Overridable for testing; resolved from DatabaseConfig when null
+    HealthMonitor healthMonitor;
+
+    /**
+     * Handles the HTTP <code>GET</code> method.
+     *
+     * @param request servlet request
+     * @param response servlet response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        response.setContentType("application/json");
+        response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
+
+        if (!READY_PATH.equals(request.getServletPath())) {
+            response.getWriter().write("{\"status\":\"UP\"}");
+            return;
+        }
+
+        HealthMonitor monitor = getHealthMonitor();
+        if (monitor == null) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.getWriter().write("{\"status\":\"DOWN\",\"reason\":\"database not initialized\"}");
+            return;
+        }
+
+        HealthMonitor.Status status = monitor.getStatus();
+        boolean ready = monitor.isReady();
+        if (!ready) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+        response.getWriter().write(String.format(
+            "{\"status\":\"%s\",\"database\":\"%s\",\"fresh\":%s,\"saturated\":%s," +
+            "\"activeConnections\":%d,\"idleConnections\":%d,\"totalConnections\":%d," +
+            "\"threadsAwaiting\":%d,\"checkedAt\":%d}",
+            ready ? "UP" : "DOWN",
+            status.isDatabaseUp() ? "UP" : "DOWN",
+            monitor.isFresh(),
+            status.isSaturated(),
+            status.getActiveConnections(),
+            status.getIdleConnections(),
+            status.getTotalConnections(),
+            status.getThreadsAwaiting(),
+            status.getCheckedAt()));
+    }
+
+    private HealthMonitor getHealthMonitor() {
+        if (healthMonitor != null) {
+            return healthMonitor;
+        }
+        // Never trigger database initialization from a health check
+        DatabaseConfig config = DatabaseConfig.getInstanceIfInitialized();
+        return config != null ? config.getHealthMonitor() : null;
+    }
+
+    /**
+     * Returns a short description of the servlet.
+     *
+     * @return a String containing servlet description
+     */
+    @Override
+    public String getServletInfo() {
+        return "HR Web Application HealthServlet: Cached liveness and readiness checks for load balancers";
+    }
+}
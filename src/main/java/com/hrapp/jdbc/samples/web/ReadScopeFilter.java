@@ -0,0 +1,97 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * ReadScopeFilter: per-client read-your-writes routing
+ */
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.config.ReadScope;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+
+/**
+ * Binds a {@link ReadScope} to each employee request, so that reads after a
+ * write stay on the primary for the client that wrote and not for every
+ * client of the node.
+ *
+ * The time until which the client's reads stay on the primary is kept in
+ * its HTTP session, so that the page loaded after a salary increment also
+ * sees the increment. No session is created for this.
+ *
+ * @author HR Web Application - OpenJDK Migration
+ */
+@WebFilter(filterName = "ReadScopeFilter",
+           urlPatterns = {"/WebController", "/api/*"},
+           asyncSupported = true)
+public class ReadScopeFilter implements Filter {
+
+    // Session attribute holding the primary-until time (epoch milliseconds)
+    static final String PRIMARY_UNTIL_ATTRIBUTE = "com.hrapp.readPrimaryUntil";
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+
+        HttpSession session = httpRequest.getSession(false);
+        Object stored = session != null ? session.getAttribute(PRIMARY_UNTIL_ATTRIBUTE) : null;
+        long primaryUntil = stored instanceof Long ? (Long) stored : 0;
+
+        ReadScope scope = ReadScope.begin(primaryUntil);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadScope.end();
+            if (httpRequest.isAsyncStarted()) {
+                // Writes may still run on the database executor
+                httpRequest.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        save(httpRequest, scope, primaryUntil);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                save(httpRequest, scope, primaryUntil);
+            }
+        }
+    }
+
+    private static void save(HttpServletRequest request, ReadScope scope, long previous) {
+        if (scope.getPrimaryUntil() <= previous) {
+            return;
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            try {
+                session.setAttribute(PRIMARY_UNTIL_ATTRIBUTE, scope.getPrimaryUntil());
+            } catch (IllegalStateException e) {
+                // Session invalidated during the request (logout)
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * SharedJdbcBean: one JdbcBean per web application
+ */
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.bean.CoalescingJdbcBean;
+import com.hrapp.jdbc.samples.bean.JdbcBean;
+import com.hrapp.jdbc.samples.bean.JdbcBeanImpl;
+import com.hrapp.jdbc.samples.config.DatabaseConfig;
+
+import jakarta.servlet.ServletContext;
+
+/**
+ * The JdbcBean shared by all servlets of a web application, kept in a
+ * ServletContext attribute.
+ *
+ * Sharing one bean means one employee cache and one job catalog load, and
+ * a write through any servlet (e.g. /api/employees) invalidates the cache
+ * that {@link WebController} reads from right away. Identical concurrent
+ * reads from all servlets are coalesced by the same {@link CoalescingJdbcBean}.
+ *
+ * @author HR Web Application - OpenJDK Migration
+ */
+public final class SharedJdbcBean {
+
+    // ServletContext attribute holding the shared instance
+    public static final String CONTEXT_ATTRIBUTE = SharedJdbcBean.class.getName();
+
+    private SharedJdbcBean() {
+    }
+
+    /**
+     * Get the shared bean of a web application, creating it on first use
+     *
+     * @param context Servlet context
+     * @return Shared bean
+     */
+    public static JdbcBean forContext(ServletContext context) {
+        synchronized (context) {
+            Object bean = context.getAttribute(CONTEXT_ATTRIBUTE);
+            if (bean instanceof JdbcBean) {
+                return (JdbcBean) bean;
+            }
+            JdbcBean created = CoalescingJdbcBean.fromConfig(new JdbcBeanImpl(), DatabaseConfig.getInstance());
+            context.setAttribute(CONTEXT_ATTRIBUTE, created);
+            return created;
+        }
+    }
+}
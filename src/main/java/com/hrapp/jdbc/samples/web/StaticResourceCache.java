@@ -0,0 +1,401 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * StaticResourceCache: static pages and stylesheets held in memory
+ */
+package com.hrapp.jdbc.samples.web;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Static files of the web application, read from the WAR once and served
+ * from memory.
+ *
+ * Every resource is kept as raw bytes, a gzip copy (when smaller) and a
+ * strong ETag derived from a SHA-256 hash of its content. Stylesheets and
+ * scripts are also published under a content-hashed path, e.g.
+ * css/app.3f9c0a1b2c3d4e5f.css, and references to them in the HTML pages
+ * are rewritten to that path when the pages are loaded. A hashed path
+ * always denotes the same bytes, so it is served with a one-year
+ * immutable Cache-Control; plain paths (the pages themselves) are served
+ * with no-cache and revalidated with If-None-Match.
+ *
+ * One instance is shared through a ServletContext attribute:
+ * {@link CompressionFilter} serves the gzip copies and
+ * {@link StaticResourceServlet} the raw ones.
+ *
+ * @author HR Web Application - OpenJDK Migration
+ */
+public class StaticResourceCache {
+
+    private static final Logger LOGGER = Logger.getLogger(StaticResourceCache.class.getName());
+
+    // ServletContext attribute holding the shared instance
+    public static final String CONTEXT_ATTRIBUTE = StaticResourceCache.class.getName();
+
+    // Default configuration values
+    static final Set<String> DEFAULT_SUFFIXES = Set.of(".html", ".css", ".js");
+    static final long IMMUTABLE_MAX_AGE_SECONDS = 365L * 24 * 60 * 60;
+
+    // Resources that get a content-hashed path
+    private static final Set<String> FINGERPRINTED_SUFFIXES = Set.of(".css", ".js");
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=" + IMMUTABLE_MAX_AGE_SECONDS + ", immutable";
+    private static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+
+    // Resources by context-relative path, including the content-hashed paths
+    private final Map<String, Resource> resources;
+    private final Map<String, String> fingerprintedPaths;
+
+    private StaticResourceCache(Map<String, Resource> resources, Map<String, String> fingerprintedPaths) {
+        this.resources = resources;
+        this.fingerprintedPaths = fingerprintedPaths;
+    }
+
+    /**
+     * Create a cache that holds nothing, so every request falls through to the container
+     *
+     * @return Empty cache
+     */
+    public static StaticResourceCache empty() {
+        return new StaticResourceCache(Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Get the shared cache of a web application, loading it with the
+     * default file types if no component has done so yet
+     *
+     * @param context Servlet context
+     * @return Shared cache
+     */
+    public static StaticResourceCache forContext(ServletContext context) {
+        synchronized (context) {
+            Object cache = context.getAttribute(CONTEXT_ATTRIBUTE);
+            if (cache instanceof StaticResourceCache) {
+                return (StaticResourceCache) cache;
+            }
+            StaticResourceCache loaded = load(context, DEFAULT_SUFFIXES);
+            context.setAttribute(CONTEXT_ATTRIBUTE, loaded);
+            return loaded;
+        }
+    }
+
+    /**
+     * Read all resources with the given file extensions (outside WEB-INF and META-INF)
+     *
+     * @param context Servlet context to read the resources from
+     * @param suffixes File extensions including the dot, lower case
+     * @return Loaded cache
+     */
+    public static StaticResourceCache load(ServletContext context, Set<String> suffixes) {
+        List<String> assets = new ArrayList<>();
+        List<String> pages = new ArrayList<>();
+        for (String path : listResources(context, "/")) {
+            String lower = path.toLowerCase(Locale.ROOT);
+            String suffix = lower.substring(Math.max(lower.lastIndexOf('.'), 0));
+            if (lower.startsWith("/web-inf/") || lower.startsWith("/meta-inf/") || !suffixes.contains(suffix)) {
+                continue;
+            }
+            (FINGERPRINTED_SUFFIXES.contains(suffix) ? assets : pages).add(path);
+        }
+
+        Map<String, Resource> resources = new HashMap<>();
+        Map<String, String> fingerprintedPaths = new HashMap<>();
+        long rawBytes = 0, gzipBytes = 0;
+
+        // Stylesheets and scripts first, so the pages can refer to their hashed paths
+        for (String path : assets) {
+            Resource resource = read(context, path, null);
+            if (resource != null) {
+                String hashedPath = fingerprint(path, resource.hash);
+                resources.put(path, resource);
+                resources.put(hashedPath, resource.immutable());
+                fingerprintedPaths.put(path, hashedPath);
+            }
+        }
+        for (String path : pages) {
+            Resource resource = read(context, path, fingerprintedPaths);
+            if (resource != null) {
+                resources.put(path, resource);
+            }
+        }
+
+        for (Map.Entry<String, Resource> entry : resources.entrySet()) {
+            if (!fingerprintedPaths.containsValue(entry.getKey())) {
+                rawBytes += entry.getValue().body.length;
+                gzipBytes += entry.getValue().gzip != null ? entry.getValue().gzip.length : entry.getValue().body.length;
+            }
+        }
+        LOGGER.info("Static resource cache loaded: " + (resources.size() - fingerprintedPaths.size()) +
+                   " resources (" + rawBytes + " bytes, " + gzipBytes + " bytes compressed), " +
+                   fingerprintedPaths.size() + " content-hashed");
+        return new StaticResourceCache(resources, fingerprintedPaths);
+    }
+
+    /**
+     * Get a resource by its context-relative path
+     *
+     * @param path Path such as /listAll.html or /css/app.3f9c0a1b2c3d4e5f.css
+     * @return Resource, or null if it is not cached
+     */
+    public Resource get(String path) {
+        return resources.get(path);
+    }
+
+    /**
+     * Get the content-hashed path of a stylesheet or script
+     *
+     * @param path Plain path such as /css/app.css
+     * @return Hashed path, or null if the resource has none
+     */
+    public String getFingerprintedPath(String path) {
+        return fingerprintedPaths.get(path);
+    }
+
+    /**
+     * Get the number of cached resources, not counting hashed aliases
+     *
+     * @return Resource count
+     */
+    public int size() {
+        return resources.size() - fingerprintedPaths.size();
+    }
+
+    /**
+     * Get the number of cached resources that have a gzip copy
+     *
+     * @return Compressed resource count
+     */
+    public int getCompressedCount() {
+        int count = 0;
+        for (Map.Entry<String, Resource> entry : resources.entrySet()) {
+            if (entry.getValue().gzip != null && !fingerprintedPaths.containsValue(entry.getKey())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Insert a content hash before the file extension
+     *
+     * @param path Plain path, e.g. /css/app.css
+     * @param hash Content hash
+     * @return Hashed path, e.g. /css/app.3f9c0a1b2c3d4e5f.css
+     */
+    static String fingerprint(String path, String hash) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? path.substring(0, dot) + "." + hash + path.substring(dot)
+                                           : path + "." + hash;
+    }
+
+    private static Set<String> listResources(ServletContext context, String directory) {
+        Set<String> paths = context.getResourcePaths(directory);
+        if (paths == null) {
+            return Collections.emptySet();
+        }
+        Set<String> files = new HashSet<>();
+        for (String path : paths) {
+            if (path.endsWith("/")) {
+                files.addAll(listResources(context, path));
+            } else {
+                files.add(path);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Read one resource
+     *
+     * @param context Servlet context
+     * @param path Context-relative path
+     * @param fingerprintedPaths Hashed asset paths to substitute in HTML, or null to keep the content as is
+     * @return Resource, or null if it cannot be read
+     */
+    private static Resource read(ServletContext context, String path, Map<String, String> fingerprintedPaths) {
+        byte[] body;
+        try (InputStream in = context.getResourceAsStream(path)) {
+            if (in == null) {
+                return null;
+            }
+            body = in.readAllBytes();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not read static resource " + path + ": " + e.getMessage(), e);
+            return null;
+        }
+
+        String contentType = context.getMimeType(path);
+        if (fingerprintedPaths != null && !fingerprintedPaths.isEmpty()
+                && (contentType == null || contentType.startsWith("text/html"))) {
+            body = rewriteReferences(path, body, fingerprintedPaths, context.getContextPath());
+        }
+        if (contentType != null && contentType.startsWith("text/") && !contentType.contains("charset")) {
+            contentType += ";charset=UTF-8";
+        }
+        return new Resource(contentType, body, compress(body), hash(body), false);
+    }
+
+    /**
+     * Point href and src attributes of a page at the hashed asset paths.
+     * Relative references from the page's directory and absolute ones
+     * including the context path are rewritten.
+     */
+    private static byte[] rewriteReferences(String pagePath, byte[] body, Map<String, String> fingerprintedPaths,
+                                            String contextPath) {
+        String html = new String(body, StandardCharsets.UTF_8);
+        String directory = pagePath.substring(0, pagePath.lastIndexOf('/') + 1);
+        String rewritten = html;
+        for (Map.Entry<String, String> entry : fingerprintedPaths.entrySet()) {
+            String path = entry.getKey();
+            String hashedPath = entry.getValue();
+            if (path.startsWith(directory)) {
+                rewritten = rewritten.replace("=\"" + path.substring(directory.length()) + "\"",
+                                              "=\"" + hashedPath.substring(directory.length()) + "\"");
+            }
+            String prefix = contextPath != null ? contextPath : "";
+            rewritten = rewritten.replace("=\"" + prefix + path + "\"", "=\"" + prefix + hashedPath + "\"");
+        }
+        return rewritten.equals(html) ? body : rewritten.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] compress(byte[] body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            // Not thrown by in-memory streams
+            throw new IllegalStateException(e);
+        }
+        byte[] compressed = bytes.toByteArray();
+        return compressed.length < body.length ? compressed : null;
+    }
+
+    private static String hash(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * One static resource held in memory
+     */
+    public static final class Resource {
+        private final String contentType;
+        private final byte[] body;
+        private final byte[] gzip;
+        private final String hash;
+        private final boolean immutable;
+
+        Resource(String contentType, byte[] body, byte[] gzip, String hash, boolean immutable) {
+            this.contentType = contentType;
+            this.body = body;
+            this.gzip = gzip;
+            this.hash = hash;
+            this.immutable = immutable;
+        }
+
+        /**
+         * The same content under its hashed path
+         */
+        Resource immutable() {
+            return new Resource(contentType, body, gzip, hash, true);
+        }
+
+        /**
+         * Check whether a gzip copy exists
+         *
+         * @return true if the compressed copy is smaller than the content
+         */
+        public boolean isCompressed() {
+            return gzip != null;
+        }
+
+        /**
+         * Get the strong ETag of the uncompressed content
+         *
+         * @return Quoted ETag
+         */
+        public String getETag() {
+            return "\"" + hash + "\"";
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * Send the resource with validators and caching headers, or 304 if
+         * the client's If-None-Match matches either copy
+         *
+         * @param request servlet request
+         * @param response servlet response
+         * @param compressed true to send the gzip copy (requires {@link #isCompressed()})
+         * @throws IOException if an I/O error occurs
+         */
+        public void send(HttpServletRequest request, HttpServletResponse response, boolean compressed)
+                throws IOException {
+            String etag = getETag();
+            response.setHeader("ETag", compressed
+                    ? "\"" + hash + GzipResponseWrapper.GZIP_ETAG_SUFFIX + "\"" : etag);
+            response.setHeader("Cache-Control", immutable ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL);
+            if (WebController.matchesETag(CompressionFilter.stripGzipSuffix(request.getHeader("If-None-Match")), etag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            byte[] content = compressed ? gzip : body;
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            if (compressed) {
+                response.setHeader("Content-Encoding", "gzip");
+            }
+            response.setContentLength(content.length);
+            response.getOutputStream().write(content);
+        }
+
+        /**
+         * Send the uncompressed content without validators, for forwards and
+         * error pages whose URL belongs to another resource
+         *
+         * @param response servlet response
+         * @throws IOException if an I/O error occurs
+         */
+        public void sendUncached(HttpServletResponse response) throws IOException {
+            response.setHeader("Cache-Control", "no-store");
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
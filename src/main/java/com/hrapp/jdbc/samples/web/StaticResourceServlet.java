@@ -0,0 +1,87 @@
+/*
+ * HR Web Application - OpenJDK Migration
+ * StaticResourceServlet: static pages served from memory
+ */
+package com.hrapp.jdbc.samples.web;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Serves HTML pages, stylesheets and scripts from the
+ * {@link StaticResourceCache} instead of reading them from the WAR on
+ * every request.
+ *
+ * Responses carry a strong ETag and are answered with 304 when the
+ * client's copy is current. Content-hashed paths (css/app.&lt;hash&gt;.css)
+ * are cacheable for a year; the pages refer to them, so a changed
+ * stylesheet is picked up as soon as the page is revalidated.
+ *
+ * Clients that accept gzip are normally served by {@link CompressionFilter}
+ * before the request gets here. Paths that are not cached (files added
+ * after startup, unknown paths) are passed to the container's default
+ * servlet.
+ *
+ * @author HR Web Application - OpenJDK Migration
+ */
+@WebServlet(name = "StaticResourceServlet", urlPatterns = {"*.html", "*.css", "*.js"})
+public class StaticResourceServlet extends HttpServlet {
+
+    // Overridable for testing; resolved from the ServletContext when null
+    StaticResourceCache staticResources;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        if (staticResources == null) {
+            staticResources = StaticResourceCache.forContext(getServletContext());
+        }
+    }
+
+    /**
+     * Handles the HTTP <code>GET</code> method.
+     *
+     * @param request servlet request
+     * @param response servlet response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        String path = request.getServletPath() + (request.getPathInfo() != null ? request.getPathInfo() : "");
+        StaticResourceCache.Resource resource = staticResources.get(path);
+        if (resource == null) {
+            RequestDispatcher defaultServlet = getServletContext().getNamedDispatcher("default");
+            if (defaultServlet != null) {
+                defaultServlet.forward(request, response);
+            } else {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            }
+            return;
+        }
+
+        // The login form and error pages are shown under another resource's URL
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            resource.sendUncached(response);
+            return;
+        }
+        resource.send(request, response, false);
+    }
+
+    /**
+     * Returns a short description of the servlet.
+     *
+     * @return a String containing servlet description
+     */
+    @Override
+    public String getServletInfo() {
+        return "HR Web Application StaticResourceServlet: static pages served from memory";
+    }
+}
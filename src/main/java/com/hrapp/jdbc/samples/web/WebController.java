@@ -6,35 +6,129 @@
 package com.hrapp.jdbc.samples.web;
 
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import com.hrapp.jdbc.samples.bean.AsyncJdbcBean;
+import com.hrapp.jdbc.samples.bean.CoalescingJdbcBean;
+import com.hrapp.jdbc.samples.bean.DataUnavailableException;
+import com.hrapp.jdbc.samples.bean.EmployeeHandler;
+import com.hrapp.jdbc.samples.bean.EmployeePage;
 import com.hrapp.jdbc.samples.bean.JdbcBean;
-import com.hrapp.jdbc.samples.bean.JdbcBeanImpl;
+import com.hrapp.jdbc.samples.bean.SnapshotEmployeeList;
+import com.hrapp.jdbc.samples.config.DatabaseConfig;
+import com.hrapp.jdbc.samples.config.ReadScope;
 import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeJsonWriter;
 
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.*;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Main web controller for HR application employee management
  * Handles GET and POST requests for employee CRUD operations
  * 
+ * Queries run asynchronously (request.startAsync()) when the container
+ * supports it, so container threads are not held while PostgreSQL works.
+ * 
+ * Employee reads carry a strong ETag derived from the employees table
+ * version; a matching If-None-Match is answered with 304 before the
+ * query runs.
+ * 
+ * The list and first-name search are also available as newline-delimited
+ * JSON (Accept: application/x-ndjson), one employee per line, each line
+ * flushed while the ResultSet is still being read. Paged requests
+ * (pageToken, limit) are always answered with a JSON array and the
+ * X-Next-Page-Token header.
+ * 
+ * Several employees can be fetched in one request with ids=1,2,3; they
+ * are read with a single query and returned in the requested order, and
+ * IDs with no employee are listed in the X-Missing-Ids header.
+ * 
  * @author HR Web Application - OpenJDK Migration
  */
-@WebServlet(name = "WebController", urlPatterns = {"/WebController"})
+@WebServlet(name = "WebController", urlPatterns = {"/WebController"}, asyncSupported = true)
 public class WebController extends HttpServlet {
 
+    private static final Logger LOGGER = Logger.getLogger(WebController.class.getName());
+
     private static final String INCREMENT_PCT = "incrementPct";
     private static final String ID_KEY = "id";
+    private static final String IDS_KEY = "ids";
     private static final String FN_KEY = "firstName";
     private static final String LOGOUT = "logout";
+    private static final String PAGE_TOKEN = "pageToken";
+    private static final String LIMIT = "limit";
+    private static final String NEXT_PAGE_HEADER = "X-Next-Page-Token";
+    private static final String MISSING_IDS_HEADER = "X-Missing-Ids";
+    private static final String SNAPSHOT_AGE_HEADER = "X-Snapshot-Age";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final String STREAM = "stream";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final String NDJSON_TYPE = "application/x-ndjson";
+
+    // Result marker for a conditional GET answered with 304 Not Modified
+    private static final List<Employee> NOT_MODIFIED = Collections.unmodifiableList(new ArrayList<>());
+
+    // Gson is thread-safe; only used for values other than employee lists
+    private static final Gson GSON = new Gson();
+
+    // Created in init(); the database is not touched when the servlet is instantiated
+    JdbcBean jdbcBean;
+
+    // Runs queries off the container thread; null when async processing is disabled
+    AsyncJdbcBean asyncJdbcBean;
+
+    public WebController() {
+    }
+
+    /**
+     * Create a controller over the given bean (for testing); init() keeps it as is
+     */
+    WebController(JdbcBean jdbcBean) {
+        this.jdbcBean = jdbcBean;
+    }
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        if (jdbcBean == null) {
+            // Identical concurrent reads (e.g. everyone opening listAll.html at once) share one query
+            jdbcBean = SharedJdbcBean.forContext(getServletContext());
+        }
+        if (asyncJdbcBean == null) {
+            asyncJdbcBean = AsyncJdbcBean.fromConfig(jdbcBean, DatabaseConfig.getInstance());
+        }
+    }
 
-    JdbcBean jdbcBean = new JdbcBeanImpl();
+    @Override
+    public void destroy() {
+        if (asyncJdbcBean != null) {
+            asyncJdbcBean.shutdown();
+        }
+        if (jdbcBean instanceof CoalescingJdbcBean) {
+            LOGGER.info(((CoalescingJdbcBean) jdbcBean).getStats());
+        }
+        super.destroy();
+    }
 
     private void reportError(HttpServletResponse response, String message)
             throws ServletException, IOException {
@@ -64,14 +158,53 @@ public class WebController extends HttpServlet {
      */
     protected void processRequest(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        Gson gson = new Gson();
-
         String value = null;
         List<Employee> employeeList = null;
         
+        // The full list and the first-name search are also available as NDJSON
+        // or as a streamed array; pages keep their JSON array and cursor header
+        if (request.getParameter(ID_KEY) == null && request.getParameter(IDS_KEY) == null
+                && request.getParameter(LOGOUT) == null
+                && request.getParameter(PAGE_TOKEN) == null && request.getParameter(LIMIT) == null) {
+            // The representation depends on the Accept header
+            response.addHeader("Vary", "Accept");
+            if (acceptsNdjson(request.getHeaders("Accept"))) {
+                streamEmployees(request.getParameter(FN_KEY), true, response);
+                return;
+            }
+            if (Boolean.parseBoolean(request.getParameter(STREAM))) {
+                streamEmployees(request.getParameter(FN_KEY), false, response);
+                return;
+            }
+        }
+        
+        if (asyncJdbcBean != null && request.isAsyncSupported() && request.getParameter(LOGOUT) == null) {
+            processAsync(request, response);
+            return;
+        }
+        
+        String etag = null;
+        if (request.getParameter(LOGOUT) == null) {
+            etag = toETag(jdbcBean.getDataVersion());
+            if (matchesETag(request.getHeader(IF_NONE_MATCH_HEADER), etag)) {
+                writeEmployees(NOT_MODIFIED, etag, response);
+                return;
+            }
+        }
+        
         if ((value = request.getParameter(ID_KEY)) != null) {
             int empId = Integer.valueOf(value).intValue();
             employeeList = jdbcBean.getEmployee(empId);
+        } else if ((value = request.getParameter(IDS_KEY)) != null) {
+            try {
+                int[] empIds = parseIds(value);
+                employeeList = jdbcBean.getEmployees(empIds);
+                setMissingIds(response, empIds, employeeList);
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                reportError(response, e.getMessage());
+                return;
+            }
         } else if ((value = request.getParameter(FN_KEY)) != null) {
             employeeList = jdbcBean.getEmployeeByFn(value);
         } else if ((value = request.getParameter(LOGOUT)) != null) {
@@ -82,21 +215,429 @@ public class WebController extends HttpServlet {
             }
             handleLogOutResponse(request, response);
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        } else if (request.getParameter(PAGE_TOKEN) != null || request.getParameter(LIMIT) != null) {
+            // Keyset pagination: the body stays a JSON array, the cursor for
+            // the next page is returned in a response header
+            EmployeePage page;
+            try {
+                page = jdbcBean.getEmployees(request.getParameter(PAGE_TOKEN), parseLimit(request.getParameter(LIMIT)));
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                reportError(response, e.getMessage());
+                return;
+            }
+            if (page.getNextPageToken() != null) {
+                response.setHeader(NEXT_PAGE_HEADER, page.getNextPageToken());
+            }
+            employeeList = page.getEmployees();
         } else {
             employeeList = jdbcBean.getEmployees();
         }
 
-        if (employeeList != null) {
-            response.setContentType("application/json");
-            gson.toJson(employeeList,
-                    new TypeToken<ArrayList<Employee>>() {
-                    }.getType(),
-                    response.getWriter());
+        if (setSnapshotAge(response, employeeList) || isMixedRead(ReadScope.current())) {
+            etag = null;
+        }
+        writeEmployees(employeeList, etag, response);
+    }
+
+    /**
+     * Write an employee query result
+     *
+     * @param employeeList Result, NOT_MODIFIED, or null if nothing was found
+     * @param etag ETag of the result, or null if unknown
+     * @param response servlet response
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeEmployees(List<Employee> employeeList, String etag, HttpServletResponse response)
+            throws IOException {
+        if (employeeList == NOT_MODIFIED) {
+            setETag(response, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        } else if (employeeList != null) {
+            setETag(response, etag);
+            writeJson(employeeList, response);
         } else {
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 
+    /**
+     * Write a value as UTF-8 JSON. Employee lists go through the
+     * reflection-free EmployeeJsonWriter; anything else falls back to Gson.
+     *
+     * @param value Value to write
+     * @param response servlet response
+     * @throws IOException if an I/O error occurs
+     */
+    void writeJson(Object value, HttpServletResponse response) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        if (value instanceof List<?> && isEmployeeList((List<?>) value)) {
+            @SuppressWarnings("unchecked")
+            List<Employee> employees = (List<Employee>) value;
+            EmployeeJsonWriter jsonWriter = new EmployeeJsonWriter(response.getOutputStream());
+            jsonWriter.writeArray(employees);
+            jsonWriter.flush();
+        } else {
+            Writer writer = new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+            GSON.toJson(value, writer);
+            writer.flush();
+        }
+    }
+
+    /**
+     * Build a strong ETag from the employees table version. A response of
+     * this servlet is fully determined by its URL and the table contents,
+     * so the version alone identifies the representation of a given URL.
+     *
+     * @param version Table version from JdbcBean.getDataVersion()
+     * @return Quoted ETag, or null if the version is unknown
+     */
+    static String toETag(long version) {
+        return version < 0 ? null : "\"emp-" + version + "\"";
+    }
+
+    /**
+     * Check an If-None-Match header against the current ETag, using the weak
+     * comparison RFC 9110 prescribes for If-None-Match
+     *
+     * @param ifNoneMatch Header value (comma-separated ETags or *), may be null
+     * @param etag Current ETag, may be null
+     * @return true if the client's copy is current
+     */
+    static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void setETag(HttpServletResponse response, String etag) {
+        if (etag != null) {
+            response.setHeader(ETAG_HEADER, etag);
+            // Browsers may keep the body but must revalidate it before each use;
+            // setHeader replaces the container's "private", so repeat it to keep
+            // authenticated salary data out of shared caches
+            response.setHeader("Cache-Control", "private, no-cache");
+        }
+    }
+
+    /**
+     * Tell the client that a result came from the last-known-good snapshot
+     * because the database could not be reached, and how old that data is
+     *
+     * @param response servlet response
+     * @param employeeList Query result, may be null
+     * @return true if the result is stale and must not carry the current ETag
+     */
+    static boolean setSnapshotAge(HttpServletResponse response, List<?> employeeList) {
+        long snapshotAgeMillis = SnapshotEmployeeList.snapshotAgeOf(employeeList);
+        if (snapshotAgeMillis < 0) {
+            return false;
+        }
+        response.setHeader(SNAPSHOT_AGE_HEADER, Long.toString(snapshotAgeMillis / 1000));
+        return true;
+    }
+
+    /**
+     * Check whether the reads of a request went to both the primary and the
+     * replica, so that the table version it read may not describe its rows
+     *
+     * @param scope Read scope of the request, may be null
+     * @return true if the result must not carry the ETag
+     */
+    static boolean isMixedRead(ReadScope scope) {
+        return scope != null && scope.isMixed();
+    }
+
+    private static boolean isEmployeeList(List<?> list) {
+        for (Object element : list) {
+            if (element != null && element.getClass() != Employee.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Run an employee query on the async executor and release the container
+     * thread. The response is written and completed by the executor thread.
+     *
+     * @param request servlet request
+     * @param response servlet response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    private void processAsync(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        String idValue = request.getParameter(ID_KEY);
+        String idsValue = idValue == null ? request.getParameter(IDS_KEY) : null;
+        String fn = request.getParameter(FN_KEY);
+        String pageToken = request.getParameter(PAGE_TOKEN);
+        String ifNoneMatch = request.getHeader(IF_NONE_MATCH_HEADER);
+        boolean paged = idValue == null && idsValue == null && fn == null
+                && (pageToken != null || request.getParameter(LIMIT) != null);
+        
+        // Reject malformed parameters before leaving the container thread
+        int empId = idValue != null ? Integer.valueOf(idValue).intValue() : 0;
+        int[] empIds;
+        int limit;
+        try {
+            empIds = idsValue != null ? parseIds(idsValue) : null;
+            limit = paged ? parseLimit(request.getParameter(LIMIT)) : 0;
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            reportError(response, e.getMessage());
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(asyncJdbcBean.getTimeoutMillis());
+
+        // The table version is read first; the query only runs if the client's copy is outdated
+        // The queries are issued from the executor thread that read the version
+        ReadScope scope = ReadScope.current();
+        CompletableFuture<List<Employee>> result = asyncJdbcBean.getDataVersion().thenCompose(ReadScope.propagate(version -> {
+            String etag = toETag(version);
+            if (matchesETag(ifNoneMatch, etag)) {
+                setETag(response, etag);
+                return CompletableFuture.completedFuture(NOT_MODIFIED);
+            }
+
+            CompletableFuture<List<Employee>> query;
+            if (idValue != null) {
+                query = asyncJdbcBean.getEmployee(empId);
+            } else if (empIds != null) {
+                query = asyncJdbcBean.getEmployees(empIds).thenApply(employeeList -> {
+                    setMissingIds(response, empIds, employeeList);
+                    return employeeList;
+                });
+            } else if (fn != null) {
+                query = asyncJdbcBean.getEmployeeByFn(fn);
+            } else if (paged) {
+                query = asyncJdbcBean.getEmployees(pageToken, limit).thenApply(page -> {
+                    if (page.getNextPageToken() != null) {
+                        response.setHeader(NEXT_PAGE_HEADER, page.getNextPageToken());
+                    }
+                    return page.getEmployees();
+                });
+            } else {
+                query = asyncJdbcBean.getEmployees();
+            }
+            return query.thenApply(employeeList -> {
+                if (employeeList != null && !setSnapshotAge(response, employeeList) && !isMixedRead(scope)) {
+                    setETag(response, etag);
+                }
+                return employeeList;
+            });
+        }));
+
+        completeAsync(asyncContext, result, response);
+    }
+
+    /**
+     * Write the result of an asynchronous query and complete the request
+     *
+     * @param asyncContext Context of the started asynchronous request
+     * @param result Pending query result
+     * @param response servlet response
+     */
+    private void completeAsync(AsyncContext asyncContext, CompletableFuture<List<Employee>> result,
+                               HttpServletResponse response) {
+        result.whenComplete((employeeList, error) -> {
+            try {
+                if (error == null) {
+                    // Headers such as the ETag were set by the pipeline
+                    writeEmployees(employeeList, null, response);
+                } else {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof IllegalArgumentException) {
+                        response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                        reportError(response, cause.getMessage());
+                    } else if (cause instanceof DataUnavailableException) {
+                        LOGGER.warning(cause.getMessage());
+                        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                        reportError(response, cause.getMessage());
+                    } else {
+                        LOGGER.log(Level.SEVERE, "Asynchronous request failed", cause);
+                        response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                    }
+                }
+            } catch (IOException | ServletException | IllegalStateException e) {
+                // Client gone, or the container already timed the request out
+                LOGGER.log(Level.WARNING, "Could not write asynchronous response: " + e.getMessage());
+            } finally {
+                try {
+                    asyncContext.complete();
+                } catch (IllegalStateException e) {
+                    LOGGER.fine("Asynchronous request already completed: " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Parse a comma-separated list of employee IDs
+     *
+     * @param value Parameter value, e.g. "101,7,42"
+     * @return IDs in the given order
+     * @throws IllegalArgumentException if the list is empty or an ID is not a number
+     */
+    static int[] parseIds(String value) {
+        String[] parts = value.split(",");
+        int[] empIds = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].trim();
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException("ids must be a comma-separated list of employee IDs");
+            }
+            try {
+                empIds[i] = Integer.parseInt(part);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid employee ID: " + part);
+            }
+        }
+        return empIds;
+    }
+
+    /**
+     * Report requested IDs that matched no employee, in request order
+     *
+     * @param response servlet response
+     * @param empIds Requested IDs
+     * @param employeeList Employees found
+     */
+    static void setMissingIds(HttpServletResponse response, int[] empIds, List<Employee> employeeList) {
+        Set<Integer> found = new HashSet<>();
+        for (Employee employee : employeeList) {
+            found.add(employee.getEmployeeId());
+        }
+        StringJoiner missing = new StringJoiner(",");
+        for (int empId : empIds) {
+            if (found.add(empId)) {
+                missing.add(Integer.toString(empId));
+            }
+        }
+        if (missing.length() > 0) {
+            response.setHeader(MISSING_IDS_HEADER, missing.toString());
+        }
+    }
+
+    /**
+     * Check whether the Accept headers ask for newline-delimited JSON
+     *
+     * @param accept Values of the Accept header, may be null
+     * @return true if application/x-ndjson is listed and not refused with q=0
+     */
+    static boolean acceptsNdjson(Enumeration<String> accept) {
+        if (accept == null) {
+            return false;
+        }
+        while (accept.hasMoreElements()) {
+            for (String range : accept.nextElement().split(",")) {
+                String[] parts = range.split(";");
+                if (!parts[0].trim().equalsIgnoreCase(NDJSON_TYPE)) {
+                    continue;
+                }
+                boolean accepted = true;
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            accepted = Double.parseDouble(parameter.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            accepted = false;
+                        }
+                    }
+                }
+                return accepted;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write the employee list (or first-name search) one row at a time while the
+     * ResultSet is being read, either as a JSON array or as NDJSON with every
+     * line flushed to the client. Memory per request stays constant no matter
+     * how many employees match.
+     *
+     * @param fn First name prefix, or null for all employees
+     * @param ndjson true for newline-delimited JSON, false for a JSON array
+     * @param response servlet response
+     * @throws IOException if an I/O error occurs
+     */
+    private void streamEmployees(String fn, boolean ndjson, HttpServletResponse response) throws IOException {
+        response.setContentType(ndjson ? NDJSON_TYPE : "application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        // Write to the output stream rather than the PrintWriter so that a client
+        // disconnect surfaces as an IOException and stops the query
+        EmployeeJsonWriter jsonWriter = new EmployeeJsonWriter(response.getOutputStream());
+        EmployeeHandler rows;
+        if (ndjson) {
+            rows = employee -> {
+                jsonWriter.writeLine(employee);
+                jsonWriter.flush();
+            };
+        } else {
+            jsonWriter.beginArray();
+            rows = jsonWriter::write;
+        }
+        try {
+            jdbcBean.streamEmployees(fn, new EmployeeHandler() {
+                @Override
+                public void handle(Employee employee) throws IOException {
+                    rows.handle(employee);
+                }
+
+                @Override
+                public void fromSnapshot(long snapshotAgeMillis) {
+                    // Nothing has been flushed yet, so the header can still be sent
+                    response.setHeader(SNAPSHOT_AGE_HEADER, Long.toString(snapshotAgeMillis / 1000));
+                }
+            });
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Streaming response failed", e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(e instanceof DataUnavailableException
+                    ? HttpServletResponse.SC_SERVICE_UNAVAILABLE : HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                return;
+            }
+            // The status line is already sent; end the response with an incomplete
+            // array, or for NDJSON after the last complete line
+            jsonWriter.close();
+            return;
+        }
+        if (!ndjson) {
+            jsonWriter.endArray();
+        }
+        jsonWriter.flush();
+    }
+
+    private int parseLimit(String value) {
+        if (value == null || value.isEmpty()) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid limit: " + value, e);
+        }
+    }
+
     /**
      * This method would edit the cookie information and make JSESSIONID empty
      * while responding to logout. This would help to avoid same cookie ID each time a person logs in.
@@ -127,7 +668,13 @@ public class WebController extends HttpServlet {
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        processRequest(request, response);
+        try {
+            processRequest(request, response);
+        } catch (DataUnavailableException e) {
+            LOGGER.warning(e.getMessage());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            reportError(response, e.getMessage());
+        }
     }
 
     /**
@@ -144,14 +691,24 @@ public class WebController extends HttpServlet {
         Map<String, String[]> x = request.getParameterMap();
         String value = null;
         
-        if ((value = request.getParameter(INCREMENT_PCT)) != null) {
-            Gson gson = new Gson();
-            response.setContentType("application/json");
-            List<Employee> employeeList = jdbcBean.incrementSalary(Integer.valueOf(value));
-            gson.toJson(employeeList,
-                    new TypeToken<ArrayList<Employee>>() {
-                    }.getType(),
-                    response.getWriter());
+        if ((value = request.getParameter(INCREMENT_PCT)) != null
+                && asyncJdbcBean != null && request.isAsyncSupported()) {
+            int incrementPct = Integer.valueOf(value);
+            AsyncContext asyncContext = request.startAsync(request, response);
+            asyncContext.setTimeout(asyncJdbcBean.getTimeoutMillis());
+            completeAsync(asyncContext, asyncJdbcBean.incrementSalary(incrementPct), response);
+        } else if (value != null) {
+            int incrementPct = Integer.valueOf(value);
+            List<Employee> employeeList;
+            try {
+                employeeList = jdbcBean.incrementSalary(incrementPct);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Salary increment failed", e);
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                reportError(response, "Salary increment failed");
+                return;
+            }
+            writeJson(employeeList, response);
         } else {
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
         }
@@ -0,0 +1,41 @@
+-- V5__Add_employees_version_counter.sql
+-- Add a table version counter that is bumped by every write to hr.employees.
+-- The application derives HTTP ETags from it, so that an unchanged employee
+-- list can be revalidated with a single-row primary key lookup instead of
+-- running and serializing the full query.
+
+-- Set the search path to use the hr schema
+SET search_path TO hr;
+
+-- One row per versioned table
+CREATE TABLE IF NOT EXISTS hr.table_versions (
+    table_name VARCHAR(64) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 1
+);
+
+INSERT INTO hr.table_versions (table_name, version)
+VALUES ('employees', 1)
+ON CONFLICT (table_name) DO NOTHING;
+
+-- Bump the version once per statement. The update is transactional, so a
+-- reader never sees a new version before the data change is committed.
+CREATE OR REPLACE FUNCTION hr.bump_table_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE hr.table_versions
+    SET version = version + 1
+    WHERE table_name = TG_TABLE_NAME;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tr_employees_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON hr.employees
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION hr.bump_table_version();
+
+COMMENT ON TABLE hr.table_versions IS 'Write counters per table, used for HTTP ETags';
+COMMENT ON COLUMN hr.table_versions.version IS 'Incremented by every INSERT, UPDATE, DELETE or TRUNCATE statement';
+
+-- Grant permissions on new objects (adjust as needed)
+-- GRANT SELECT ON hr.table_versions TO hr_user;
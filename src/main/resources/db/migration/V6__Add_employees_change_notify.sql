@@ -0,0 +1,88 @@
+-- V6__Add_employees_change_notify.sql
+-- Publish changes to hr.employees on the employees_changed channel with
+-- LISTEN/NOTIFY. The application holds one listening connection per node
+-- and forwards the payloads to browsers as Server-Sent Events, so open
+-- employee lists are patched in place instead of being re-fetched.
+--
+-- Payloads (compact JSON, delivered on commit):
+--   {"op":"I"|"U","employee":{...}}  row inserted or updated
+--   {"op":"D","employeeId":n}        row deleted
+--   {"op":"R"}                       many rows changed: reload the list
+
+-- Set the search path to use the hr schema
+SET search_path TO hr;
+
+-- Statement-level triggers with transition tables: one NOTIFY per changed
+-- row for small statements, and a single reload notice for large ones
+-- (e.g. a salary increment across the whole table)
+CREATE OR REPLACE FUNCTION hr.notify_employee_changes()
+RETURNS TRIGGER AS $$
+DECLARE
+    max_row_notifications CONSTANT INTEGER := 100;
+    changed RECORD;
+    changed_count INTEGER;
+BEGIN
+    IF TG_OP = 'TRUNCATE' THEN
+        PERFORM pg_notify('employees_changed', '{"op":"R"}');
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        SELECT COUNT(*) INTO changed_count FROM old_rows;
+    ELSE
+        SELECT COUNT(*) INTO changed_count FROM new_rows;
+    END IF;
+
+    IF changed_count = 0 THEN
+        RETURN NULL;
+    ELSIF changed_count > max_row_notifications THEN
+        PERFORM pg_notify('employees_changed', '{"op":"R"}');
+    ELSIF TG_OP = 'DELETE' THEN
+        FOR changed IN SELECT employee_id FROM old_rows LOOP
+            PERFORM pg_notify('employees_changed',
+                json_build_object('op', 'D', 'employeeId', changed.employee_id)::TEXT);
+        END LOOP;
+    ELSE
+        FOR changed IN SELECT * FROM new_rows ORDER BY employee_id LOOP
+            PERFORM pg_notify('employees_changed',
+                json_build_object(
+                    'op', CASE TG_OP WHEN 'INSERT' THEN 'I' ELSE 'U' END,
+                    'employee', json_build_object(
+                        'employeeId', changed.employee_id,
+                        'firstName', changed.first_name,
+                        'lastName', changed.last_name,
+                        'email', changed.email,
+                        'phoneNumber', changed.phone_number,
+                        'jobId', changed.job_id,
+                        'salary', changed.salary))::TEXT);
+        END LOOP;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables require one trigger per event
+CREATE TRIGGER tr_employees_notify_insert
+    AFTER INSERT ON hr.employees
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION hr.notify_employee_changes();
+
+CREATE TRIGGER tr_employees_notify_update
+    AFTER UPDATE ON hr.employees
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION hr.notify_employee_changes();
+
+CREATE TRIGGER tr_employees_notify_delete
+    AFTER DELETE ON hr.employees
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION hr.notify_employee_changes();
+
+CREATE TRIGGER tr_employees_notify_truncate
+    AFTER TRUNCATE ON hr.employees
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION hr.notify_employee_changes();
+
+COMMENT ON FUNCTION hr.notify_employee_changes() IS 'Sends employee changes on the employees_changed NOTIFY channel';
@@ -0,0 +1,41 @@
+-- V7__Create_jobs_catalog.sql
+-- Move the job codes allowed by the V4 chk_employees_job_id_valid
+-- constraint into a catalog table. The application loads the catalog into
+-- an in-memory dictionary at startup and holds job codes as small
+-- ordinals; new jobs are added with an INSERT instead of a schema change.
+
+-- Set the search path to use the hr schema
+SET search_path TO hr;
+
+CREATE TABLE IF NOT EXISTS hr.jobs (
+    job_id VARCHAR(10) PRIMARY KEY,
+    job_title VARCHAR(50) NOT NULL
+);
+
+INSERT INTO hr.jobs (job_id, job_title) VALUES
+    ('IT_PROG', 'Programmer'),
+    ('HR_REP', 'Human Resources Representative'),
+    ('HR_MAN', 'Human Resources Manager'),
+    ('SA_REP', 'Sales Representative'),
+    ('SA_MAN', 'Sales Manager'),
+    ('FI_ACCOUNT', 'Accountant'),
+    ('FI_MGR', 'Finance Manager'),
+    ('AD_ASST', 'Administration Assistant'),
+    ('AD_VP', 'Administration Vice President'),
+    ('AD_PRES', 'President')
+ON CONFLICT (job_id) DO NOTHING;
+
+-- The catalog replaces the hard-coded list of codes
+ALTER TABLE hr.employees
+DROP CONSTRAINT IF EXISTS chk_employees_job_id_valid;
+
+ALTER TABLE hr.employees
+ADD CONSTRAINT fk_employees_job_id
+FOREIGN KEY (job_id) REFERENCES hr.jobs (job_id);
+
+COMMENT ON TABLE hr.jobs IS 'Catalog of valid job codes';
+COMMENT ON COLUMN hr.jobs.job_id IS 'Job identifier/code referenced by hr.employees.job_id';
+COMMENT ON COLUMN hr.jobs.job_title IS 'Job title';
+
+-- Grant permissions on new objects (adjust as needed)
+-- GRANT SELECT ON hr.jobs TO hr_user;
@@ -0,0 +1,98 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AsyncJdbcBean (CompletableFuture front end)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncJdbcBean Tests")
+class AsyncJdbcBeanTest {
+
+    @Mock
+    private JdbcBean mockJdbcBean;
+
+    private ExecutorService executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private AsyncJdbcBean bean(boolean virtualThreads) {
+        executor = AsyncJdbcBean.newExecutor(virtualThreads, 2);
+        return new AsyncJdbcBean(mockJdbcBean, executor);
+    }
+
+    @Test
+    @DisplayName("Queries run on the executor and complete with the bean's result")
+    void testQueryRunsOnExecutor() throws Exception {
+        Employee employee = new Employee(1, "John", "Doe", "john.doe@company.com", "555-1234", "IT_PROG", new BigDecimal("75000"));
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        when(mockJdbcBean.getEmployee(1)).thenAnswer(invocation -> {
+            worker.set(Thread.currentThread());
+            return List.of(employee);
+        });
+
+        List<Employee> result = bean(false).getEmployee(1).get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(employee), result);
+        assertNotSame(Thread.currentThread(), worker.get());
+        assertTrue(worker.get().getName().startsWith("HRApp-Jdbc-"));
+        assertFalse(worker.get().isVirtual());
+    }
+
+    @Test
+    @DisplayName("Virtual thread executor runs each query on a virtual thread")
+    void testVirtualThreads() throws Exception {
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        when(mockJdbcBean.getEmployees()).thenAnswer(invocation -> {
+            worker.set(Thread.currentThread());
+            return List.of();
+        });
+
+        bean(true).getEmployees().get(5, TimeUnit.SECONDS);
+
+        assertTrue(worker.get().isVirtual());
+    }
+
+    @Test
+    @DisplayName("Bean exceptions complete the future exceptionally")
+    void testFailurePropagates() {
+        when(mockJdbcBean.incrementSalary(5)).thenThrow(new RuntimeException("Update failed"));
+
+        CompletableFuture<List<Employee>> future = bean(false).incrementSalary(5);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertEquals("Update failed", e.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Shutdown stops the executor")
+    void testShutdown() {
+        AsyncJdbcBean asyncBean = bean(false);
+
+        asyncBean.shutdown();
+
+        assertTrue(executor.isShutdown());
+    }
+}
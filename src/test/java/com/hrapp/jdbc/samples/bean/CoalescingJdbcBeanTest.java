@@ -0,0 +1,150 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CoalescingJdbcBean (single-flight reads)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingJdbcBean Tests")
+class CoalescingJdbcBeanTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private JdbcBean mockJdbcBean;
+
+    private CoalescingJdbcBean coalescingBean;
+    private ExecutorService executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        coalescingBean = new CoalescingJdbcBean(mockJdbcBean);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private static List<Employee> employees() {
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "John", "Doe", "john.doe@company.com", "555-1234", "IT_PROG", new BigDecimal("75000")));
+        return employees;
+    }
+
+    /** Start the callers and wait until all but the leader joined the leader's call */
+    private List<Future<List<Employee>>> startCallers() throws InterruptedException {
+        List<Future<List<Employee>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> coalescingBean.getEmployees()));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescingBean.getCoalescedCount() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("Concurrent identical reads should share one database call")
+    void testConcurrentReadsCoalesced() throws Exception {
+        List<Employee> employees = employees();
+        when(mockJdbcBean.getEmployees()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return employees;
+        });
+
+        List<Future<List<Employee>>> results = startCallers();
+        assertEquals(1, coalescingBean.getInFlightCount());
+        release.countDown();
+
+        for (Future<List<Employee>> result : results) {
+            assertSame(employees, result.get(5, TimeUnit.SECONDS));
+        }
+        verify(mockJdbcBean, times(1)).getEmployees();
+        assertEquals(1, coalescingBean.getExecutedCount());
+        assertEquals(CALLERS - 1, coalescingBean.getCoalescedCount());
+        assertEquals(0, coalescingBean.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("Callers that joined a failing read should see the same exception")
+    void testFailureShared() throws Exception {
+        RuntimeException failure = new RuntimeException("Connection reset");
+        when(mockJdbcBean.getEmployees()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw failure;
+        });
+
+        List<Future<List<Employee>>> results = startCallers();
+        release.countDown();
+
+        for (Future<List<Employee>> result : results) {
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, e.getCause());
+        }
+        verify(mockJdbcBean, times(1)).getEmployees();
+    }
+
+    @Test
+    @DisplayName("Sequential and differently parameterized reads should not be shared")
+    void testDistinctReadsNotCoalesced() {
+        when(mockJdbcBean.getEmployee(1)).thenReturn(employees());
+        when(mockJdbcBean.getEmployee(2)).thenReturn(List.of());
+
+        coalescingBean.getEmployee(1);
+        coalescingBean.getEmployee(1);
+        coalescingBean.getEmployee(2);
+
+        verify(mockJdbcBean, times(2)).getEmployee(1);
+        verify(mockJdbcBean).getEmployee(2);
+        assertEquals(0, coalescingBean.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("A write should detach in-flight reads so later reads query again")
+    void testWriteDetachesInFlightReads() throws Exception {
+        when(mockJdbcBean.getEmployees()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return employees();
+        });
+        when(mockJdbcBean.deleteEmployee(1)).thenReturn(true);
+
+        Future<List<Employee>> before = executor.submit(() -> coalescingBean.getEmployees());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescingBean.getInFlightCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(coalescingBean.deleteEmployee(1));
+        Future<List<Employee>> after = executor.submit(() -> coalescingBean.getEmployees());
+        release.countDown();
+
+        before.get(5, TimeUnit.SECONDS);
+        after.get(5, TimeUnit.SECONDS);
+        verify(mockJdbcBean, times(2)).getEmployees();
+        assertEquals(0, coalescingBean.getCoalescedCount());
+    }
+}
@@ -0,0 +1,137 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.config.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeBulkImporter (COPY-based bulk import)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeBulkImporter Tests")
+class EmployeeBulkImporterTest {
+
+    private static final String CSV =
+        "first_name,last_name,email,phone_number,job_id,salary\n" +
+        "Ann,Lee,ann.lee@company.com,555-0001,IT_PROG,50000\n" +
+        "Bad,Row,not-an-email,555-0002,IT_PROG,50000\n";
+
+    @Mock
+    private ConnectionFactory mockConnectionFactory;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PGConnection mockPgConnection;
+
+    @Mock
+    private CopyManager mockCopyManager;
+
+    @Mock
+    private Statement mockStatement;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockCountResultSet;
+
+    @Mock
+    private ResultSet mockRejectionResultSet;
+
+    private EmployeeBulkImporter importer;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        importer = new EmployeeBulkImporter(mockConnectionFactory);
+        when(mockConnectionFactory.getConnection(false)).thenReturn(mockConnection);
+        when(mockConnection.createStatement()).thenReturn(mockStatement);
+    }
+
+    @Test
+    @DisplayName("Import - Streams CSV through COPY, inserts valid rows and reports rejections")
+    void testImportCsv_Success() throws Exception {
+        // Arrange
+        when(mockConnection.unwrap(PGConnection.class)).thenReturn(mockPgConnection);
+        when(mockPgConnection.getCopyAPI()).thenReturn(mockCopyManager);
+        when(mockCopyManager.copyIn(anyString(), any(Reader.class))).thenReturn(2L);
+        when(mockStatement.executeUpdate(anyString())).thenReturn(2, 1);
+        when(mockStatement.executeQuery(contains("COUNT(*)"))).thenReturn(mockCountResultSet);
+        when(mockCountResultSet.next()).thenReturn(true);
+        when(mockCountResultSet.getLong(1)).thenReturn(1L);
+        when(mockConnection.prepareStatement(contains("reject_reason IS NOT NULL"))).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockRejectionResultSet);
+        when(mockRejectionResultSet.next()).thenReturn(true, false);
+        when(mockRejectionResultSet.getLong(1)).thenReturn(2L);
+        when(mockRejectionResultSet.getString(2)).thenReturn("not-an-email");
+        when(mockRejectionResultSet.getString(3)).thenReturn("invalid email");
+        when(mockConnection.getAutoCommit()).thenReturn(false);
+
+        // Act
+        ImportResult result = importer.importCsv(new StringReader(CSV));
+
+        // Assert
+        assertEquals(1, result.getImportedCount());
+        assertEquals(1, result.getRejectedCount());
+        assertEquals(2, result.getRejections().get(0).getRecordNumber());
+        assertEquals("invalid email", result.getRejections().get(0).getReason());
+        verify(mockStatement).execute(contains("CREATE TEMP TABLE employees_import"));
+        verify(mockCopyManager).copyIn(startsWith("COPY employees_import"), any(Reader.class));
+        verify(mockStatement).executeUpdate(contains("UPDATE employees_import"));
+        verify(mockStatement).executeUpdate(contains("INSERT INTO employees"));
+        verify(mockPreparedStatement).setInt(1, EmployeeBulkImporter.MAX_REPORTED_REJECTIONS);
+        verify(mockConnection).commit();
+        verify(mockConnection).close();
+    }
+
+    @Test
+    @DisplayName("Import - Rolls back when COPY fails")
+    void testImportCsv_CopyFails() throws Exception {
+        // Arrange
+        when(mockConnection.unwrap(PGConnection.class)).thenReturn(mockPgConnection);
+        when(mockPgConnection.getCopyAPI()).thenReturn(mockCopyManager);
+        when(mockCopyManager.copyIn(anyString(), any(Reader.class))).thenThrow(new SQLException("extra data after last expected column"));
+        when(mockConnection.getAutoCommit()).thenReturn(false);
+
+        // Act & Assert
+        RuntimeException e = assertThrows(RuntimeException.class, () -> importer.importCsv(new StringReader(CSV)));
+        assertTrue(e.getMessage().contains("Bulk import failed"));
+        verify(mockConnection).rollback();
+        verify(mockConnection, never()).commit();
+        verify(mockConnection).close();
+    }
+
+    @Test
+    @DisplayName("Import - Propagates input read errors after rolling back")
+    void testImportCsv_ReadFails() throws Exception {
+        // Arrange
+        when(mockConnection.unwrap(PGConnection.class)).thenReturn(mockPgConnection);
+        when(mockPgConnection.getCopyAPI()).thenReturn(mockCopyManager);
+        when(mockCopyManager.copyIn(anyString(), any(Reader.class))).thenThrow(new IOException("Stream closed"));
+        when(mockConnection.getAutoCommit()).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> importer.importCsv(new StringReader(CSV)));
+        verify(mockConnection).rollback();
+    }
+}
@@ -0,0 +1,176 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EmployeeCache.
+ *
+ * Covers read-through hits and misses, TTL expiry, frequency-aware admission
+ * when the cache is full, and invalidation after writes.
+ *
+ * @author HR Application Team
+ */
+@DisplayName("EmployeeCache Unit Tests")
+class EmployeeCacheTest {
+
+    private AtomicLong now;
+    private EmployeeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1000);
+        cache = new EmployeeCache(2, 10000, now::get);
+    }
+
+    @Test
+    @DisplayName("get should miss first and hit after put")
+    void testGetAfterPut() {
+        assertNull(cache.get(1));
+        cache.put(employee(1), cache.generation());
+
+        Employee cached = cache.get(1);
+
+        assertNotNull(cached);
+        assertEquals("Emp1", cached.getFirstName());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Cached employees should be isolated from caller mutation")
+    void testReturnsCopies() {
+        Employee original = employee(1);
+        cache.put(original, cache.generation());
+        original.setFirstName("Changed");
+
+        Employee first = cache.get(1);
+        first.setSalary(BigDecimal.ZERO);
+
+        Employee second = cache.get(1);
+        assertEquals("Emp1", second.getFirstName());
+        // Salaries are held as cents and come back with the column's scale
+        assertEquals(new BigDecimal("50000.00"), second.getSalary());
+    }
+
+    @Test
+    @DisplayName("Entries should expire after TTL")
+    void testExpiry() {
+        cache.put(employee(1), cache.generation());
+        cache.putAll(Arrays.asList(employee(1), employee(2)), cache.generation());
+
+        now.addAndGet(10000);
+
+        assertNull(cache.get(1));
+        assertNull(cache.getAll());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Frequently read employees should not be evicted by one-off lookups")
+    void testFrequencyAwareAdmission() {
+        for (int i = 0; i < 5; i++) {
+            cache.get(1);
+            cache.get(2);
+        }
+        cache.put(employee(1), cache.generation());
+        cache.put(employee(2), cache.generation());
+
+        // One-off lookup of a cold employee is rejected
+        cache.get(3);
+        cache.put(employee(3), cache.generation());
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(1));
+        assertNotNull(cache.get(2));
+        assertEquals(1, cache.getRejectionCount());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("A hotter candidate should evict the least recently used entry")
+    void testEvictionOfColdEntry() {
+        cache.put(employee(1), cache.generation());
+        cache.put(employee(2), cache.generation());
+        cache.get(2);
+        for (int i = 0; i < 5; i++) {
+            cache.get(3);
+        }
+
+        cache.put(employee(3), cache.generation());
+
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get(1));
+        assertNotNull(cache.get(3));
+    }
+
+    @Test
+    @DisplayName("Writes should invalidate single entries and the employee list")
+    void testInvalidation() {
+        cache.put(employee(1), cache.generation());
+        cache.putAll(Arrays.asList(employee(1), employee(2)), cache.generation());
+
+        cache.invalidate(1);
+
+        assertNull(cache.get(1));
+        assertNull(cache.getAll());
+    }
+
+    @Test
+    @DisplayName("update should replace the cached employee")
+    void testUpdate() {
+        cache.put(employee(1), cache.generation());
+        Employee updated = employee(1);
+        updated.setSalary(new BigDecimal("55000"));
+
+        cache.update(updated);
+
+        assertEquals(new BigDecimal("55000.00"), cache.get(1).getSalary());
+    }
+
+    @Test
+    @DisplayName("Reads that started before a write should not be cached")
+    void testStaleReadIsDropped() {
+        long readGeneration = cache.generation();
+        cache.invalidate(1);
+
+        cache.put(employee(1), readGeneration);
+        cache.putAll(List.of(employee(1)), readGeneration);
+
+        assertEquals(0, cache.size());
+        assertNull(cache.getAll());
+    }
+
+    @Test
+    @DisplayName("Disabled cache should never store entries")
+    void testDisabled() {
+        EmployeeCache disabled = EmployeeCache.disabled();
+        disabled.put(employee(1), disabled.generation());
+        disabled.putAll(List.of(employee(1)), disabled.generation());
+
+        assertFalse(disabled.isEnabled());
+        assertNull(disabled.get(1));
+        assertNull(disabled.getAll());
+    }
+
+    @Test
+    @DisplayName("getStats should report counters")
+    void testStats() {
+        cache.get(1);
+        String stats = cache.getStats();
+        assertTrue(stats.contains("Misses: 1"));
+        assertTrue(stats.contains("Hits: 0"));
+    }
+
+    private static Employee employee(int id) {
+        return new Employee(id, "Emp" + id, "Test", "emp" + id + "@company.com",
+                "555-000" + id, "IT_PROG", new BigDecimal("50000"));
+    }
+}
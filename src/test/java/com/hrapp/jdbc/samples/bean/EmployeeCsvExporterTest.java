@@ -0,0 +1,102 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.config.ConnectionFactory;
+import com.hrapp.jdbc.samples.entity.EmployeeField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeCsvExporter (COPY-based CSV export)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeCsvExporter Tests")
+class EmployeeCsvExporterTest {
+
+    @Mock
+    private ConnectionFactory mockConnectionFactory;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PGConnection mockPgConnection;
+
+    @Mock
+    private CopyManager mockCopyManager;
+
+    private EmployeeCsvExporter exporter;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        exporter = new EmployeeCsvExporter(mockConnectionFactory);
+    }
+
+    private void mockCopyApi() throws SQLException {
+        when(mockConnectionFactory.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.unwrap(PGConnection.class)).thenReturn(mockPgConnection);
+        when(mockPgConnection.getCopyAPI()).thenReturn(mockCopyManager);
+    }
+
+    @Test
+    @DisplayName("exportCsv should pipe COPY output for the selected columns")
+    void testExportCsv_Success() throws Exception {
+        // Arrange
+        mockCopyApi();
+        when(mockCopyManager.copyOut(anyString(), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("employee_id,salary\n1,75000.00\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long exported = exporter.exportCsv(EnumSet.of(EmployeeField.SALARY, EmployeeField.EMPLOYEE_ID), out);
+
+        // Assert
+        assertEquals(1L, exported);
+        assertEquals("employee_id,salary\n1,75000.00\n", out.toString(StandardCharsets.UTF_8));
+        verify(mockCopyManager).copyOut(
+            eq("COPY (SELECT employee_id, salary FROM employees ORDER BY employee_id) TO STDOUT WITH (FORMAT csv, HEADER true)"),
+            same(out));
+        verify(mockConnection).close();
+    }
+
+    @Test
+    @DisplayName("exportCsv should wrap database failures and release the connection")
+    void testExportCsv_CopyFails() throws Exception {
+        // Arrange
+        mockCopyApi();
+        when(mockCopyManager.copyOut(anyString(), any(OutputStream.class))).thenThrow(new SQLException("relation does not exist"));
+
+        // Act & Assert
+        RuntimeException e = assertThrows(RuntimeException.class,
+            () -> exporter.exportCsv(EmployeeField.ALL, new ByteArrayOutputStream()));
+        assertInstanceOf(SQLException.class, e.getCause());
+        verify(mockConnection).close();
+    }
+
+    @Test
+    @DisplayName("exportCsv should reject an empty column list without touching the database")
+    void testExportCsv_NoColumns() {
+        assertThrows(IllegalArgumentException.class,
+            () -> exporter.exportCsv(EnumSet.noneOf(EmployeeField.class), new ByteArrayOutputStream()));
+        verifyNoInteractions(mockConnectionFactory);
+    }
+}
@@ -0,0 +1,77 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeRowMapper (index-resolved employee row mapping)
+ */
+@DisplayName("EmployeeRowMapper Tests")
+class EmployeeRowMapperTest {
+
+    private static ResultSetMetaData metaData(String... labels) throws Exception {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            lenient().when(metaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+        }
+        return metaData;
+    }
+
+    @Test
+    @DisplayName("Columns should be resolved once from the metadata and read by index")
+    void testMapByIndex() throws Exception {
+        // SELECT * order, with an extra column and upper-case labels
+        ResultSetMetaData metaData = metaData("EMPLOYEE_ID", "first_name", "last_name", "email", "phone_number",
+                                              "hire_date", "job_id", "salary");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.getInt(1)).thenReturn(7, 8);
+        when(resultSet.getString(2)).thenReturn("Jane");
+        when(resultSet.getString(7)).thenReturn("IT_PROG");
+        when(resultSet.getBigDecimal(8)).thenReturn(new BigDecimal("65000.00"));
+
+        EmployeeRowMapper mapper = EmployeeRowMapper.forResultSet(resultSet);
+        EmployeeRecord record = mapper.mapRow(resultSet);
+        Employee employee = mapper.employees().mapRow(resultSet);
+
+        assertTrue(mapper.isResolved());
+        assertEquals(7, record.employeeId());
+        assertEquals("Jane", record.firstName());
+        assertEquals("IT_PROG", record.jobId());
+        assertEquals(6500000L, record.salaryCents());
+        assertEquals(Integer.valueOf(8), employee.getEmployeeId());
+        assertEquals(new BigDecimal("65000.00"), employee.getSalary());
+        verify(resultSet, times(1)).getMetaData();
+        verify(resultSet, never()).getInt(anyString());
+        verify(resultSet, never()).getString(anyString());
+        verify(resultSet, never()).getBigDecimal(anyString());
+        verify(resultSet, never()).getString(6);
+    }
+
+    @Test
+    @DisplayName("Columns missing from the metadata should be read by name")
+    void testFallbackToLabel() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt("employee_id")).thenReturn(7);
+        when(resultSet.getString("last_name")).thenReturn("Doe");
+
+        EmployeeRowMapper mapper = EmployeeRowMapper.forResultSet(resultSet);
+        Employee employee = mapper.mapEmployee(resultSet);
+
+        assertFalse(mapper.isResolved());
+        assertEquals(Integer.valueOf(7), employee.getEmployeeId());
+        assertEquals("Doe", employee.getLastName());
+        assertNull(employee.getSalary());
+    }
+}
@@ -0,0 +1,105 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+import com.hrapp.jdbc.samples.entity.JobDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EmployeeSnapshotFile (memory-mapped last-known-good snapshot)
+ */
+@DisplayName("EmployeeSnapshotFile Tests")
+class EmployeeSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    private static EmployeeSnapshot sample() {
+        JobDictionary jobs = JobDictionary.getInstance();
+        EmployeeSnapshot.Builder builder = new EmployeeSnapshot.Builder(3);
+        builder.add(new EmployeeRecord(2, "Jane", "Doe", "jane@company.com", "555-0002", jobs.ordinal("HR_REP"),
+                                       EmployeeRecord.NO_SALARY));
+        builder.add(new EmployeeRecord(4, "John", "Smith", "john@company.com", "555-0004", JobDictionary.NO_JOB,
+                                       6500050));
+        builder.add(new EmployeeRecord(7, "Zoë", "Doe", "zoe@company.com", null, jobs.ordinal("IT_PROG"), 7500000));
+        return builder.build(123_456L);
+    }
+
+    @Test
+    @DisplayName("Written snapshot maps back to the same rows")
+    void testWriteAndMap() throws IOException {
+        Path path = directory.resolve("nested/employees.snapshot");
+        EmployeeSnapshot snapshot = sample();
+
+        EmployeeSnapshotFile.write(snapshot, 1_000L, path);
+        EmployeeSnapshotFile file = EmployeeSnapshotFile.map(path);
+
+        assertEquals(1_000L, file.getTakenAt());
+        assertEquals(3, file.size());
+        List<Employee> employees = file.getEmployees();
+        assertEquals(3, employees.size());
+        assertEquals(Arrays.asList(2, 4, 7), employees.stream().map(Employee::getEmployeeId).toList());
+
+        Employee zoe = file.getEmployee(7);
+        assertEquals("Zoë", zoe.getFirstName());
+        assertNull(zoe.getPhoneNumber());
+        assertEquals("IT_PROG", zoe.getJobId());
+        assertEquals(new BigDecimal("75000.00"), zoe.getSalary());
+        assertNull(file.getEmployee(2).getSalary());
+        assertNull(file.getEmployee(4).getJobId());
+        assertNull(file.getEmployee(3));
+        assertNull(file.getEmployee(8));
+
+        EmployeeSnapshot restored = file.toSnapshot();
+        assertEquals(123_456L, restored.getWatermark());
+        assertEquals(snapshot.size(), restored.size());
+        for (int id : new int[] {2, 4, 7}) {
+            assertEquals(snapshot.getEmployee(id), restored.getEmployee(id));
+        }
+    }
+
+    @Test
+    @DisplayName("Touch updates only the taken-at time")
+    void testTouch() throws IOException {
+        Path path = directory.resolve("employees.snapshot");
+        EmployeeSnapshotFile.write(sample(), 1_000L, path);
+
+        EmployeeSnapshotFile.touch(path, 5_000L);
+        EmployeeSnapshotFile file = EmployeeSnapshotFile.map(path);
+
+        assertEquals(5_000L, file.getTakenAt());
+        assertEquals(3, file.size());
+        assertEquals("Smith", file.getEmployee(4).getLastName());
+    }
+
+    @Test
+    @DisplayName("Truncated and foreign files are rejected")
+    void testRejectsInvalidFile() throws IOException {
+        Path path = directory.resolve("employees.snapshot");
+        EmployeeSnapshotFile.write(sample(), 1_000L, path);
+        byte[] bytes = Files.readAllBytes(path);
+
+        Path truncated = directory.resolve("truncated.snapshot");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> EmployeeSnapshotFile.map(truncated));
+
+        Path foreign = directory.resolve("foreign.snapshot");
+        Files.write(foreign, "not a snapshot file at all, just some text".getBytes());
+        assertThrows(IOException.class, () -> EmployeeSnapshotFile.map(foreign));
+
+        Path empty = directory.resolve("empty.snapshot");
+        Files.write(empty, new byte[0]);
+        assertThrows(IOException.class, () -> EmployeeSnapshotFile.map(empty));
+    }
+}
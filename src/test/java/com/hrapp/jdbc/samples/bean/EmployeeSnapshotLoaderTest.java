@@ -0,0 +1,182 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.config.ConnectionFactory;
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeSnapshotLoader (incremental snapshot refresh)
+ */
+@DisplayName("EmployeeSnapshotLoader Tests")
+class EmployeeSnapshotLoaderTest {
+
+    private final AtomicLong now = new AtomicLong(100_000);
+    private ConnectionFactory connectionFactory;
+    private Connection connection;
+    private Statement statement;
+    private PreparedStatement preparedStatement;
+    private EmployeeSnapshotLoader loader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connectionFactory = mock(ConnectionFactory.class);
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        preparedStatement = mock(PreparedStatement.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.prepareStatement(contains("updated_at >"))).thenReturn(preparedStatement);
+        loader = new EmployeeSnapshotLoader(connectionFactory, 1000, 500, now::get);
+    }
+
+    private static Object[] row(int id, String jobId, String salary, long updatedAt) {
+        return new Object[] {id, "First" + id, "Last" + id, "e" + id + "@company.com", "555-" + id, jobId,
+                             new BigDecimal(salary), new Timestamp(updatedAt)};
+    }
+
+    // ResultSet over rows of row(); columns are read by name as there is no metadata
+    private static ResultSet rows(Object[]... rows) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        int[] current = {-1};
+        when(resultSet.next()).thenAnswer(invocation -> ++current[0] < rows.length);
+        when(resultSet.getInt("employee_id")).thenAnswer(invocation -> rows[current[0]][0]);
+        String[] columns = {null, "first_name", "last_name", "email", "phone_number", "job_id"};
+        for (int i = 1; i < columns.length; i++) {
+            int column = i;
+            when(resultSet.getString(columns[i])).thenAnswer(invocation -> rows[current[0]][column]);
+        }
+        when(resultSet.getBigDecimal("salary")).thenAnswer(invocation -> rows[current[0]][6]);
+        when(resultSet.getTimestamp(8)).thenAnswer(invocation -> rows[current[0]][7]);
+        return resultSet;
+    }
+
+    private static ResultSet count(long rows) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(rows);
+        return resultSet;
+    }
+
+    @Test
+    @DisplayName("The first refresh should load the table, later ones only changed rows")
+    void testFullThenDelta() throws Exception {
+        ResultSet full = rows(row(1, "IT_PROG", "75000.00", 5000), row(2, "HR_REP", "65000.00", 8000));
+        ResultSet delta = rows(row(2, "HR_MAN", "70000.00", 9000), row(3, "SA_REP", "55000.00", 9500));
+        ResultSet tableCount = count(3);
+        when(statement.executeQuery(contains("ORDER BY"))).thenReturn(full);
+        when(statement.executeQuery(contains("COUNT(*)"))).thenReturn(tableCount);
+        when(preparedStatement.executeQuery()).thenReturn(delta);
+
+        EmployeeSnapshot first = loader.getSnapshot();
+        assertEquals(2, first.size());
+        assertEquals(8000L, first.getWatermark());
+        assertSame(first, loader.getSnapshot());
+
+        now.addAndGet(1000);
+        EmployeeSnapshot second = loader.getSnapshot();
+
+        assertEquals(3, second.size());
+        assertEquals(9500L, second.getWatermark());
+        assertEquals("HR_MAN", second.getEmployee(2).getJobId());
+        assertEquals(1, loader.getFullLoadCount());
+        assertEquals(1, loader.getDeltaLoadCount());
+        // Changed rows are looked for from the watermark minus the overlap
+        verify(preparedStatement).setTimestamp(1, new Timestamp(7500));
+        verify(statement, times(1)).executeQuery(contains("ORDER BY"));
+    }
+
+    @Test
+    @DisplayName("A deleted row should be detected by the row count and trigger a full reload")
+    void testDeleteTriggersFullLoad() throws Exception {
+        ResultSet full = rows(row(1, "IT_PROG", "75000.00", 5000), row(2, "HR_REP", "65000.00", 8000));
+        ResultSet reload = rows(row(2, "HR_REP", "65000.00", 8000));
+        ResultSet tableCount = count(1);
+        ResultSet noChanges = rows();
+        when(statement.executeQuery(contains("ORDER BY"))).thenReturn(full, reload);
+        when(statement.executeQuery(contains("COUNT(*)"))).thenReturn(tableCount);
+        when(preparedStatement.executeQuery()).thenReturn(noChanges);
+
+        loader.refresh();
+        EmployeeSnapshot snapshot = loader.refresh();
+
+        assertEquals(1, snapshot.size());
+        assertNull(snapshot.getEmployee(1));
+        assertEquals(2, loader.getFullLoadCount());
+        assertEquals(0, loader.getDeltaLoadCount());
+    }
+
+    @Test
+    @DisplayName("A saved snapshot should be decoded only when the database answers or a reader needs it")
+    void testLazySeed() throws Exception {
+        EmployeeSnapshot.Builder builder = new EmployeeSnapshot.Builder(1);
+        builder.add(EmployeeRecord.of(new Employee(1, "First1", "Last1", "e1@company.com", "555-1", "IT_PROG",
+                                                   new BigDecimal("75000.00"))));
+        EmployeeSnapshot saved = builder.build(5000);
+        AtomicInteger decoded = new AtomicInteger();
+        loader.seed(() -> {
+            decoded.incrementAndGet();
+            return saved;
+        });
+
+        when(connectionFactory.getConnection()).thenThrow(new SQLException("Connection refused"));
+        assertThrows(SQLException.class, () -> loader.refresh());
+        assertEquals(0, decoded.get(), "The seed must not be decoded while the database is unavailable");
+
+        now.addAndGet(1000);
+        assertSame(saved, loader.getSnapshot());
+        assertEquals(1, decoded.get());
+    }
+
+    @Test
+    @DisplayName("A seeded loader should start with a delta load")
+    void testSeedThenDelta() throws Exception {
+        EmployeeSnapshot.Builder builder = new EmployeeSnapshot.Builder(1);
+        builder.add(EmployeeRecord.of(new Employee(1, "First1", "Last1", "e1@company.com", "555-1", "IT_PROG",
+                                                   new BigDecimal("75000.00"))));
+        loader.seed(() -> builder.build(5000));
+        ResultSet delta = rows(row(2, "HR_REP", "65000.00", 8000));
+        ResultSet tableCount = count(2);
+        when(statement.executeQuery(contains("COUNT(*)"))).thenReturn(tableCount);
+        when(preparedStatement.executeQuery()).thenReturn(delta);
+
+        EmployeeSnapshot snapshot = loader.refresh();
+
+        assertEquals(2, snapshot.size());
+        assertEquals(0, loader.getFullLoadCount());
+        assertEquals(1, loader.getDeltaLoadCount());
+        verify(preparedStatement).setTimestamp(1, new Timestamp(4500));
+    }
+
+    @Test
+    @DisplayName("A failed refresh should keep the previous snapshot and wait for the next interval")
+    void testRefreshFailure() throws Exception {
+        ResultSet full = rows(row(1, "IT_PROG", "75000.00", 5000));
+        when(statement.executeQuery(contains("ORDER BY"))).thenReturn(full);
+        EmployeeSnapshot loaded = loader.getSnapshot();
+
+        when(connectionFactory.getConnection()).thenThrow(new SQLException("Connection refused"));
+        now.addAndGet(1000);
+
+        assertSame(loaded, loader.getSnapshot());
+        assertSame(loaded, loader.getSnapshot());
+        verify(connectionFactory, times(2)).getConnection();
+        assertTrue(loader.getStats().contains("rows=1"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+import com.hrapp.jdbc.samples.entity.JobDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeSnapshotStore (snapshot file refresh and warm start)
+ */
+@DisplayName("EmployeeSnapshotStore Tests")
+class EmployeeSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong now = new AtomicLong(100_000);
+    private EmployeeSnapshotLoader loader;
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        loader = mock(EmployeeSnapshotLoader.class);
+        path = directory.resolve("employees.snapshot");
+    }
+
+    private static EmployeeSnapshot snapshot(int rows) {
+        EmployeeSnapshot.Builder builder = new EmployeeSnapshot.Builder(rows);
+        for (int id = 1; id <= rows; id++) {
+            builder.add(new EmployeeRecord(id, "First" + id, "Last" + id, "e" + id + "@company.com", "555-" + id,
+                                           JobDictionary.getInstance().ordinal("IT_PROG"), 100_00L * id));
+        }
+        return builder.build(50_000L);
+    }
+
+    @Test
+    @DisplayName("Refresh writes the file, then only touches it while unchanged")
+    void testPersist() throws Exception {
+        EmployeeSnapshot first = snapshot(2);
+        when(loader.refresh()).thenReturn(first);
+        EmployeeSnapshotStore store = new EmployeeSnapshotStore(path, loader, 1000, now::get);
+        assertEquals(-1, store.getAgeMillis());
+
+        store.persist();
+        EmployeeSnapshotFile written = store.getFile();
+        assertNotNull(written);
+        assertEquals(2, written.size());
+
+        now.addAndGet(5_000);
+        store.persist();
+        assertSame(written, store.getFile(), "Unchanged snapshot must not be rewritten");
+        assertEquals(105_000, EmployeeSnapshotFile.map(path).getTakenAt());
+
+        when(loader.refresh()).thenThrow(new SQLException("Connection refused"));
+        now.addAndGet(7_000);
+        store.persist();
+        assertSame(written, store.getFile());
+        assertEquals(7_000, store.getAgeMillis());
+
+        reset(loader);
+        when(loader.refresh()).thenReturn(snapshot(3));
+        store.persist();
+        assertEquals(3, store.getFile().size());
+        assertEquals(0, store.getAgeMillis());
+    }
+
+    @Test
+    @DisplayName("Existing file is mapped on start and decoded only when the loader needs the seed")
+    void testWarmStart() throws Exception {
+        EmployeeSnapshotFile.write(snapshot(4), 90_000L, path);
+        EmployeeSnapshotStore store = new EmployeeSnapshotStore(path, loader, 1000, now::get);
+
+        store.open();
+
+        assertEquals(4, store.getFile().size());
+        assertEquals(10_000, store.getAgeMillis());
+        ArgumentCaptor<Supplier<EmployeeSnapshot>> seed = ArgumentCaptor.captor();
+        verify(loader).seed(seed.capture());
+        EmployeeSnapshot seeded = seed.getValue().get();
+        assertEquals(4, seeded.size());
+        assertEquals(50_000L, seeded.getWatermark());
+
+        // The loader returns the seed unchanged, so the file is only touched
+        EmployeeSnapshotFile mapped = store.getFile();
+        when(loader.refresh()).thenReturn(seeded);
+        store.persist();
+        assertSame(mapped, store.getFile());
+        assertEquals(0, store.getAgeMillis());
+    }
+
+    @Test
+    @DisplayName("Unreadable file is ignored")
+    void testCorruptFileIgnored() throws Exception {
+        Files.write(path, new byte[] {1, 2, 3});
+        EmployeeSnapshotStore store = new EmployeeSnapshotStore(path, loader, 1000, now::get);
+
+        store.open();
+
+        assertNull(store.getFile());
+        assertEquals(-1, store.getAgeMillis());
+        verify(loader, never()).seed(any());
+    }
+}
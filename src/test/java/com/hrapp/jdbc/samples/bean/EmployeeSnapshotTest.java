@@ -0,0 +1,146 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeRecord;
+import com.hrapp.jdbc.samples.entity.JobDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for EmployeeSnapshot (columnar employee snapshot)
+ */
+@DisplayName("EmployeeSnapshot Tests")
+class EmployeeSnapshotTest {
+
+    private static EmployeeRecord record(int id, String firstName, String lastName, String jobId, long salaryCents) {
+        return new EmployeeRecord(id, firstName, lastName, firstName.toLowerCase() + id + "@company.com", "555-" + id,
+                                  JobDictionary.getInstance().ordinal(jobId), salaryCents);
+    }
+
+    private static EmployeeSnapshot snapshot(EmployeeRecord... records) {
+        EmployeeSnapshot.Builder builder = new EmployeeSnapshot.Builder(2);
+        for (EmployeeRecord record : records) {
+            builder.add(record);
+        }
+        return builder.build(1000L);
+    }
+
+    private static EmployeeSnapshot sample() {
+        return snapshot(
+            record(1, "John", "Doe", "IT_PROG", 7500000),
+            record(2, "Jane", "Smith", "HR_REP", 6500000),
+            record(3, "Bob", "Johnson", "SA_REP", 5500000),
+            record(4, "Alice", "Williams", "IT_PROG", 8000000),
+            record(5, "Jack", "Brown", "IT_PROG", 7500000));
+    }
+
+    @Test
+    @DisplayName("Count and sum should apply job, salary and first name conditions")
+    void testCountAndSum() {
+        EmployeeSnapshot snapshot = sample();
+        EmployeeSnapshot.Filter itProg = EmployeeSnapshot.Filter.ALL.job("IT_PROG");
+
+        assertEquals(5, snapshot.count(EmployeeSnapshot.Filter.ALL));
+        assertEquals(3, snapshot.count(itProg));
+        assertEquals(23000000L, snapshot.sumSalaryCents(itProg));
+        assertEquals(new BigDecimal("230000.00"), snapshot.sumSalary(itProg));
+        assertEquals(2, snapshot.count(itProg.salaryBetween(null, new BigDecimal("75000"))));
+        assertEquals(2, snapshot.count(EmployeeSnapshot.Filter.ALL.firstNameStartingWith("Ja")));
+        assertEquals(1, snapshot.count(itProg.firstNameStartingWith("Ja")));
+        assertEquals(0, snapshot.count(EmployeeSnapshot.Filter.ALL.job("NO_SUCH")));
+        assertArrayEquals(new int[] {1, 5}, snapshot.filter(itProg.salaryBetween(new BigDecimal("75000.00"),
+                                                                                  new BigDecimal("75000.00"))));
+    }
+
+    @Test
+    @DisplayName("Top-K should order by salary descending and then by ID")
+    void testTopBySalary() {
+        EmployeeSnapshot snapshot = sample();
+
+        assertArrayEquals(new int[] {4, 1, 5}, snapshot.topBySalary(EmployeeSnapshot.Filter.ALL, 3));
+        assertArrayEquals(new int[] {4, 1, 5}, snapshot.topBySalary(EmployeeSnapshot.Filter.ALL.job("IT_PROG"), 10));
+        assertArrayEquals(new int[] {4, 1, 5, 2, 3}, snapshot.topBySalary(EmployeeSnapshot.Filter.ALL, 5));
+        assertArrayEquals(new int[0], snapshot.topBySalary(EmployeeSnapshot.Filter.ALL, 0));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.topBySalary(EmployeeSnapshot.Filter.ALL, -1));
+
+        List<Employee> top = snapshot.getEmployees(snapshot.topBySalary(EmployeeSnapshot.Filter.ALL, 1));
+        assertEquals(1, top.size());
+        assertEquals("Williams", top.get(0).getLastName());
+        assertEquals("IT_PROG", top.get(0).getJobId());
+        assertEquals(new BigDecimal("80000.00"), top.get(0).getSalary());
+    }
+
+    @Test
+    @DisplayName("First and last names should share one dictionary")
+    void testNameDictionary() {
+        EmployeeSnapshot snapshot = snapshot(
+            record(1, "Morgan", "Lee", "IT_PROG", 100),
+            record(2, "Lee", "Morgan", "IT_PROG", 100),
+            record(3, "Morgan", "Morgan", "IT_PROG", 100));
+
+        assertEquals(2, snapshot.getNameCount());
+        assertEquals("Morgan", snapshot.getEmployee(2).getLastName());
+        assertNull(snapshot.getEmployee(4));
+    }
+
+    @Test
+    @DisplayName("Merging changed rows should replace, insert and keep ID order")
+    void testMerge() {
+        EmployeeSnapshot snapshot = sample();
+
+        EmployeeSnapshot merged = snapshot.merge(List.of(
+            record(2, "Jane", "Smith", "HR_MAN", 9000000),
+            record(6, "Eve", "Davis", "IT_PROG", 6000000)), 2000L);
+
+        assertEquals(5, snapshot.size());
+        assertEquals("HR_REP", snapshot.getEmployee(2).getJobId());
+        assertEquals(6, merged.size());
+        assertEquals(2000L, merged.getWatermark());
+        assertEquals("HR_MAN", merged.getEmployee(2).getJobId());
+        assertArrayEquals(new int[] {2, 4}, merged.topBySalary(EmployeeSnapshot.Filter.ALL, 2));
+        assertArrayEquals(new int[] {1, 4, 5, 6}, merged.filter(EmployeeSnapshot.Filter.ALL.job("IT_PROG")));
+        assertEquals(1000L, snapshot.merge(List.of(), 500L).getWatermark());
+        assertThrows(IllegalArgumentException.class, () -> snapshot.merge(List.of(
+            record(6, "Eve", "Davis", "IT_PROG", 100), record(6, "Eve", "Davis", "IT_PROG", 100)), 2000L));
+    }
+
+    @Test
+    @DisplayName("Count, sum and top-K scans should not allocate per row")
+    void testNoPerRowAllocation() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        int rows = 100_000;
+        String[] jobs = {"IT_PROG", "HR_REP", "SA_REP", "FI_MGR"};
+        EmployeeSnapshot.Builder builder = new EmployeeSnapshot.Builder(rows);
+        for (int i = 1; i <= rows; i++) {
+            builder.add(record(i, "First" + i % 100, "Last" + i % 500, jobs[i % jobs.length], 4_000_000L + i));
+        }
+        EmployeeSnapshot snapshot = builder.build(1000L);
+        EmployeeSnapshot.Filter filter = EmployeeSnapshot.Filter.ALL.job("IT_PROG")
+            .salaryBetween(new BigDecimal("40100"), null).firstNameStartingWith("First1");
+
+        long checksum = 0;
+        for (int i = 0; i < 20; i++) {
+            checksum += scan(snapshot, filter);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        checksum += scan(snapshot, filter);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(checksum > 0);
+        assertTrue(allocated < 16 * 1024, "Scanning " + rows + " rows allocated " + allocated + " bytes");
+    }
+
+    private static long scan(EmployeeSnapshot snapshot, EmployeeSnapshot.Filter filter) {
+        return snapshot.count(filter) + snapshot.sumSalaryCents(filter) + snapshot.topBySalary(filter, 10)[0];
+    }
+}
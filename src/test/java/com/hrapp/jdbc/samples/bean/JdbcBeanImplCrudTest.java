@@ -273,6 +273,20 @@ class JdbcBeanImplCrudTest {
         assertNull(updatedEmployee);
     }
 
+    @Test
+    @DisplayName("Update Employee by ID - Database Unavailable")
+    void testUpdateEmployeeById_DatabaseUnavailable() throws SQLException {
+        // Arrange
+        when(mockConnectionFactory.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act & Assert: no raise is reported for an update that never ran
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            jdbcBean.updateEmployee(1);
+        });
+        
+        assertTrue(exception.getMessage().contains("Connection refused"));
+    }
+
     @Test
     @DisplayName("Update Employee Object - Success")
     void testUpdateEmployeeObject_Success() throws SQLException {
@@ -464,4 +478,96 @@ class JdbcBeanImplCrudTest {
         when(mockResultSet.getString("job_id")).thenReturn(jobId);
         when(mockResultSet.getBigDecimal("salary")).thenReturn(new BigDecimal(salary));
     }
-}
\ No newline at end of file
+
+    // BATCH OPERATION TESTS
+
+    @Test
+    @DisplayName("Batch Create - Sends rows in chunks of the configured batch size")
+    void testCreateEmployees_Chunked() throws SQLException {
+        // Arrange
+        setupMockForBatch();
+        when(mockPreparedStatement.executeBatch()).thenReturn(
+                new int[] {java.sql.Statement.SUCCESS_NO_INFO, java.sql.Statement.SUCCESS_NO_INFO},
+                new int[] {1});
+        jdbcBean.setBatchSize(2);
+        List<Employee> employees = List.of(
+                new Employee(0, "A", "One", "a.one@company.com", "555-0001", "IT_PROG", new BigDecimal("50000")),
+                new Employee(0, "B", "Two", "b.two@company.com", "555-0002", "HR_REP", new BigDecimal("51000")),
+                new Employee(0, "C", "Three", "c.three@company.com", "555-0003", "SA_REP", new BigDecimal("52000")));
+
+        // Act
+        BatchResult result = jdbcBean.createEmployees(employees);
+
+        // Assert
+        assertTrue(result.isCommitted());
+        assertEquals(3, result.count(BatchResult.Outcome.SUCCESS));
+        verify(mockPreparedStatement, times(3)).addBatch();
+        verify(mockPreparedStatement, times(2)).executeBatch();
+        verify(mockConnection).commit();
+    }
+
+    @Test
+    @DisplayName("Batch Update - Reports missing IDs as NOT_FOUND")
+    void testUpdateEmployees_NotFound() throws SQLException {
+        // Arrange
+        setupMockForBatch();
+        when(mockPreparedStatement.executeBatch()).thenReturn(new int[] {1, 0});
+        List<Employee> employees = List.of(
+                new Employee(1, "A", "One", "a.one@company.com", "555-0001", "IT_PROG", new BigDecimal("50000")),
+                new Employee(999, "B", "Two", "b.two@company.com", "555-0002", "HR_REP", new BigDecimal("51000")));
+
+        // Act
+        BatchResult result = jdbcBean.updateEmployees(employees);
+
+        // Assert
+        assertTrue(result.isCommitted());
+        assertEquals(BatchResult.Outcome.SUCCESS, result.getOutcome(0));
+        assertEquals(BatchResult.Outcome.NOT_FOUND, result.getOutcome(1));
+        verify(mockPreparedStatement).setInt(7, 999);
+    }
+
+    @Test
+    @DisplayName("Batch Update - Requires employee IDs")
+    void testUpdateEmployees_MissingId() {
+        Employee employee = new Employee();
+        assertThrows(IllegalArgumentException.class, () -> jdbcBean.updateEmployees(List.of(employee)));
+    }
+
+    @Test
+    @DisplayName("Batch Delete - Rolls back and reports the failing row")
+    void testDeleteEmployees_Failure() throws SQLException {
+        // Arrange
+        setupMockForBatch();
+        when(mockPreparedStatement.executeBatch()).thenThrow(new java.sql.BatchUpdateException(
+                "constraint violation", new int[] {1, java.sql.Statement.EXECUTE_FAILED}));
+
+        // Act
+        BatchResult result = jdbcBean.deleteEmployees(new int[] {1, 2, 3});
+
+        // Assert
+        assertFalse(result.isCommitted());
+        assertEquals(BatchResult.Outcome.ROLLED_BACK, result.getOutcome(0));
+        assertEquals(BatchResult.Outcome.FAILED, result.getOutcome(1));
+        assertEquals(BatchResult.Outcome.ROLLED_BACK, result.getOutcome(2));
+        assertNotNull(result.getErrorMessage());
+        verify(mockConnection).rollback();
+        verify(mockConnection, never()).commit();
+    }
+
+    @Test
+    @DisplayName("Batch Delete - Empty input does not touch the database")
+    void testDeleteEmployees_Empty() throws SQLException {
+        BatchResult result = jdbcBean.deleteEmployees(new int[0]);
+
+        assertTrue(result.isCommitted());
+        assertEquals(0, result.size());
+        verify(mockConnectionFactory, never()).executeInTransaction(any());
+    }
+
+    private void setupMockForBatch() throws SQLException {
+        when(mockConnectionFactory.executeInTransaction(any())).thenCallRealMethod();
+        when(mockConnectionFactory.getConnection(false)).thenReturn(mockConnection);
+        when(mockConnection.getAutoCommit()).thenReturn(false);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+    }
+}
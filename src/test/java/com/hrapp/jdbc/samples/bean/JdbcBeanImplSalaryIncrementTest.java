@@ -217,29 +217,15 @@ class JdbcBeanImplSalaryIncrementTest {
     }
 
     @Test
-    @DisplayName("Test salary increment with database unavailable - fallback behavior")
-    void testIncrementSalary_DatabaseUnavailable_FallbackBehavior() throws SQLException {
+    @DisplayName("Test salary increment with database unavailable - fails instead of inventing raises")
+    void testIncrementSalary_DatabaseUnavailable() throws SQLException {
         // Arrange
         int incrementPct = 15;
         when(mockConnectionFactory.getConnection()).thenThrow(new SQLException("Database unavailable"));
 
-        // Act
-        List<Employee> result = jdbcBean.incrementSalary(incrementPct);
-
-        // Assert
-        assertNotNull(result);
-        assertEquals(5, result.size()); // Sample data has 5 employees
-        
-        // Verify that sample data has been incremented correctly
-        Employee firstEmployee = result.get(0);
-        assertEquals(1, firstEmployee.getEmployeeId());
-        assertEquals("John", firstEmployee.getFirstName());
-        
-        // Original sample salary is 75000, with 15% increment should be 86250
-        BigDecimal expectedSalary = new BigDecimal("75000.00")
-            .multiply(new BigDecimal("1.15"));
-        assertEquals(0, expectedSalary.compareTo(firstEmployee.getSalary()),
-            "Expected salary: " + expectedSalary + ", but got: " + firstEmployee.getSalary());
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> jdbcBean.incrementSalary(incrementPct));
+        assertTrue(exception.getMessage().contains("Database unavailable"));
     }
 
     @Test
@@ -269,19 +255,9 @@ class JdbcBeanImplSalaryIncrementTest {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockPreparedStatement.executeQuery()).thenThrow(new SQLException("Query execution failed"));
 
-        // Act
-        List<Employee> result = jdbcBean.incrementSalary(incrementPct);
-
-        // Assert - Should fall back to sample data
-        assertNotNull(result);
-        assertEquals(5, result.size()); // Sample data
-        
-        // Verify increment was applied to sample data
-        Employee firstEmployee = result.get(0);
-        BigDecimal expectedSalary = new BigDecimal("75000.00")
-            .multiply(new BigDecimal("1.10"));
-        assertEquals(0, expectedSalary.compareTo(firstEmployee.getSalary()), 
-            "Expected salary: " + expectedSalary + ", but got: " + firstEmployee.getSalary());
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> jdbcBean.incrementSalary(incrementPct));
+        assertTrue(exception.getMessage().contains("Query execution failed"));
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.hrapp.jdbc.samples.bean;
 
 import com.hrapp.jdbc.samples.config.ConnectionFactory;
 import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeField;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -11,7 +12,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.sql.*;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -533,6 +537,378 @@ class JdbcBeanImplTest {
         verify(mockConnectionFactory, atLeast(3)).getConnection();
     }
 
+    // ========================================
+    // KEYSET PAGINATION TESTS
+    // ========================================
+
+    @Test
+    @Order(80)
+    @DisplayName("getEmployees(afterId, limit) should bind cursor and fetch one extra row")
+    void testGetEmployeesPage_BindsCursor() throws SQLException {
+        // Arrange
+        setupMockForPreparedStatement();
+        when(mockResultSet.next()).thenReturn(true, true, true, false);
+        when(mockResultSet.getInt("employee_id")).thenReturn(11, 12, 13);
+
+        // Act
+        EmployeePage page = jdbcBean.getEmployees(10, 2);
+
+        // Assert
+        verify(mockConnection).prepareStatement(contains("WHERE employee_id > ? ORDER BY employee_id LIMIT ?"));
+        verify(mockPreparedStatement).setInt(1, 10);
+        verify(mockPreparedStatement).setInt(2, 3);
+        assertEquals(2, page.getEmployees().size());
+        assertTrue(page.hasMore());
+        assertEquals(12, EmployeePage.decodeToken(page.getNextPageToken()));
+    }
+
+    @Test
+    @Order(81)
+    @DisplayName("Last page should not carry a next-page token")
+    void testGetEmployeesPage_LastPage() throws SQLException {
+        // Arrange
+        setupMockForPreparedStatement();
+        when(mockResultSet.getInt("employee_id")).thenReturn(42);
+
+        // Act
+        EmployeePage page = jdbcBean.getEmployees(EmployeePage.encodeToken(41), 10);
+
+        // Assert
+        verify(mockPreparedStatement).setInt(1, 41);
+        assertEquals(1, page.getEmployees().size());
+        assertFalse(page.hasMore());
+        assertNull(page.getNextPageToken());
+    }
+
+    @Test
+    @Order(82)
+    @DisplayName("Pagination should reject invalid limits and tokens")
+    void testGetEmployeesPage_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> jdbcBean.getEmployees(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> jdbcBean.getEmployees("not-a-token", 10));
+    }
+
+    @Test
+    @Order(83)
+    @DisplayName("Pagination should page through sample data when database unavailable")
+    void testGetEmployeesPage_DatabaseUnavailable() throws SQLException {
+        // Arrange
+        when(mockConnectionFactory.getConnection()).thenThrow(new SQLException("Connection failed"));
+
+        // Act
+        EmployeePage first = jdbcBean.getEmployees(0, 3);
+        EmployeePage second = jdbcBean.getEmployees(first.getNextPageToken(), 3);
+
+        // Assert
+        assertEquals(3, first.getEmployees().size());
+        assertTrue(first.hasMore());
+        assertEquals(2, second.getEmployees().size());
+        assertEquals(4, second.getEmployees().get(0).getEmployeeId());
+        assertFalse(second.hasMore());
+    }
+
+    // ========================================
+    // STREAMING TESTS
+    // ========================================
+
+    @Test
+    @Order(90)
+    @DisplayName("streamEmployees should use a bounded fetch size inside a transaction")
+    void testStreamEmployees_UsesCursor() throws Exception {
+        // Arrange
+        when(mockConnectionFactory.getConnection(false)).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY),
+                eq(ResultSet.CONCUR_READ_ONLY))).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt("employee_id")).thenReturn(1, 2);
+        jdbcBean.setStreamFetchSize(50);
+        List<Integer> seen = new java.util.ArrayList<>();
+
+        // Act
+        int count = jdbcBean.streamEmployees(null, employee -> seen.add(employee.getEmployeeId()));
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(List.of(1, 2), seen);
+        verify(mockPreparedStatement).setFetchSize(50);
+        verify(mockConnection).close();
+    }
+
+    @Test
+    @Order(91)
+    @DisplayName("streamEmployees should stop and roll back when the handler fails")
+    void testStreamEmployees_HandlerFailure() throws Exception {
+        // Arrange
+        when(mockConnectionFactory.getConnection(false)).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(java.io.IOException.class, () -> jdbcBean.streamEmployees("Jo", employee -> {
+            throw new java.io.IOException("Broken pipe");
+        }));
+        verify(mockPreparedStatement).setString(1, "Jo%");
+        verify(mockResultSet, times(1)).next();
+        verify(mockConnection).close();
+    }
+
+    @Test
+    @Order(92)
+    @DisplayName("streamEmployees should stream sample data when database unavailable")
+    void testStreamEmployees_DatabaseUnavailable() throws Exception {
+        // Arrange
+        when(mockConnectionFactory.getConnection(false)).thenThrow(new SQLException("Connection failed"));
+
+        // Act
+        int count = jdbcBean.streamEmployees(null, employee -> { });
+
+        // Assert
+        assertEquals(5, count);
+    }
+
+    @Test
+    @Order(93)
+    @DisplayName("Reads should fail rather than return nothing when no snapshot has been saved yet")
+    void testDatabaseUnavailable_NoSnapshotYet() throws Exception {
+        // Arrange
+        jdbcBean.setSnapshotStore(new EmployeeSnapshotStore(null, mock(EmployeeSnapshotLoader.class), 1000));
+        when(mockConnectionFactory.getConnection()).thenThrow(new SQLException("Connection failed"));
+        when(mockConnectionFactory.getConnection(false)).thenThrow(new SQLException("Connection failed"));
+
+        // Act & Assert
+        assertThrows(DataUnavailableException.class, () -> jdbcBean.getEmployees());
+        assertThrows(DataUnavailableException.class, () -> jdbcBean.getEmployee(1));
+        assertThrows(DataUnavailableException.class, () -> jdbcBean.getEmployeeByFn("Jo"));
+        assertThrows(DataUnavailableException.class, () -> jdbcBean.streamEmployees(null, employee -> { }));
+    }
+
+    // ========================================
+    // READ REPLICA ROUTING TESTS
+    // ========================================
+
+    @Test
+    @Order(100)
+    @DisplayName("Employee reads should use the read connection factory")
+    void testReadsUseReadConnectionFactory() throws Exception {
+        // Arrange
+        ConnectionFactory mockReadFactory = mock(ConnectionFactory.class);
+        JdbcBeanImpl routedBean = new JdbcBeanImpl(mockConnectionFactory, mockReadFactory, EmployeeCache.disabled());
+        when(mockReadFactory.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.createStatement()).thenReturn(mockStatement);
+        when(mockStatement.executeQuery(anyString())).thenReturn(mockResultSet);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(false);
+
+        // Act
+        routedBean.getEmployees();
+        routedBean.getEmployee(1);
+        routedBean.getEmployeeByFn("Jo");
+
+        // Assert
+        verify(mockReadFactory, times(3)).getConnection();
+        verify(mockConnectionFactory, never()).getConnection();
+    }
+
+    @Test
+    @Order(101)
+    @DisplayName("Writes and salary increments should stay on the primary connection factory")
+    void testWritesUsePrimaryConnectionFactory() throws Exception {
+        // Arrange
+        ConnectionFactory mockReadFactory = mock(ConnectionFactory.class);
+        JdbcBeanImpl routedBean = new JdbcBeanImpl(mockConnectionFactory, mockReadFactory, EmployeeCache.disabled());
+        setupMockForDeleteOperation();
+        when(mockPreparedStatement.executeUpdate()).thenReturn(1);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(false);
+
+        // Act
+        routedBean.deleteEmployee(1);
+        routedBean.incrementSalary(5);
+
+        // Assert
+        verify(mockConnectionFactory, times(2)).getConnection();
+        verifyNoInteractions(mockReadFactory);
+    }
+
+    // ========================================
+    // TABLE VERSION TESTS
+    // ========================================
+
+    @Test
+    @Order(110)
+    @DisplayName("getDataVersion should read the employees table version")
+    void testGetDataVersion() throws Exception {
+        // Arrange
+        setupMockForSuccessfulQuery();
+        when(mockResultSet.getLong(1)).thenReturn(42L);
+
+        // Act
+        long version = jdbcBean.getDataVersion();
+
+        // Assert
+        assertEquals(42L, version);
+        verify(mockStatement).executeQuery(contains("table_versions"));
+        verify(mockConnection).close();
+    }
+
+    @Test
+    @Order(111)
+    @DisplayName("getDataVersion should return VERSION_UNKNOWN when database unavailable")
+    void testGetDataVersion_DatabaseUnavailable() throws Exception {
+        // Arrange
+        when(mockConnectionFactory.getConnection()).thenThrow(new SQLException("Connection failed"));
+
+        // Act & Assert
+        assertEquals(JdbcBeanImpl.VERSION_UNKNOWN, jdbcBean.getDataVersion());
+    }
+
+    @Test
+    @Order(112)
+    @DisplayName("A changed table version should clear the employee cache")
+    void testGetDataVersion_ChangeClearsCache() throws Exception {
+        // Arrange
+        EmployeeCache cache = new EmployeeCache(10, 60000);
+        JdbcBeanImpl cachedBean = new JdbcBeanImpl(mockConnectionFactory, cache);
+        when(mockConnectionFactory.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.createStatement()).thenReturn(mockStatement);
+        when(mockStatement.executeQuery(anyString())).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getLong(1)).thenReturn(1L, 1L, 2L);
+        Employee employee = new Employee(1, "John", "Doe", "john.doe@company.com", "555-1234", "IT_PROG", new BigDecimal("75000"));
+
+        // Act & Assert
+        cachedBean.getDataVersion();
+        cache.put(employee, cache.generation());
+        cachedBean.getDataVersion();
+        assertNotNull(cache.get(1), "Unchanged version should keep cached entries");
+        cachedBean.getDataVersion();
+        assertNull(cache.get(1), "Changed version should clear cached entries");
+    }
+
+    @Test
+    @Order(113)
+    @DisplayName("An older table version from a lagging replica should not clear the employee cache")
+    void testGetDataVersion_OlderVersionKeepsCache() throws Exception {
+        // Arrange
+        EmployeeCache cache = new EmployeeCache(10, 60000);
+        JdbcBeanImpl cachedBean = new JdbcBeanImpl(mockConnectionFactory, cache);
+        when(mockConnectionFactory.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.createStatement()).thenReturn(mockStatement);
+        when(mockStatement.executeQuery(anyString())).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getLong(1)).thenReturn(2L, 1L, 2L, 3L);
+        Employee employee = new Employee(1, "John", "Doe", "john.doe@company.com", "555-1234", "IT_PROG", new BigDecimal("75000"));
+
+        // Act & Assert
+        cachedBean.getDataVersion();
+        cache.put(employee, cache.generation());
+        assertEquals(1L, cachedBean.getDataVersion());
+        assertNotNull(cache.get(1), "Older version should keep cached entries");
+        cachedBean.getDataVersion();
+        assertNotNull(cache.get(1), "Returning to the newest version should keep cached entries");
+        cachedBean.getDataVersion();
+        assertNull(cache.get(1), "Newer version should clear cached entries");
+    }
+
+    @Test
+    @Order(120)
+    @DisplayName("A field projection should select only the requested columns")
+    void testGetEmployees_FieldProjection() throws Exception {
+        // Arrange
+        setupMockForPreparedStatement();
+        when(mockResultSet.getInt(1)).thenReturn(3);
+        when(mockResultSet.getString(2)).thenReturn("Alice");
+
+        // Act
+        EmployeePage page = jdbcBean.getEmployees("Al", null, 10, EnumSet.of(EmployeeField.FIRST_NAME));
+
+        // Assert
+        verify(mockConnection).prepareStatement(
+            "SELECT employee_id, first_name FROM employees WHERE employee_id > ? AND first_name ILIKE ? " +
+            "ORDER BY employee_id LIMIT ?");
+        verify(mockPreparedStatement).setString(2, "Al%");
+        verify(mockPreparedStatement).setInt(3, 11);
+        Employee employee = page.getEmployees().get(0);
+        assertEquals(3, employee.getEmployeeId());
+        assertEquals("Alice", employee.getFirstName());
+        assertNull(employee.getEmail());
+        assertNull(page.getNextPageToken());
+    }
+
+    @Test
+    @Order(121)
+    @DisplayName("patchEmployee should update only the given columns in one statement")
+    void testPatchEmployee() throws Exception {
+        // Arrange
+        setupMockForPreparedStatement();
+        mockEmployeeResultSet(1, "John", "Doe", "john.new@company.com", "555-1234", "IT_PROG", "80000.00");
+        Map<EmployeeField, Object> values = new EnumMap<>(EmployeeField.class);
+        values.put(EmployeeField.EMAIL, "john.new@company.com");
+        values.put(EmployeeField.SALARY, new BigDecimal("80000.00"));
+
+        // Act
+        Employee updated = jdbcBean.patchEmployee(1, values);
+
+        // Assert
+        assertEquals("john.new@company.com", updated.getEmail());
+        verify(mockConnection).prepareStatement(startsWith("UPDATE employees SET email = ?, salary = ? WHERE employee_id = ? RETURNING"));
+        verify(mockPreparedStatement).setString(1, "john.new@company.com");
+        verify(mockPreparedStatement).setBigDecimal(2, new BigDecimal("80000.00"));
+        verify(mockPreparedStatement).setInt(3, 1);
+    }
+
+    @Test
+    @Order(122)
+    @DisplayName("patchEmployee should reject empty updates and employee ID changes")
+    void testPatchEmployee_InvalidValues() {
+        assertThrows(IllegalArgumentException.class,
+            () -> jdbcBean.patchEmployee(1, new EnumMap<>(EmployeeField.class)));
+        assertThrows(IllegalArgumentException.class,
+            () -> jdbcBean.patchEmployee(1, Map.of(EmployeeField.EMPLOYEE_ID, 2)));
+        verifyNoInteractions(mockConnectionFactory);
+    }
+
+    @Test
+    @Order(130)
+    @DisplayName("getEmployees(int[]) should read all IDs in one query and keep the request order")
+    void testGetEmployeesByIds() throws Exception {
+        // Arrange
+        Array idArray = mock(Array.class);
+        when(mockConnectionFactory.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockConnection.createArrayOf(eq("integer"), any(Object[].class))).thenReturn(idArray);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        // The database returns the rows in its own order
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt("employee_id")).thenReturn(2, 5);
+        when(mockResultSet.getString(anyString())).thenReturn("x");
+        when(mockResultSet.getBigDecimal("salary")).thenReturn(new BigDecimal("50000"));
+
+        // Act
+        List<Employee> employees = jdbcBean.getEmployees(new int[] {5, 42, 2, 5});
+
+        // Assert
+        verify(mockConnection).prepareStatement(endsWith("FROM employees WHERE employee_id = ANY(?)"));
+        verify(mockConnection).createArrayOf("integer", new Object[] {5, 42, 2});
+        verify(mockPreparedStatement).setArray(1, idArray);
+        verify(idArray).free();
+        assertEquals(2, employees.size());
+        assertEquals(5, employees.get(0).getEmployeeId());
+        assertEquals(2, employees.get(1).getEmployeeId());
+    }
+
+    @Test
+    @Order(131)
+    @DisplayName("getEmployees(int[]) should reject more IDs than a page holds")
+    void testGetEmployeesByIds_TooMany() {
+        assertThrows(IllegalArgumentException.class,
+            () -> jdbcBean.getEmployees(new int[JdbcBeanImpl.MAX_PAGE_SIZE + 1]));
+        verifyNoInteractions(mockConnectionFactory);
+    }
+
     // ========================================
     // HELPER METHODS
     // ========================================
@@ -0,0 +1,129 @@
+package com.hrapp.jdbc.samples.bean;
+
+import com.hrapp.jdbc.samples.entity.Employee;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Micro-benchmark comparing per-row mapping by column name
+ * (new Employee(ResultSet)) with EmployeeRowMapper, which resolves the
+ * column indices once per ResultSet. The in-memory ResultSet looks labels
+ * up like pgjdbc does (hash map of labels, lower-case retry), so the
+ * difference is the name lookup cost per cell. Not run by surefire; start
+ * it from the IDE or with java -cp target/test-classes:target/classes
+ * com.hrapp.jdbc.samples.bean.RowMapperBenchmark [rows] [iterations]
+ */
+public class RowMapperBenchmark {
+
+    // Column order of SELECT * FROM employees, which differs from the mapper's own order
+    private static final String[] LABELS = {
+        "employee_id", "first_name", "last_name", "email", "phone_number", "hire_date", "job_id", "salary"
+    };
+
+    public static void main(String[] args) throws SQLException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+
+        Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            data[i] = new Object[] {
+                i + 1, "First" + i, "Last" + i, "first" + i + ".last@company.com", "555-" + (1000 + i % 9000),
+                "2020-01-01", "IT_PROG", new BigDecimal(50000 + i + ".00")
+            };
+        }
+
+        // Warm up both paths before measuring
+        for (int i = 0; i < iterations; i++) {
+            byName(data);
+            byIndex(data);
+        }
+
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            checksum += byName(data);
+        }
+        long nameNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            checksum -= byIndex(data);
+        }
+        long indexNanos = System.nanoTime() - start;
+
+        long mapped = (long) rows * iterations;
+        System.out.printf("%d rows x %d iterations (checksum %d)%n", rows, iterations, checksum);
+        System.out.printf("new Employee(ResultSet): %6.1f ns/row%n", (double) nameNanos / mapped);
+        System.out.printf("EmployeeRowMapper:       %6.1f ns/row%n", (double) indexNanos / mapped);
+        System.out.printf("Speedup: %.2fx%n", (double) nameNanos / indexNanos);
+    }
+
+    private static long byName(Object[][] data) throws SQLException {
+        ResultSet resultSet = resultSet(data);
+        long sum = 0;
+        while (resultSet.next()) {
+            sum += new Employee(resultSet).getEmployeeId();
+        }
+        return sum;
+    }
+
+    private static long byIndex(Object[][] data) throws SQLException {
+        ResultSet resultSet = resultSet(data);
+        RowMapper<Employee> mapper = EmployeeRowMapper.forResultSet(resultSet).employees();
+        long sum = 0;
+        while (resultSet.next()) {
+            sum += mapper.mapRow(resultSet).getEmployeeId();
+        }
+        return sum;
+    }
+
+    private static ResultSet resultSet(Object[][] data) {
+        // Labels decoded from the wire are not the interned literals the getters pass
+        String[] labels = new String[LABELS.length];
+        Map<String, Integer> labelIndex = new HashMap<>();
+        for (int i = 0; i < LABELS.length; i++) {
+            labels[i] = new String(LABELS[i].toCharArray());
+            labelIndex.putIfAbsent(labels[i], i + 1);
+        }
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+            RowMapperBenchmark.class.getClassLoader(), new Class<?>[] {ResultSetMetaData.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getColumnCount" -> labels.length;
+                case "getColumnLabel", "getColumnName" -> labels[(Integer) args[0] - 1];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+        int[] row = {-1};
+        return (ResultSet) Proxy.newProxyInstance(
+            RowMapperBenchmark.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                // Every getter call pays the same proxy cost; only the column lookup differs
+                if (args != null && args.length == 1 && method.getName().startsWith("get")) {
+                    int column = args[0] instanceof Integer index ? index : findColumn(labelIndex, (String) args[0]);
+                    return data[row[0]][column - 1];
+                }
+                return switch (method.getName()) {
+                    case "next" -> ++row[0] < data.length;
+                    case "getMetaData" -> metaData;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                };
+            });
+    }
+
+    private static int findColumn(Map<String, Integer> labelIndex, String label) throws SQLException {
+        Integer index = labelIndex.get(label);
+        if (index == null) {
+            index = labelIndex.get(label.toLowerCase(Locale.US));
+        }
+        if (index == null) {
+            throw new SQLException("The column name " + label + " was not found in this ResultSet.");
+        }
+        return index;
+    }
+}
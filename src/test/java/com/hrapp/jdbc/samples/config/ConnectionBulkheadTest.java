@@ -0,0 +1,123 @@
+package com.hrapp.jdbc.samples.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConnectionBulkhead (fair semaphore in front of the pool)
+ */
+@DisplayName("ConnectionBulkhead Tests")
+class ConnectionBulkheadTest {
+
+    @Test
+    @DisplayName("Permit is held until the connection is closed, and released only once")
+    void testPermitReleasedOnClose() throws SQLException {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(2, 100);
+        Connection target = mock(Connection.class);
+
+        Connection connection = bulkhead.acquire(() -> target);
+        assertEquals(1, bulkhead.getAvailablePermits());
+
+        connection.close();
+        connection.close();
+
+        assertEquals(2, bulkhead.getAvailablePermits());
+        verify(target, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Calls other than close are delegated")
+    void testDelegation() throws SQLException {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(1, 100);
+        Connection target = mock(Connection.class);
+        when(target.getSchema()).thenReturn("hr");
+
+        try (Connection connection = bulkhead.acquire(() -> target)) {
+            assertEquals("hr", connection.getSchema());
+        }
+    }
+
+    @Test
+    @DisplayName("Waiting longer than the timeout fails with a transient exception")
+    void testTimeout() throws SQLException {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(1, 50);
+        Connection held = bulkhead.acquire(() -> mock(Connection.class));
+
+        assertThrows(SQLTransientConnectionException.class, () -> bulkhead.acquire(() -> mock(Connection.class)));
+        assertEquals(1, bulkhead.getTimeoutCount());
+
+        held.close();
+        assertNotNull(bulkhead.acquire(() -> mock(Connection.class)));
+    }
+
+    @Test
+    @DisplayName("Permit is returned when the pool fails to hand out a connection")
+    void testPermitReturnedOnFailure() {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(1, 50);
+
+        assertThrows(SQLException.class, () -> bulkhead.acquire(() -> {
+            throw new SQLException("Pool exhausted");
+        }));
+
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Permit is returned when the source has no connection to offer")
+    void testPermitReturnedOnNull() throws SQLException {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(1, 50);
+
+        assertNull(bulkhead.acquire(() -> null));
+
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Many virtual threads never hold more connections than permits")
+    void testVirtualThreadsBounded() throws Exception {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(4, 30_000);
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = bulkhead.acquire(() -> mock(Connection.class))) {
+                        assertNotNull(connection);
+                        maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                        Thread.sleep(1);
+                        inUse.decrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertTrue(maxInUse.get() <= 4, "max in use: " + maxInUse.get());
+        assertEquals(4, bulkhead.getAvailablePermits());
+        assertEquals(0, bulkhead.getTimeoutCount());
+    }
+
+    @Test
+    @DisplayName("Permits must be positive")
+    void testInvalidPermits() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionBulkhead(0, 100));
+    }
+}
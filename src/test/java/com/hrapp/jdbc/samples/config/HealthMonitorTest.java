@@ -0,0 +1,146 @@
+package com.hrapp.jdbc.samples.config;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HealthMonitor (cached background health probe)
+ */
+@DisplayName("HealthMonitor Tests")
+class HealthMonitorTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("Unknown state is neither healthy nor ready before the first probe")
+    void testUnknownBeforeFirstProbe() {
+        HealthMonitor monitor = new HealthMonitor(() -> true, () -> null, 10, 10, 1000, now::get);
+
+        assertFalse(monitor.isHealthy());
+        assertFalse(monitor.isReady());
+        assertFalse(monitor.isFresh());
+    }
+
+    @Test
+    @DisplayName("Health checks read the cached state without probing")
+    void testChecksDoNotProbe() {
+        AtomicInteger probes = new AtomicInteger();
+        HealthMonitor monitor = new HealthMonitor(() -> probes.incrementAndGet() > 0, () -> null, 10, 10, 1000, now::get);
+
+        monitor.refresh();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(monitor.isHealthy());
+            assertTrue(monitor.isReady());
+        }
+
+        assertEquals(1, probes.get());
+    }
+
+    @Test
+    @DisplayName("Failed or throwing probe marks the database down")
+    void testProbeFailure() {
+        AtomicBoolean up = new AtomicBoolean(false);
+        HealthMonitor monitor = new HealthMonitor(() -> {
+            if (!up.get()) {
+                throw new IllegalStateException("connection refused");
+            }
+            return true;
+        }, () -> null, 10, 10, 1000, now::get);
+
+        monitor.refresh();
+        assertFalse(monitor.isHealthy());
+        assertFalse(monitor.getStatus().isDatabaseUp());
+
+        up.set(true);
+        monitor.refresh();
+        assertTrue(monitor.isHealthy());
+    }
+
+    @Test
+    @DisplayName("Stale state is reported unhealthy")
+    void testStaleState() {
+        HealthMonitor monitor = new HealthMonitor(() -> true, () -> null, 10, 10, 1000, now::get);
+
+        monitor.refresh();
+        now.addAndGet(3000);
+        assertTrue(monitor.isHealthy());
+
+        now.addAndGet(1);
+        assertFalse(monitor.isFresh());
+        assertFalse(monitor.isHealthy());
+        assertFalse(monitor.isReady());
+    }
+
+    @Test
+    @DisplayName("Saturated pool is healthy but not ready")
+    void testSaturatedPool() {
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(pool.getActiveConnections()).thenReturn(10);
+        when(pool.getIdleConnections()).thenReturn(0);
+        when(pool.getTotalConnections()).thenReturn(10);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(11);
+        HealthMonitor monitor = new HealthMonitor(() -> true, () -> pool, 10, 10, 1000, now::get);
+
+        monitor.refresh();
+
+        assertTrue(monitor.isHealthy());
+        assertFalse(monitor.isReady());
+        HealthMonitor.Status status = monitor.getStatus();
+        assertTrue(status.isSaturated());
+        assertEquals(10, status.getActiveConnections());
+        assertEquals(11, status.getThreadsAwaiting());
+        assertEquals(now.get(), status.getCheckedAt());
+    }
+
+    @Test
+    @DisplayName("Busy pool with few waiters is still ready")
+    void testBusyPoolNotSaturated() {
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(pool.getActiveConnections()).thenReturn(10);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(3);
+        HealthMonitor monitor = new HealthMonitor(() -> true, () -> pool, 10, 10, 1000, now::get);
+
+        monitor.refresh();
+
+        assertTrue(monitor.isReady());
+    }
+
+    @Test
+    @DisplayName("Callers queued in front of the pool count as waiting")
+    void testQueuedCallersCountAsWaiting() {
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(pool.getActiveConnections()).thenReturn(10);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(0);
+        HealthMonitor monitor = new HealthMonitor(() -> true, () -> pool, () -> 500, 10, 10, 1000, now::get);
+
+        monitor.refresh();
+
+        assertEquals(500, monitor.getStatus().getThreadsAwaiting());
+        assertFalse(monitor.isReady());
+    }
+
+    @Test
+    @DisplayName("Start probes synchronously and stop is idempotent")
+    void testStartStop() {
+        AtomicInteger probes = new AtomicInteger();
+        HealthMonitor monitor = new HealthMonitor(() -> probes.incrementAndGet() > 0, () -> null, 10, 10, 60_000);
+
+        monitor.start();
+        try {
+            assertTrue(monitor.isHealthy());
+            monitor.start();
+            assertEquals(1, probes.get());
+        } finally {
+            monitor.stop();
+            monitor.stop();
+        }
+    }
+}
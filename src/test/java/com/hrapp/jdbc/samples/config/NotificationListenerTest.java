@@ -0,0 +1,131 @@
+package com.hrapp.jdbc.samples.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationListener (LISTEN/NOTIFY background listener)
+ */
+@DisplayName("NotificationListener Tests")
+class NotificationListenerTest {
+
+    private NotificationListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (listener != null) {
+            listener.stop();
+        }
+    }
+
+    private static Connection listeningConnection(PGConnection pgConnection) throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        return connection;
+    }
+
+    private static PGNotification notification(String payload) {
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getParameter()).thenReturn(payload);
+        return notification;
+    }
+
+    @Test
+    @DisplayName("Payloads should be passed to every subscriber in order")
+    void testNotificationsDispatched() throws Exception {
+        PGConnection pgConnection = mock(PGConnection.class);
+        PGNotification[] batch = {notification("{\"op\":\"D\",\"employeeId\":1}"), notification("{\"op\":\"R\"}")};
+        when(pgConnection.getNotifications(anyInt())).thenReturn(batch).thenAnswer(invocation -> {
+            Thread.sleep(10);
+            return null;
+        });
+        Connection connection = listeningConnection(pgConnection);
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+
+        listener = new NotificationListener(() -> connection, "employees_changed", 50);
+        listener.subscribe(payload -> {
+            received.add(payload);
+            done.countDown();
+        });
+        listener.start();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("{\"op\":\"D\",\"employeeId\":1}", "{\"op\":\"R\"}"), received);
+        assertTrue(listener.isListening());
+        verify(connection.createStatement()).execute("LISTEN employees_changed");
+    }
+
+    @Test
+    @DisplayName("A failed connection should be reopened and subscribers told to resynchronize")
+    void testReconnect() throws Exception {
+        PGConnection broken = mock(PGConnection.class);
+        when(broken.getNotifications(anyInt())).thenThrow(new SQLException("An I/O error occurred while sending to the backend"));
+        PGConnection healthy = mock(PGConnection.class);
+        when(healthy.getNotifications(anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(10);
+            return null;
+        });
+        Connection first = listeningConnection(broken);
+        Connection second = listeningConnection(healthy);
+        AtomicInteger opened = new AtomicInteger();
+        CountDownLatch resync = new CountDownLatch(1);
+
+        listener = new NotificationListener(() -> opened.getAndIncrement() == 0 ? first : second, "employees_changed", 50);
+        listener.subscribe(new NotificationListener.Subscriber() {
+            @Override
+            public void onNotification(String payload) {
+            }
+
+            @Override
+            public void onReconnect() {
+                resync.countDown();
+            }
+        });
+        listener.start();
+
+        assertTrue(resync.await(5, TimeUnit.SECONDS));
+        verify(first).close();
+        assertEquals(2, opened.get());
+    }
+
+    @Test
+    @DisplayName("A failing subscriber should not stop delivery to the others")
+    void testSubscriberFailureIsolated() throws Exception {
+        PGConnection pgConnection = mock(PGConnection.class);
+        PGNotification[] batch = {notification("x")};
+        when(pgConnection.getNotifications(anyInt())).thenReturn(batch)
+            .thenAnswer(invocation -> {
+                Thread.sleep(10);
+                return null;
+            });
+        Connection connection = listeningConnection(pgConnection);
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        listener = new NotificationListener(() -> connection, "employees_changed", 50);
+        listener.subscribe(payload -> {
+            throw new IllegalStateException("subscriber bug");
+        });
+        listener.subscribe(payload -> delivered.countDown());
+        listener.start();
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,223 @@
+package com.hrapp.jdbc.samples.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReplicaRouter (lag-bounded read replica routing)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRouter Tests")
+class ReplicaRouterTest {
+
+    @Mock
+    private DataSource mockReplica;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private Statement mockStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private ReplicaRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new ReplicaRouter(mockReplica, 1000, 500, now::get);
+    }
+
+    private void mockLag(long lagMillis) throws SQLException {
+        when(mockReplica.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.createStatement()).thenReturn(mockStatement);
+        when(mockStatement.executeQuery(ReplicaRouter.LAG_SQL)).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getLong(1)).thenReturn(lagMillis);
+    }
+
+    @Test
+    @DisplayName("Replica within lag bound is used, and lag is measured once per interval")
+    void testReplicaWithinBound() throws SQLException {
+        mockLag(200);
+
+        assertSame(mockConnection, router.getConnection());
+        now.addAndGet(100);
+        assertSame(mockConnection, router.getConnection());
+
+        assertTrue(router.isUsable());
+        assertEquals(200, router.getLagMillis());
+        verify(mockStatement, times(1)).executeQuery(ReplicaRouter.LAG_SQL);
+    }
+
+    @Test
+    @DisplayName("Lagging replica falls back to the primary until it catches up")
+    void testReplicaLagging() throws SQLException {
+        mockLag(5000);
+
+        assertNull(router.getConnection());
+        assertFalse(router.isUsable());
+        verify(mockConnection).close();
+
+        // No new check before the interval has passed
+        assertNull(router.getConnection());
+        verify(mockReplica, times(1)).getConnection();
+
+        now.addAndGet(500);
+        when(mockResultSet.getLong(1)).thenReturn(300L);
+        assertSame(mockConnection, router.getConnection());
+        assertTrue(router.isUsable());
+    }
+
+    @Test
+    @DisplayName("Unknown lag is treated as too far behind")
+    void testUnknownLag() throws SQLException {
+        mockLag(0);
+        when(mockResultSet.wasNull()).thenReturn(true);
+
+        assertNull(router.getConnection());
+        assertEquals(ReplicaRouter.LAG_UNKNOWN, router.getLagMillis());
+    }
+
+    @Test
+    @DisplayName("Unreachable replica falls back to the primary")
+    void testReplicaUnavailable() throws SQLException {
+        when(mockReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertNull(router.getConnection());
+        assertFalse(router.isUsable());
+    }
+
+    @Test
+    @DisplayName("Reads of the writing scope stay on the primary for the lag bound")
+    void testReadYourWrites() throws SQLException {
+        mockLag(0);
+        assertSame(mockConnection, router.getConnection());
+
+        ReadScope write = ReadScope.begin(0);
+        try {
+            router.markPrimaryUse();
+        } finally {
+            ReadScope.end();
+        }
+
+        // Later requests of the same client carry the write's deadline
+        ReadScope.begin(write.getPrimaryUntil());
+        try {
+            now.addAndGet(999);
+            assertNull(router.getConnection());
+            assertEquals(1, router.getStickyReadCount());
+        } finally {
+            ReadScope.end();
+        }
+        ReadScope.begin(write.getPrimaryUntil());
+        try {
+            now.addAndGet(1);
+            assertSame(mockConnection, router.getConnection());
+            assertEquals(1, router.getStickyReadCount());
+        } finally {
+            ReadScope.end();
+        }
+    }
+
+    @Test
+    @DisplayName("Other scopes keep reading from the replica, but its rows are not cacheable")
+    void testOtherScopesUseReplica() throws SQLException {
+        mockLag(0);
+        assertSame(mockConnection, router.getConnection());
+        assertFalse(router.isCatchingUp());
+
+        ReadScope.begin(0);
+        try {
+            router.markPrimaryUse();
+        } finally {
+            ReadScope.end();
+        }
+
+        ReadScope.begin(0);
+        try {
+            assertSame(mockConnection, router.getConnection());
+        } finally {
+            ReadScope.end();
+        }
+        assertSame(mockConnection, router.getConnection());
+        assertEquals(0, router.getStickyReadCount());
+        assertTrue(router.isCatchingUp());
+
+        now.addAndGet(1000);
+        assertFalse(router.isCatchingUp());
+    }
+
+    @Test
+    @DisplayName("Once a scope has read from the primary, its later reads stay there")
+    void testScopePinnedToPrimary() throws SQLException {
+        ReadScope scope = ReadScope.begin(0);
+        try {
+            when(mockReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+            assertNull(router.getConnection());
+
+            // The replica is back and within bound, but the scope stays on the primary
+            reset(mockReplica);
+            now.addAndGet(500);
+            assertNull(router.getConnection());
+            assertFalse(scope.isMixed());
+        } finally {
+            ReadScope.end();
+        }
+        verifyNoInteractions(mockReplica);
+    }
+
+    @Test
+    @DisplayName("A scope whose reads went to the replica and then to the primary is mixed")
+    void testScopeMixed() throws SQLException {
+        mockLag(0);
+        ReadScope scope = ReadScope.begin(0);
+        try {
+            assertSame(mockConnection, router.getConnection());
+            assertFalse(scope.isMixed());
+
+            when(mockReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+            now.addAndGet(500);
+            assertNull(router.getConnection());
+            assertTrue(scope.isMixed());
+        } finally {
+            ReadScope.end();
+        }
+    }
+
+    @Test
+    @DisplayName("A scope carries its primary-until time to other threads and requests")
+    void testScopePropagation() throws Exception {
+        mockLag(0);
+        assertSame(mockConnection, router.getConnection());
+
+        ReadScope scope = ReadScope.begin(now.get() + 500);
+        try {
+            Supplier<Connection> read = ReadScope.propagate(router::getConnection);
+            assertNull(CompletableFuture.supplyAsync(read).get());
+            assertEquals(1, router.getStickyReadCount());
+        } finally {
+            ReadScope.end();
+        }
+        assertNull(ReadScope.current());
+        assertEquals(now.get() + 500, scope.getPrimaryUntil());
+    }
+}
@@ -0,0 +1,121 @@
+package com.hrapp.jdbc.samples.config;
+
+import com.hrapp.jdbc.samples.bean.JdbcBeanImpl;
+import com.hrapp.jdbc.samples.entity.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RoundTripCounter and the FAST connection checkout mode
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoundTripCounter Tests")
+class RoundTripCounterTest {
+
+    @Mock
+    private DatabaseConfig mockDatabaseConfig;
+
+    @Mock
+    private Connection mockConnection;
+
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    private RoundTripCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new RoundTripCounter();
+        counter.resetThreadCount();
+    }
+
+    @Test
+    @DisplayName("Statement executions and server-side connection calls are counted")
+    void testCountsRoundTrips() throws SQLException {
+        // Arrange
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        Connection connection = counter.wrap(mockConnection);
+
+        // Act
+        PreparedStatement statement = connection.prepareStatement("SELECT 1");
+        statement.setInt(1, 1);
+        statement.executeQuery();
+        connection.isValid(5);
+        connection.getAutoCommit();
+
+        // Assert
+        assertEquals(2, counter.getCount());
+        assertEquals(2, counter.getThreadCount());
+        verify(mockPreparedStatement).executeQuery();
+    }
+
+    @Test
+    @DisplayName("Exceptions from the wrapped connection are rethrown unchanged")
+    void testRethrowsSqlException() throws SQLException {
+        when(mockConnection.isValid(anyInt())).thenThrow(new SQLException("gone"));
+        Connection connection = counter.wrap(mockConnection);
+
+        SQLException e = assertThrows(SQLException.class, () -> connection.isValid(1));
+        assertEquals("gone", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("FAST checkout: single-row getEmployee costs exactly one round trip")
+    void testGetEmployeeSingleRoundTripInFastMode() throws SQLException {
+        // Arrange
+        setupEmployeeQuery(DatabaseConfig.CheckoutMode.FAST);
+        JdbcBeanImpl bean = new JdbcBeanImpl(new ConnectionFactory(mockDatabaseConfig));
+
+        // Act
+        List<Employee> employees = bean.getEmployee(1);
+
+        // Assert
+        assertEquals(1, employees.size());
+        assertEquals(1, counter.getThreadCount());
+        verify(mockConnection, never()).isValid(anyInt());
+    }
+
+    @Test
+    @DisplayName("VALIDATE checkout: getEmployee pays an extra isValid round trip")
+    void testGetEmployeeValidateModeCostsExtraRoundTrip() throws SQLException {
+        // Arrange
+        setupEmployeeQuery(DatabaseConfig.CheckoutMode.VALIDATE);
+        when(mockConnection.isValid(5)).thenReturn(true);
+        JdbcBeanImpl bean = new JdbcBeanImpl(new ConnectionFactory(mockDatabaseConfig));
+
+        // Act
+        bean.getEmployee(1);
+
+        // Assert
+        assertEquals(2, counter.getThreadCount());
+    }
+
+    private void setupEmployeeQuery(DatabaseConfig.CheckoutMode mode) throws SQLException {
+        when(mockDatabaseConfig.getCheckoutMode()).thenReturn(mode);
+        when(mockDatabaseConfig.getConnection()).thenAnswer(invocation -> counter.wrap(mockConnection));
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getInt("employee_id")).thenReturn(1);
+        when(mockResultSet.getString("first_name")).thenReturn("John");
+        when(mockResultSet.getBigDecimal("salary")).thenReturn(new BigDecimal("75000.00"));
+    }
+}
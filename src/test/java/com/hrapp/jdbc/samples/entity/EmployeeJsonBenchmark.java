@@ -0,0 +1,92 @@
+package com.hrapp.jdbc.samples.entity;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Micro-benchmark comparing the previous WebController serialization path
+ * (new Gson and TypeToken per request, reflection, char Writer) with
+ * EmployeeJsonWriter. Not run by surefire; start it from the IDE or with
+ * java -cp target/test-classes:target/classes:gson.jar
+ * com.hrapp.jdbc.samples.entity.EmployeeJsonBenchmark [rows] [iterations]
+ */
+public class EmployeeJsonBenchmark {
+
+    // Counts bytes so that neither path is measured against a growing buffer
+    private static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        List<Employee> employees = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            employees.add(new Employee(i, "First" + i, "Last" + i, "first" + i + ".last@company.com",
+                    "555-" + (1000 + i % 9000), "IT_PROG", new BigDecimal(50000 + i + ".00")));
+        }
+
+        // Warm up both paths before measuring
+        for (int i = 0; i < iterations; i++) {
+            gsonPerRequest(employees);
+            codec(employees);
+        }
+
+        long gsonBytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            gsonBytes += gsonPerRequest(employees);
+        }
+        long gsonNanos = System.nanoTime() - start;
+
+        long codecBytes = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            codecBytes += codec(employees);
+        }
+        long codecNanos = System.nanoTime() - start;
+
+        System.out.printf("%d rows x %d iterations%n", rows, iterations);
+        System.out.printf("Gson per request:   %8.1f us/response (%d bytes)%n",
+                gsonNanos / 1000.0 / iterations, gsonBytes / iterations);
+        System.out.printf("EmployeeJsonWriter: %8.1f us/response (%d bytes)%n",
+                codecNanos / 1000.0 / iterations, codecBytes / iterations);
+        System.out.printf("Speedup: %.2fx%n", (double) gsonNanos / codecNanos);
+    }
+
+    private static long gsonPerRequest(List<Employee> employees) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        new Gson().toJson(employees, new TypeToken<ArrayList<Employee>>() { }.getType(), writer);
+        writer.flush();
+        return out.count;
+    }
+
+    private static long codec(List<Employee> employees) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        EmployeeJsonWriter writer = new EmployeeJsonWriter(out);
+        writer.writeArray(employees);
+        writer.flush();
+        return out.count;
+    }
+}
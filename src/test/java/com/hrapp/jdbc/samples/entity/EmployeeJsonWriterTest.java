@@ -0,0 +1,119 @@
+package com.hrapp.jdbc.samples.entity;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EmployeeJsonWriter (reflection-free Employee JSON codec)
+ */
+@DisplayName("EmployeeJsonWriter Tests")
+class EmployeeJsonWriterTest {
+
+    private static final Gson GSON = new Gson();
+
+    private static String encode(List<Employee> employees) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (EmployeeJsonWriter writer = new EmployeeJsonWriter(bytes)) {
+            writer.writeArray(employees);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String gson(List<Employee> employees) {
+        return GSON.toJson(employees, new TypeToken<ArrayList<Employee>>() { }.getType());
+    }
+
+    @Test
+    @DisplayName("Output matches Gson for a typical list")
+    void testMatchesGson() throws IOException {
+        List<Employee> employees = Arrays.asList(
+            new Employee(1, "John", "Doe", "john.doe@company.com", "555-1234", "IT_PROG", new BigDecimal("75000.00")),
+            new Employee(-42, "Jane", "Smith", "jane.smith@company.com", null, "HR_REP", new BigDecimal("65000.5")),
+            new Employee());
+
+        assertEquals(gson(employees), encode(employees));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "O'Brien", "\"quoted\"", "back\\slash", "tab\there", "line\nbreak", "cr\rlf", "\b\f\u0000\u001f",
+        "<script>&=</script>", "José Müller", "李小龙", "emoji 😀", "sep  ", "\u007f\u0080߿ࠀ￿"
+    })
+    @DisplayName("Strings are escaped and UTF-8 encoded exactly like Gson")
+    void testEscapingMatchesGson(String value) throws IOException {
+        List<Employee> employees = List.of(new Employee(7, value, value, value, value, value, BigDecimal.ONE));
+
+        assertEquals(gson(employees), encode(employees));
+    }
+
+    @Test
+    @DisplayName("Values longer than the buffer are written across flushes")
+    void testLongValues() throws IOException {
+        String longName = "Ä€".repeat(10_000) + "😀";
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            employees.add(new Employee(Integer.MAX_VALUE - i, longName, "x", "e" + i + "@company.com", "1", "IT_PROG",
+                    new BigDecimal("1E+3")));
+        }
+
+        assertEquals(gson(employees), encode(employees));
+    }
+
+    @Test
+    @DisplayName("Empty list is written as an empty array")
+    void testEmptyList() throws IOException {
+        assertEquals("[]", encode(List.of()));
+    }
+
+    @Test
+    @DisplayName("serializeNulls writes every field")
+    void testSerializeNulls() {
+        Employee employee = new Employee();
+        employee.setEmployeeId(1);
+        employee.setFirstName("Ann");
+
+        assertEquals("{\"employeeId\":1,\"firstName\":\"Ann\",\"lastName\":null,\"email\":null," +
+                     "\"phoneNumber\":null,\"jobId\":null,\"salary\":null}",
+                     EmployeeJsonWriter.toJson(employee, true));
+    }
+
+    @Test
+    @DisplayName("writeLine writes newline-delimited objects without separators")
+    void testWriteLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EmployeeJsonWriter writer = new EmployeeJsonWriter(out);
+        writer.writeLine(new Employee(1, "Ann", null, null, null, null, null))
+              .writeLine(new Employee(2, "Bob", null, null, null, null, null))
+              .flush();
+
+        assertEquals("{\"employeeId\":1,\"firstName\":\"Ann\"}\n{\"employeeId\":2,\"firstName\":\"Bob\"}\n",
+                     out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("A field projection writes only the selected fields")
+    void testFieldProjection() throws IOException {
+        Employee employee = new Employee(7, "Ann", "Lee", "ann.lee@company.com", "555-0007", "IT_PROG",
+                                         new BigDecimal("5000.00"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EmployeeJsonWriter writer = new EmployeeJsonWriter(out, true,
+            EmployeeField.parse("employeeId,lastName"));
+        writer.write(employee).flush();
+
+        assertEquals("{\"employeeId\":7,\"lastName\":\"Lee\"}", out.toString(StandardCharsets.UTF_8));
+    }
+}
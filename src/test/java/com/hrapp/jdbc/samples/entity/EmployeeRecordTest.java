@@ -0,0 +1,89 @@
+package com.hrapp.jdbc.samples.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EmployeeRecord (compact immutable employee row)
+ */
+@DisplayName("EmployeeRecord Tests")
+class EmployeeRecordTest {
+
+    @Test
+    @DisplayName("Conversion to and from Employee should keep every value")
+    void testRoundTrip() {
+        Employee employee = new Employee(101, "John", "Doe", "john.doe@company.com", "555-1234", "IT_PROG",
+                                         new BigDecimal("75000.50"));
+
+        EmployeeRecord record = EmployeeRecord.of(employee);
+        Employee converted = record.toEmployee();
+
+        assertEquals(7500050L, record.salaryCents());
+        assertEquals(JobDictionary.getInstance().find("IT_PROG"), record.jobOrdinal());
+        assertEquals(employee, converted);
+        assertNotSame(employee, converted);
+        assertEquals("Doe", converted.getLastName());
+        assertEquals("555-1234", converted.getPhoneNumber());
+        assertEquals("IT_PROG", converted.getJobId());
+        assertEquals(new BigDecimal("75000.50"), converted.getSalary());
+    }
+
+    @Test
+    @DisplayName("Salaries should be held as cents, with a marker for a missing salary")
+    void testSalaryCents() {
+        assertEquals(5000000L, EmployeeRecord.toCents(new BigDecimal("50000")));
+        assertEquals(2L, EmployeeRecord.toCents(new BigDecimal("0.015")));
+        assertEquals(EmployeeRecord.NO_SALARY, EmployeeRecord.toCents(null));
+        assertEquals(new BigDecimal("50000.00"), new EmployeeRecord(1, null, null, null, null, JobDictionary.NO_JOB, 5000000L).salary());
+        assertNull(new EmployeeRecord(1, null, null, null, null, JobDictionary.NO_JOB, EmployeeRecord.NO_SALARY).salary());
+        assertThrows(IllegalArgumentException.class, () -> EmployeeRecord.of(new Employee()));
+    }
+
+    @Test
+    @DisplayName("Records should retain clearly less heap than Employee beans")
+    void testHeapFootprint() {
+        // Per row, a bean retains itself, a boxed ID and a BigDecimal salary; strings are shared by both
+        long beanBytes = shallowSize(Employee.class) + shallowSize(Integer.class) + shallowSize(BigDecimal.class);
+        long recordBytes = shallowSize(EmployeeRecord.class);
+
+        assertTrue(recordBytes < beanBytes * 3 / 4,
+                   "EmployeeRecord rows (" + recordBytes + " bytes) should be much smaller than Employee rows (" +
+                   beanBytes + " bytes)");
+    }
+
+    // Instance size estimate for a 64-bit JVM with compressed class pointers and oops:
+    // 12-byte header, 4-byte references, padded to 8 bytes
+    private static long shallowSize(Class<?> type) {
+        long size = 12;
+        for (Class<?> declaring = type; declaring != null; declaring = declaring.getSuperclass()) {
+            for (Field field : declaring.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += fieldSize(field.getType());
+                }
+            }
+        }
+        return (size + 7) / 8 * 8;
+    }
+
+    private static int fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return 4;
+    }
+}
@@ -0,0 +1,52 @@
+package com.hrapp.jdbc.samples.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JobDictionary (job code ordinals)
+ */
+@DisplayName("JobDictionary Tests")
+class JobDictionaryTest {
+
+    @Test
+    @DisplayName("The initial catalog codes should have stable ordinals")
+    void testDefaultCodes() {
+        JobDictionary dictionary = new JobDictionary(JobDictionary.DEFAULT_CODES);
+
+        assertEquals(10, dictionary.size());
+        assertEquals(0, dictionary.ordinal("IT_PROG"));
+        assertEquals(9, dictionary.find("AD_PRES"));
+        assertEquals("SA_REP", dictionary.code(dictionary.ordinal("SA_REP")));
+        assertEquals(JobDictionary.NO_JOB, dictionary.ordinal(null));
+        assertNull(dictionary.code(JobDictionary.NO_JOB));
+    }
+
+    @Test
+    @DisplayName("New codes should be appended without changing existing ordinals")
+    void testAppend() {
+        JobDictionary dictionary = new JobDictionary("IT_PROG", "HR_REP");
+
+        assertEquals(JobDictionary.NO_JOB, dictionary.find("MK_MAN"));
+        assertEquals(1, dictionary.addAll(List.of("HR_REP", "MK_MAN")));
+        assertEquals(2, dictionary.find("MK_MAN"));
+        assertEquals(3, dictionary.ordinal("PU_CLERK"));
+        assertEquals(1, dictionary.ordinal("HR_REP"));
+        assertEquals(4, dictionary.size());
+        assertThrows(IllegalArgumentException.class, () -> dictionary.code((short) 4));
+    }
+
+    @Test
+    @DisplayName("Codes returned for an ordinal should be one shared instance")
+    void testSharedInstance() {
+        JobDictionary dictionary = new JobDictionary(JobDictionary.DEFAULT_CODES);
+        String fromDriver = new String("FI_MGR".toCharArray());
+
+        assertSame(dictionary.code(dictionary.find("FI_MGR")), dictionary.code(dictionary.ordinal(fromDriver)));
+        assertNotSame(fromDriver, dictionary.code(dictionary.ordinal(fromDriver)));
+    }
+}
@@ -0,0 +1,270 @@
+package com.hrapp.jdbc.samples.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CompressionFilter and GzipResponseWrapper
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompressionFilter Unit Tests")
+class CompressionFilterTest {
+
+    @Mock
+    private HttpServletRequest mockRequest;
+
+    @Mock
+    private HttpServletResponse mockResponse;
+
+    @Mock
+    private FilterConfig mockFilterConfig;
+
+    @Mock
+    private ServletContext mockServletContext;
+
+    private CompressionFilter filter;
+    private final Map<String, String> headers = new HashMap<>();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private WriteListener writeListener;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        filter = new CompressionFilter();
+        lenient().when(mockFilterConfig.getServletContext()).thenReturn(mockServletContext);
+        lenient().when(mockFilterConfig.getInitParameter("minSize")).thenReturn("100");
+
+        lenient().when(mockRequest.getMethod()).thenReturn("GET");
+        lenient().when(mockRequest.getContextPath()).thenReturn("/hrapp");
+        lenient().when(mockRequest.getRequestURI()).thenReturn("/hrapp/WebController");
+        lenient().when(mockRequest.getHeader("Accept-Encoding")).thenReturn("gzip, deflate, br");
+
+        lenient().doAnswer(invocation -> headers.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(mockResponse).setHeader(anyString(), anyString());
+        lenient().when(mockResponse.getHeader(anyString()))
+            .thenAnswer(invocation -> headers.get(invocation.<String>getArgument(0)));
+        lenient().when(mockResponse.containsHeader(anyString()))
+            .thenAnswer(invocation -> headers.containsKey(invocation.<String>getArgument(0)));
+        lenient().when(mockResponse.getStatus()).thenReturn(HttpServletResponse.SC_OK);
+        lenient().when(mockResponse.getContentType()).thenReturn("application/json");
+        lenient().when(mockResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                writeListener = listener;
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Large JSON responses should be gzip-compressed")
+    void testLargeResponseCompressed() throws Exception {
+        filter.init(mockFilterConfig);
+        byte[] json = jsonOfSize(5000);
+
+        filter.doFilter(mockRequest, mockResponse, (request, response) -> response.getOutputStream().write(json));
+
+        assertEquals("gzip", headers.get("Content-Encoding"));
+        verify(mockResponse).addHeader("Vary", "Accept-Encoding");
+        verify(mockResponse, never()).setContentLength(anyInt());
+        assertTrue(body.size() < json.length);
+        assertArrayEquals(json, gunzip(body.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Small responses should be sent uncompressed with a Content-Length")
+    void testSmallResponseNotCompressed() throws Exception {
+        filter.init(mockFilterConfig);
+        byte[] json = "[{\"employeeId\":1}]".getBytes(StandardCharsets.UTF_8);
+
+        filter.doFilter(mockRequest, mockResponse, (request, response) -> {
+            response.getOutputStream().write(json);
+            response.getOutputStream().flush();
+        });
+
+        assertNull(headers.get("Content-Encoding"));
+        verify(mockResponse).setContentLength(json.length);
+        assertArrayEquals(json, body.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Clients that do not accept gzip should get the original response")
+    void testNoAcceptEncoding() throws Exception {
+        filter.init(mockFilterConfig);
+        when(mockRequest.getHeader("Accept-Encoding")).thenReturn(null);
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(mockRequest, mockResponse, chain);
+
+        verify(chain).doFilter(mockRequest, mockResponse);
+    }
+
+    @Test
+    @DisplayName("Non-textual content types should not be compressed")
+    void testBinaryNotCompressed() throws Exception {
+        filter.init(mockFilterConfig);
+        when(mockResponse.getContentType()).thenReturn("image/png");
+        byte[] image = jsonOfSize(5000);
+
+        filter.doFilter(mockRequest, mockResponse, (request, response) -> response.getOutputStream().write(image));
+
+        assertNull(headers.get("Content-Encoding"));
+        assertArrayEquals(image, body.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Flushing a compressed stream should send the rows written so far")
+    void testStreamingFlush() throws Exception {
+        filter.init(mockFilterConfig);
+        byte[] rows = jsonOfSize(500);
+
+        filter.doFilter(mockRequest, mockResponse, (request, response) -> {
+            response.getOutputStream().write(rows);
+            response.getOutputStream().flush();
+            // Sync-flushed gzip data decodes up to the flush point before the stream ends
+            assertTrue(body.size() > 0);
+            response.getOutputStream().write(rows);
+        });
+
+        byte[] expected = new byte[rows.length * 2];
+        System.arraycopy(rows, 0, expected, 0, rows.length);
+        System.arraycopy(rows, 0, expected, rows.length, rows.length);
+        assertArrayEquals(expected, gunzip(body.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Responses switching to non-blocking I/O should pass through uncompressed")
+    void testNonBlockingPassThrough() throws Exception {
+        filter.init(mockFilterConfig);
+        byte[] head = jsonOfSize(50);
+        byte[] rest = jsonOfSize(5000);
+        WriteListener listener = mock(WriteListener.class);
+
+        filter.doFilter(mockRequest, mockResponse, (request, response) -> {
+            response.getOutputStream().write(head);
+            response.getOutputStream().setWriteListener(listener);
+            response.getOutputStream().write(rest);
+        });
+
+        assertSame(listener, writeListener);
+        assertNull(headers.get("Content-Encoding"));
+        verify(mockResponse, never()).setContentLength(anyInt());
+        byte[] expected = new byte[head.length + rest.length];
+        System.arraycopy(head, 0, expected, 0, head.length);
+        System.arraycopy(rest, 0, expected, head.length, rest.length);
+        assertArrayEquals(expected, body.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Compressed responses should get a -gzip ETag that still matches If-None-Match")
+    void testETagVariant() throws Exception {
+        filter.init(mockFilterConfig);
+        when(mockRequest.getHeader("If-None-Match")).thenReturn("\"emp-7-gzip\"");
+        String[] seen = new String[1];
+
+        filter.doFilter(mockRequest, mockResponse, (request, response) -> {
+            seen[0] = ((HttpServletRequest) request).getHeader("If-None-Match");
+            ((HttpServletResponse) response).setHeader("ETag", "\"emp-8\"");
+            response.getOutputStream().write(jsonOfSize(5000));
+        });
+
+        assertEquals("\"emp-7\"", seen[0]);
+        assertEquals("\"emp-8-gzip\"", headers.get("ETag"));
+    }
+
+    @Test
+    @DisplayName("A 304 for a compressed copy should report the -gzip ETag")
+    void testNotModifiedETagVariant() throws Exception {
+        filter.init(mockFilterConfig);
+        when(mockRequest.getHeader("If-None-Match")).thenReturn("\"emp-7-gzip\"");
+        when(mockResponse.getStatus()).thenReturn(HttpServletResponse.SC_NOT_MODIFIED);
+
+        filter.doFilter(mockRequest, mockResponse,
+            (request, response) -> ((HttpServletResponse) response).setHeader("ETag", "\"emp-7\""));
+
+        assertEquals("\"emp-7-gzip\"", headers.get("ETag"));
+        assertEquals(0, body.size());
+    }
+
+    @Test
+    @DisplayName("Static resources should be precompressed at startup and served from memory")
+    void testPrecompressedStaticResource() throws Exception {
+        byte[] css = ("body { margin: 0; padding: 0; }\n".repeat(100)).getBytes(StandardCharsets.UTF_8);
+        when(mockServletContext.getResourcePaths("/")).thenReturn(Set.of("/css/", "/WEB-INF/", "/logo.png"));
+        when(mockServletContext.getResourcePaths("/css/")).thenReturn(Set.of("/css/app.css"));
+        when(mockServletContext.getResourcePaths("/WEB-INF/")).thenReturn(Set.of("/WEB-INF/web.xml"));
+        when(mockServletContext.getResourceAsStream("/css/app.css")).thenReturn(new ByteArrayInputStream(css));
+        when(mockServletContext.getMimeType("/css/app.css")).thenReturn("text/css");
+        when(mockRequest.getRequestURI()).thenReturn("/hrapp/css/app.css");
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.init(mockFilterConfig);
+        filter.doFilter(mockRequest, mockResponse, chain);
+
+        assertEquals(1, filter.getPrecompressedCount());
+        verifyNoInteractions(chain);
+        verify(mockResponse).setContentType("text/css;charset=UTF-8");
+        assertEquals("gzip", headers.get("Content-Encoding"));
+        verify(mockResponse).setContentLength(body.size());
+        assertArrayEquals(css, gunzip(body.toByteArray()));
+        verify(mockServletContext, never()).getResourceAsStream("/WEB-INF/web.xml");
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding parsing should honour q=0 and *")
+    void testAcceptsGzip() {
+        assertTrue(CompressionFilter.acceptsGzip("gzip"));
+        assertTrue(CompressionFilter.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(CompressionFilter.acceptsGzip("*"));
+        assertFalse(CompressionFilter.acceptsGzip("gzip;q=0, *"));
+        assertFalse(CompressionFilter.acceptsGzip("identity"));
+        assertFalse(CompressionFilter.acceptsGzip(null));
+    }
+
+    private static byte[] jsonOfSize(int size) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; json.length() < size - 60; i++) {
+            json.append("{\"employeeId\":").append(i).append(",\"firstName\":\"Employee").append(i).append("\"},");
+        }
+        json.setCharAt(json.length() - 1, ']');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.bean.DataUnavailableException;
+import com.hrapp.jdbc.samples.bean.EmployeePage;
+import com.hrapp.jdbc.samples.bean.JdbcBean;
+import com.hrapp.jdbc.samples.bean.SnapshotEmployeeList;
+import com.hrapp.jdbc.samples.entity.Employee;
+import com.hrapp.jdbc.samples.entity.EmployeeField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeApiServlet (REST routing, projection and error mapping)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeApiServlet Unit Tests")
+class EmployeeApiServletTest {
+
+    @Mock
+    private HttpServletRequest mockRequest;
+
+    @Mock
+    private HttpServletResponse mockResponse;
+
+    @Mock
+    private JdbcBean mockJdbcBean;
+
+    private EmployeeApiServlet servlet;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        servlet = new EmployeeApiServlet();
+        servlet.jdbcBean = mockJdbcBean;
+        lenient().when(mockJdbcBean.getDataVersion()).thenReturn(-1L);
+        lenient().when(mockResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        });
+    }
+
+    private static Employee employee(int id) {
+        return new Employee(id, "John", "Doe", "john.doe@company.com", "555-1234", "IT_PROG", new BigDecimal("75000"));
+    }
+
+    private void withBody(String json) throws Exception {
+        when(mockRequest.getReader()).thenReturn(new BufferedReader(new StringReader(json)));
+    }
+
+    private String responseBody() {
+        return body.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("GET collection - Projects fields and returns the next page token")
+    void testListWithProjection() throws Exception {
+        // Other query parameters are read too and left unset
+        lenient().when(mockRequest.getParameter(anyString())).thenReturn(null);
+        when(mockRequest.getParameter("fields")).thenReturn("employeeId,lastName");
+        when(mockRequest.getParameter("firstName")).thenReturn("Jo");
+        Employee partial = new Employee();
+        partial.setEmployeeId(1);
+        partial.setLastName("Doe");
+        when(mockJdbcBean.getEmployees("Jo", null, 100, EnumSet.of(EmployeeField.EMPLOYEE_ID, EmployeeField.LAST_NAME)))
+            .thenReturn(new EmployeePage(List.of(partial), true));
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        assertEquals("[{\"employeeId\":1,\"lastName\":\"Doe\"}]", responseBody());
+        verify(mockResponse).setHeader("X-Next-Page-Token", EmployeePage.encodeToken(1));
+    }
+
+    @Test
+    @DisplayName("GET item - 404 when the employee does not exist")
+    void testGetMissing() throws Exception {
+        when(mockRequest.getPathInfo()).thenReturn("/42");
+        when(mockJdbcBean.getEmployee(42, EmployeeField.ALL)).thenReturn(List.of());
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("GET item - Sends the snapshot age instead of an ETag for snapshot data")
+    void testGetFromSnapshot() throws Exception {
+        when(mockRequest.getPathInfo()).thenReturn("/1");
+        when(mockJdbcBean.getDataVersion()).thenReturn(9L);
+        when(mockJdbcBean.getEmployee(1, EmployeeField.ALL))
+            .thenReturn(new SnapshotEmployeeList(List.of(employee(1)), 5000));
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).setHeader("X-Snapshot-Age", "5");
+        verify(mockResponse, never()).setHeader(eq("ETag"), anyString());
+        assertTrue(responseBody().contains("\"employeeId\":1"));
+    }
+
+    @Test
+    @DisplayName("GET collection - Sends the snapshot age of a page read from the snapshot")
+    void testListFromSnapshot() throws Exception {
+        lenient().when(mockRequest.getParameter(anyString())).thenReturn(null);
+        when(mockJdbcBean.getEmployees(null, null, 100, EmployeeField.ALL))
+            .thenReturn(new EmployeePage(new SnapshotEmployeeList(List.of(employee(1)), 61000), false));
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).setHeader("X-Snapshot-Age", "61");
+        assertTrue(responseBody().contains("\"employeeId\":1"));
+    }
+
+    @Test
+    @DisplayName("GET collection - 503 when neither the database nor a snapshot can answer")
+    void testListUnavailable() throws Exception {
+        lenient().when(mockRequest.getParameter(anyString())).thenReturn(null);
+        when(mockJdbcBean.getEmployees(null, null, 100, EmployeeField.ALL))
+            .thenThrow(new DataUnavailableException("Database unavailable and no snapshot has been saved yet"));
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertTrue(responseBody().contains("no snapshot"));
+    }
+
+    @Test
+    @DisplayName("GET item - 304 when If-None-Match matches the table version")
+    void testGetNotModified() throws Exception {
+        when(mockRequest.getPathInfo()).thenReturn("/1");
+        when(mockJdbcBean.getDataVersion()).thenReturn(9L);
+        when(mockRequest.getHeader("If-None-Match")).thenReturn("\"emp-9\"");
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(mockResponse).setHeader("ETag", "\"emp-9\"");
+        verify(mockResponse).setHeader("Cache-Control", "private, no-cache");
+        verify(mockJdbcBean, never()).getEmployee(anyInt(), any());
+        assertEquals(0, body.size());
+    }
+
+    @Test
+    @DisplayName("GET - Unknown field names are rejected with 400")
+    void testUnknownField() throws Exception {
+        when(mockRequest.getParameter("fields")).thenReturn("firstName,password");
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        assertTrue(responseBody().contains("Unknown field: password"));
+    }
+
+    @Test
+    @DisplayName("POST - 201 with a Location header")
+    void testCreate() throws Exception {
+        withBody("{\"employeeId\":99,\"firstName\":\"John\",\"lastName\":\"Doe\"}");
+        when(mockRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost/hrapp/api/employees"));
+        when(mockJdbcBean.createEmployee(any())).thenReturn(employee(5));
+
+        servlet.doPost(mockRequest, mockResponse);
+
+        verify(mockJdbcBean).createEmployee(argThat(e -> e.getEmployeeId() == null));
+        verify(mockResponse).setStatus(HttpServletResponse.SC_CREATED);
+        verify(mockResponse).setHeader("Location", "http://localhost/hrapp/api/employees/5");
+    }
+
+    @Test
+    @DisplayName("POST - Duplicate email is reported as 409")
+    void testCreateConflict() throws Exception {
+        withBody("{\"firstName\":\"John\"}");
+        when(mockJdbcBean.createEmployee(any())).thenThrow(
+            new RuntimeException("Create operation failed", new SQLException("duplicate key", "23505")));
+
+        servlet.doPost(mockRequest, mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_CONFLICT);
+    }
+
+    @Test
+    @DisplayName("PUT - Body ID must match the path")
+    void testPutIdMismatch() throws Exception {
+        when(mockRequest.getPathInfo()).thenReturn("/1");
+        withBody("{\"employeeId\":2,\"firstName\":\"John\"}");
+
+        servlet.doPut(mockRequest, mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        verify(mockJdbcBean, never()).updateEmployee(any(Employee.class));
+    }
+
+    @Test
+    @DisplayName("PATCH - Routed by service() and passes only the fields present")
+    void testPatch() throws Exception {
+        when(mockRequest.getMethod()).thenReturn("PATCH");
+        when(mockRequest.getPathInfo()).thenReturn("/1");
+        withBody("{\"salary\":80000.50,\"phoneNumber\":null}");
+        when(mockJdbcBean.patchEmployee(eq(1), any())).thenReturn(employee(1));
+
+        servlet.service(mockRequest, mockResponse);
+
+        Map<EmployeeField, Object> expected = new EnumMap<>(EmployeeField.class);
+        expected.put(EmployeeField.SALARY, new BigDecimal("80000.50"));
+        expected.put(EmployeeField.PHONE_NUMBER, null);
+        verify(mockJdbcBean).patchEmployee(1, expected);
+        assertTrue(responseBody().startsWith("{\"employeeId\":1,"));
+    }
+
+    @Test
+    @DisplayName("PATCH - 400 for a field value that is not a string or number")
+    void testPatchInvalidValue() throws Exception {
+        when(mockRequest.getMethod()).thenReturn("PATCH");
+        when(mockRequest.getPathInfo()).thenReturn("/1");
+        withBody("{\"lastName\":[\"Doe\"]}");
+
+        servlet.service(mockRequest, mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        verify(mockJdbcBean, never()).patchEmployee(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Server-side IllegalStateException is a 500, not a client error")
+    void testServerErrorNotMappedToBadRequest() throws Exception {
+        when(mockRequest.getPathInfo()).thenReturn("/3");
+        when(mockJdbcBean.deleteEmployee(3)).thenThrow(new IllegalStateException("Pool closed"));
+
+        servlet.doDelete(mockRequest, mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    @DisplayName("DELETE - 204 when deleted, 405 on the collection")
+    void testDelete() throws Exception {
+        when(mockRequest.getPathInfo()).thenReturn("/3");
+        when(mockJdbcBean.deleteEmployee(3)).thenReturn(true);
+
+        servlet.doDelete(mockRequest, mockResponse);
+        verify(mockResponse).setStatus(HttpServletResponse.SC_NO_CONTENT);
+
+        when(mockRequest.getPathInfo()).thenReturn(null);
+        servlet.doDelete(mockRequest, mockResponse);
+        verify(mockResponse).setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+    }
+}
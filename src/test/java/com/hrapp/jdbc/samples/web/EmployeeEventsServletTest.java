@@ -0,0 +1,145 @@
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.config.NotificationListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeEventsServlet (Server-Sent Events fan-out)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeEventsServlet Unit Tests")
+class EmployeeEventsServletTest {
+
+    @Mock
+    private HttpServletRequest mockRequest;
+
+    @Mock
+    private HttpServletResponse mockResponse;
+
+    @Mock
+    private AsyncContext mockAsyncContext;
+
+    @Mock
+    private NotificationListener mockListener;
+
+    private EmployeeEventsServlet servlet;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        servlet = new EmployeeEventsServlet();
+        servlet.notificationListener = mockListener;
+        lenient().when(mockRequest.startAsync(mockRequest, mockResponse)).thenReturn(mockAsyncContext);
+        lenient().when(mockResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                synchronized (body) {
+                    body.write(b);
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        servlet.destroy();
+    }
+
+    private String waitForBody(String expected) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            synchronized (body) {
+                String text = body.toString(StandardCharsets.UTF_8);
+                if (text.contains(expected)) {
+                    return text;
+                }
+            }
+            Thread.sleep(10);
+        }
+        fail("Timed out waiting for " + expected);
+        return null;
+    }
+
+    @Test
+    @DisplayName("Notifications should be forwarded to connected clients as SSE events")
+    void testFanOut() throws Exception {
+        ArgumentCaptor<NotificationListener.Subscriber> subscriber = ArgumentCaptor.forClass(NotificationListener.Subscriber.class);
+        servlet.init();
+        verify(mockListener).subscribe(subscriber.capture());
+
+        servlet.doGet(mockRequest, mockResponse);
+        servlet.doGet(mockRequest, mockResponse);
+        assertEquals(2, servlet.getClientCount());
+        verify(mockResponse, times(2)).setContentType("text/event-stream");
+        verify(mockAsyncContext, times(2)).setTimeout(0);
+
+        subscriber.getValue().onNotification("{\"op\":\"D\",\"employeeId\":4}");
+        subscriber.getValue().onReconnect();
+
+        String text = waitForBody("event: resync");
+        assertTrue(text.startsWith("retry: 5000\n\n"));
+        // Both clients write to the same captured stream
+        assertEquals(2, text.split("data: \\{\"op\":\"D\",\"employeeId\":4\\}", -1).length - 1);
+    }
+
+    @Test
+    @DisplayName("Closing a client should leave completion to its writer thread")
+    void testCloseCompletesOnWriterThread() throws Exception {
+        String[] completedBy = new String[1];
+        doAnswer(invocation -> completedBy[0] = Thread.currentThread().getName()).when(mockAsyncContext).complete();
+        servlet.init();
+        servlet.doGet(mockRequest, mockResponse);
+        waitForBody("retry: 5000");
+
+        servlet.destroy();
+
+        verify(mockAsyncContext, timeout(5000)).complete();
+        assertTrue(completedBy[0].startsWith("HRApp-SSE-"), "Completed by " + completedBy[0]);
+        assertEquals(0, servlet.getClientCount());
+    }
+
+    @Test
+    @DisplayName("Without a listener the feed should answer 503")
+    void testDisabled() throws Exception {
+        servlet.notificationListener = null;
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).sendError(eq(HttpServletResponse.SC_SERVICE_UNAVAILABLE), anyString());
+        verify(mockRequest, never()).startAsync(any(), any());
+    }
+
+    @Test
+    @DisplayName("Multi-line payloads should stay inside one event")
+    void testToEvent() {
+        assertEquals("event: employee\ndata: {\"op\":\"R\"}\n\n", EmployeeEventsServlet.toEvent("{\"op\":\"R\"}"));
+        assertEquals("event: employee\ndata: a\ndata: b\n\n", EmployeeEventsServlet.toEvent("a\r\nb"));
+    }
+}
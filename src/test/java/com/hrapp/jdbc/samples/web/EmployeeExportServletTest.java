@@ -0,0 +1,128 @@
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.bean.JdbcBean;
+import com.hrapp.jdbc.samples.entity.EmployeeField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeExportServlet (streaming CSV export)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeExportServlet Unit Tests")
+class EmployeeExportServletTest {
+
+    private static final String CSV = "employee_id,last_name\n1,Doe\n2,Smith\n";
+
+    @Mock
+    private HttpServletRequest mockRequest;
+
+    @Mock
+    private HttpServletResponse mockResponse;
+
+    @Mock
+    private JdbcBean mockJdbcBean;
+
+    private EmployeeExportServlet servlet;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        servlet = new EmployeeExportServlet();
+        servlet.jdbcBean = mockJdbcBean;
+        lenient().when(mockResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        });
+    }
+
+    private void exportWrites(String csv) throws Exception {
+        when(mockJdbcBean.exportEmployees(any(), any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(csv.getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+    }
+
+    @Test
+    @DisplayName("GET - Streams the selected columns uncompressed")
+    void testExportPlain() throws Exception {
+        when(mockRequest.getParameter("fields")).thenReturn("employeeId,lastName");
+        exportWrites(CSV);
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockJdbcBean).exportEmployees(eq(EnumSet.of(EmployeeField.EMPLOYEE_ID, EmployeeField.LAST_NAME)), any());
+        verify(mockResponse).setContentType("text/csv");
+        verify(mockResponse, never()).setHeader(eq("Content-Encoding"), anyString());
+        assertEquals(CSV, body.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("GET - Gzip-compresses when the client accepts it")
+    void testExportGzip() throws Exception {
+        when(mockRequest.getHeader("Accept-Encoding")).thenReturn("gzip");
+        exportWrites(CSV);
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).setHeader("Content-Encoding", "gzip");
+        verify(mockResponse).addHeader("Vary", "Accept-Encoding");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+            assertEquals(CSV, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("GET - Unknown columns are rejected with 400")
+    void testUnknownField() throws Exception {
+        when(mockRequest.getParameter("fields")).thenReturn("password");
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).sendError(eq(HttpServletResponse.SC_BAD_REQUEST), contains("password"));
+        verifyNoInteractions(mockJdbcBean);
+    }
+
+    @Test
+    @DisplayName("GET - A failure after the first bytes fails the request instead of ending the file")
+    void testFailureAfterCommit() throws Exception {
+        when(mockJdbcBean.exportEmployees(any(), any()))
+            .thenThrow(new RuntimeException("CSV export failed", new SQLException("terminating connection")));
+        when(mockResponse.isCommitted()).thenReturn(true);
+
+        assertThrows(ServletException.class, () -> servlet.doGet(mockRequest, mockResponse));
+    }
+}
@@ -0,0 +1,87 @@
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.config.HealthMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HealthServlet (liveness and readiness endpoints)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HealthServlet Unit Tests")
+class HealthServletTest {
+
+    @Mock
+    private HttpServletRequest mockRequest;
+
+    @Mock
+    private HttpServletResponse mockResponse;
+
+    private HealthServlet servlet;
+    private StringWriter responseWriter;
+    private boolean databaseUp;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        servlet = new HealthServlet();
+        responseWriter = new StringWriter();
+        when(mockResponse.getWriter()).thenReturn(new PrintWriter(responseWriter, true));
+    }
+
+    private HealthMonitor monitor() {
+        HealthMonitor monitor = new HealthMonitor(() -> databaseUp, () -> null, 10, 10, 60_000);
+        // refresh() is package-private in the config package; start()/stop() runs one synchronous probe
+        monitor.start();
+        monitor.stop();
+        return monitor;
+    }
+
+    @Test
+    @DisplayName("/health - Always UP without touching the monitor")
+    void testLiveness() throws Exception {
+        when(mockRequest.getServletPath()).thenReturn("/health");
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse, never()).setStatus(anyInt());
+        assertEquals("{\"status\":\"UP\"}", responseWriter.toString());
+    }
+
+    @Test
+    @DisplayName("/ready - 200 when database is up")
+    void testReady() throws Exception {
+        when(mockRequest.getServletPath()).thenReturn("/ready");
+        databaseUp = true;
+        servlet.healthMonitor = monitor();
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse, never()).setStatus(anyInt());
+        assertTrue(responseWriter.toString().startsWith("{\"status\":\"UP\",\"database\":\"UP\""));
+    }
+
+    @Test
+    @DisplayName("/ready - 503 when database is down")
+    void testNotReady() throws Exception {
+        when(mockRequest.getServletPath()).thenReturn("/ready");
+        databaseUp = false;
+        servlet.healthMonitor = monitor();
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertTrue(responseWriter.toString().contains("\"database\":\"DOWN\""));
+    }
+}
@@ -0,0 +1,99 @@
+package com.hrapp.jdbc.samples.web;
+
+import com.hrapp.jdbc.samples.config.ReadScope;
+import com.hrapp.jdbc.samples.config.ReplicaRouter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReadScopeFilter
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadScopeFilter Unit Tests")
+class ReadScopeFilterTest {
+
+    @Mock
+    private HttpServletRequest mockRequest;
+
+    @Mock
+    private HttpServletResponse mockResponse;
+
+    @Mock
+    private HttpSession mockSession;
+
+    @Mock
+    private FilterChain mockChain;
+
+    @Mock
+    private AsyncContext mockAsyncContext;
+
+    private final ReadScopeFilter filter = new ReadScopeFilter();
+
+    @Test
+    @DisplayName("The session's primary-until time is restored and extended by a write")
+    void testWriteExtendsSession() throws Exception {
+        when(mockRequest.getSession(false)).thenReturn(mockSession);
+        when(mockSession.getAttribute(ReadScopeFilter.PRIMARY_UNTIL_ATTRIBUTE)).thenReturn(1000L);
+        AtomicReference<ReadScope> seen = new AtomicReference<>();
+        doAnswer(invocation -> {
+            seen.set(ReadScope.current());
+            assertEquals(1000L, seen.get().getPrimaryUntil());
+            new ReplicaRouter(mock(DataSource.class), 1000, 1000).markPrimaryUse();
+            return null;
+        }).when(mockChain).doFilter(mockRequest, mockResponse);
+
+        filter.doFilter(mockRequest, mockResponse, mockChain);
+
+        assertNull(ReadScope.current());
+        verify(mockSession).setAttribute(ReadScopeFilter.PRIMARY_UNTIL_ATTRIBUTE, seen.get().getPrimaryUntil());
+        assertTrue(seen.get().getPrimaryUntil() > System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("Requests without writes leave the session alone")
+    void testReadOnlyRequest() throws Exception {
+        when(mockRequest.getSession(false)).thenReturn(mockSession);
+
+        filter.doFilter(mockRequest, mockResponse, mockChain);
+
+        verify(mockChain).doFilter(mockRequest, mockResponse);
+        verify(mockSession, never()).setAttribute(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Asynchronous requests save the scope when they complete")
+    void testAsyncRequest() throws Exception {
+        when(mockRequest.getSession(false)).thenReturn(null);
+        when(mockRequest.isAsyncStarted()).thenReturn(true);
+        when(mockRequest.getAsyncContext()).thenReturn(mockAsyncContext);
+
+        filter.doFilter(mockRequest, mockResponse, mockChain);
+
+        ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(mockAsyncContext).addListener(listener.capture());
+        assertNull(ReadScope.current());
+
+        // Without a session there is nowhere to keep it, and none is created
+        listener.getValue().onComplete(null);
+        verify(mockRequest, never()).getSession();
+        verify(mockRequest, never()).getSession(true);
+    }
+}
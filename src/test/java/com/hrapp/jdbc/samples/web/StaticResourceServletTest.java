@@ -0,0 +1,170 @@
+package com.hrapp.jdbc.samples.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StaticResourceServlet and StaticResourceCache
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StaticResourceServlet Unit Tests")
+class StaticResourceServletTest {
+
+    private static final String CSS = "body { margin: 0; padding: 0; }\n".repeat(50);
+    private static final String PAGE = "<html><head><link rel=\"stylesheet\" href=\"css/app.css\"></head>" +
+                                       "<body>" + "<p>Employees</p>".repeat(50) + "</body></html>";
+
+    @Mock
+    private HttpServletRequest mockRequest;
+
+    @Mock
+    private HttpServletResponse mockResponse;
+
+    @Mock
+    private ServletConfig mockServletConfig;
+
+    @Mock
+    private ServletContext mockServletContext;
+
+    private StaticResourceServlet servlet;
+    private final Map<String, String> headers = new HashMap<>();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(mockServletConfig.getServletContext()).thenReturn(mockServletContext);
+        lenient().when(mockServletContext.getResourcePaths("/")).thenReturn(Set.of("/css/", "/listAll.html", "/WEB-INF/"));
+        lenient().when(mockServletContext.getResourcePaths("/css/")).thenReturn(Set.of("/css/app.css"));
+        lenient().when(mockServletContext.getResourceAsStream("/css/app.css"))
+            .thenAnswer(invocation -> new ByteArrayInputStream(CSS.getBytes(StandardCharsets.UTF_8)));
+        lenient().when(mockServletContext.getResourceAsStream("/listAll.html"))
+            .thenAnswer(invocation -> new ByteArrayInputStream(PAGE.getBytes(StandardCharsets.UTF_8)));
+        lenient().when(mockServletContext.getMimeType("/css/app.css")).thenReturn("text/css");
+        lenient().when(mockServletContext.getMimeType("/listAll.html")).thenReturn("text/html");
+
+        lenient().when(mockRequest.getDispatcherType()).thenReturn(DispatcherType.REQUEST);
+        lenient().doAnswer(invocation -> headers.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(mockResponse).setHeader(anyString(), anyString());
+        lenient().when(mockResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        });
+
+        servlet = new StaticResourceServlet();
+        servlet.init(mockServletConfig);
+    }
+
+    @Test
+    @DisplayName("Pages should be served from memory with an ETag and revalidation")
+    void testServePage() throws Exception {
+        when(mockRequest.getServletPath()).thenReturn("/listAll.html");
+
+        servlet.doGet(mockRequest, mockResponse);
+        servlet.doGet(mockRequest, mockResponse);
+
+        // Read from the WAR once, at startup
+        verify(mockServletContext, times(1)).getResourceAsStream("/listAll.html");
+        verify(mockServletContext, never()).getResourceAsStream("/WEB-INF/");
+        verify(mockResponse, times(2)).setContentType("text/html;charset=UTF-8");
+        assertEquals("no-cache", headers.get("Cache-Control"));
+        assertTrue(headers.get("ETag").matches("\"[0-9a-f]{16}\""));
+    }
+
+    @Test
+    @DisplayName("Stylesheets should be published under a content-hashed path referenced by the pages")
+    void testFingerprintedStylesheet() throws Exception {
+        StaticResourceCache cache = StaticResourceCache.forContext(mockServletContext);
+        String hashedPath = cache.getFingerprintedPath("/css/app.css");
+        assertTrue(hashedPath.matches("/css/app\\.[0-9a-f]{16}\\.css"), hashedPath);
+
+        when(mockRequest.getServletPath()).thenReturn("/listAll.html");
+        servlet.doGet(mockRequest, mockResponse);
+        assertTrue(body.toString(StandardCharsets.UTF_8).contains("href=\"" + hashedPath.substring(1) + "\""));
+
+        body.reset();
+        when(mockRequest.getServletPath()).thenReturn(hashedPath);
+        servlet.doGet(mockRequest, mockResponse);
+        assertEquals(CSS, body.toString(StandardCharsets.UTF_8));
+        assertEquals("public, max-age=31536000, immutable", headers.get("Cache-Control"));
+        assertEquals(cache.get("/css/app.css").getETag(), headers.get("ETag"));
+    }
+
+    @Test
+    @DisplayName("A matching If-None-Match, also for the gzip copy, should get 304 without a body")
+    void testNotModified() throws Exception {
+        String etag = StaticResourceCache.forContext(mockServletContext).get("/listAll.html").getETag();
+        when(mockRequest.getServletPath()).thenReturn("/listAll.html");
+        when(mockRequest.getHeader("If-None-Match")).thenReturn(etag.substring(0, etag.length() - 1) + "-gzip\"");
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(mockResponse).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        assertEquals(0, body.size());
+    }
+
+    @Test
+    @DisplayName("Forwarded pages should be sent without validators")
+    void testForwardNotCached() throws Exception {
+        when(mockRequest.getServletPath()).thenReturn("/listAll.html");
+        when(mockRequest.getDispatcherType()).thenReturn(DispatcherType.FORWARD);
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        assertEquals("no-store", headers.get("Cache-Control"));
+        assertNull(headers.get("ETag"));
+        verify(mockResponse, never()).setStatus(anyInt());
+    }
+
+    @Test
+    @DisplayName("Unknown paths should fall through to the default servlet")
+    void testUnknownPath() throws Exception {
+        RequestDispatcher defaultServlet = mock(RequestDispatcher.class);
+        when(mockServletContext.getNamedDispatcher("default")).thenReturn(defaultServlet);
+        when(mockRequest.getServletPath()).thenReturn("/missing.html");
+
+        servlet.doGet(mockRequest, mockResponse);
+
+        verify(defaultServlet).forward(mockRequest, mockResponse);
+    }
+
+    @Test
+    @DisplayName("Hashes should be inserted before the file extension")
+    void testFingerprint() {
+        assertEquals("/css/app.abc.css", StaticResourceCache.fingerprint("/css/app.css", "abc"));
+        assertEquals("/js/v1.2/app.abc", StaticResourceCache.fingerprint("/js/v1.2/app", "abc"));
+    }
+}
@@ -1,6 +1,12 @@
 package com.hrapp.jdbc.samples.web;
 
+import com.hrapp.jdbc.samples.bean.DataUnavailableException;
+import com.hrapp.jdbc.samples.bean.EmployeeHandler;
+import com.hrapp.jdbc.samples.bean.EmployeePage;
 import com.hrapp.jdbc.samples.bean.JdbcBean;
+import com.hrapp.jdbc.samples.bean.SnapshotEmployeeList;
+import com.hrapp.jdbc.samples.config.ReadScope;
+import com.hrapp.jdbc.samples.config.ReplicaRouter;
 import com.hrapp.jdbc.samples.entity.Employee;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,14 +16,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -49,7 +62,8 @@ import static org.mockito.Mockito.*;
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class WebControllerTest {
 
-    @Mock
+    // Lenient: the controller probes parameters and headers that most tests leave unset (null)
+    @Mock(strictness = Mock.Strictness.LENIENT)
     private HttpServletRequest mockRequest;
     
     @Mock
@@ -67,24 +81,39 @@ class WebControllerTest {
 
     @BeforeEach
     void setUp() throws IOException {
-        webController = new WebController();
-        
-        // Replace the JdbcBean with our mock using reflection or setter
-        try {
-            java.lang.reflect.Field jdbcBeanField = WebController.class.getDeclaredField("jdbcBean");
-            jdbcBeanField.setAccessible(true);
-            jdbcBeanField.set(webController, mockJdbcBean);
-        } catch (Exception e) {
-            // If reflection fails, tests will use the default JdbcBean
-        }
+        webController = new WebController(mockJdbcBean);
         
         // Set up response writer
         responseWriter = new StringWriter();
         printWriter = new PrintWriter(responseWriter);
-        when(mockResponse.getWriter()).thenReturn(printWriter);
+        lenient().when(mockResponse.getWriter()).thenReturn(printWriter);
+        // JSON is written as UTF-8 bytes to the output stream; mirror it into the same buffer
+        lenient().when(mockResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            @Override
+            public void write(int b) {
+                bytes.write(b);
+            }
+
+            @Override
+            public void flush() {
+                responseWriter.write(bytes.toString(StandardCharsets.UTF_8));
+                bytes.reset();
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        });
         
         // Set up proper content type
-        when(mockResponse.getContentType()).thenReturn("application/json");
+        lenient().when(mockResponse.getContentType()).thenReturn("application/json");
     }
 
     @AfterEach
@@ -471,6 +500,22 @@ class WebControllerTest {
         });
     }
 
+    @Test
+    @Order(45)
+    @DisplayName("POST request should answer 500 when the salary increment fails")
+    void testDoPost_IncrementSalaryFailure() throws ServletException, IOException {
+        // Arrange
+        when(mockRequest.getParameter("incrementPct")).thenReturn("10");
+        when(mockJdbcBean.incrementSalary(10)).thenThrow(new RuntimeException("Salary increment failed"));
+
+        // Act
+        webController.doPost(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockResponse).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        assertFalse(responseWriter.toString().contains("employeeId"));
+    }
+
     // ========================================
     // JSON SERIALIZATION TESTS
     // ========================================
@@ -597,6 +642,320 @@ class WebControllerTest {
         verify(mockResponse, times(10)).setContentType("application/json");
     }
 
+    // ========================================
+    // CONDITIONAL GET (ETAG) TESTS
+    // ========================================
+
+    @Test
+    @Order(80)
+    @DisplayName("GET with a current If-None-Match should return 304 without querying")
+    void testDoGet_IfNoneMatchCurrent() throws ServletException, IOException {
+        // Arrange
+        when(mockRequest.getParameter("logout")).thenReturn(null);
+        when(mockRequest.getHeader("If-None-Match")).thenReturn("\"emp-42\"");
+        when(mockJdbcBean.getDataVersion()).thenReturn(42L);
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockResponse).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(mockResponse).setHeader("ETag", "\"emp-42\"");
+        verify(mockJdbcBean, never()).getEmployees();
+        verify(mockResponse, never()).getOutputStream();
+    }
+
+    @Test
+    @Order(81)
+    @DisplayName("GET with an outdated If-None-Match should return the list with the new ETag")
+    void testDoGet_IfNoneMatchOutdated() throws ServletException, IOException {
+        // Arrange
+        when(mockRequest.getParameter("id")).thenReturn(null);
+        when(mockRequest.getParameter("firstName")).thenReturn(null);
+        when(mockRequest.getParameter("logout")).thenReturn(null);
+        when(mockRequest.getHeader("If-None-Match")).thenReturn("\"emp-41\"");
+        when(mockJdbcBean.getDataVersion()).thenReturn(42L);
+        when(mockJdbcBean.getEmployees()).thenReturn(createSampleEmployees());
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockResponse, never()).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(mockResponse).setHeader("ETag", "\"emp-42\"");
+        verify(mockResponse).setHeader("Cache-Control", "private, no-cache");
+        assertTrue(responseWriter.toString().contains("John"));
+    }
+
+    @Test
+    @Order(82)
+    @DisplayName("GET should not send an ETag when the table version is unknown")
+    void testDoGet_VersionUnknown() throws ServletException, IOException {
+        // Arrange
+        when(mockRequest.getParameter("id")).thenReturn(null);
+        when(mockRequest.getParameter("firstName")).thenReturn(null);
+        when(mockRequest.getParameter("logout")).thenReturn(null);
+        when(mockRequest.getHeader("If-None-Match")).thenReturn("*");
+        when(mockJdbcBean.getDataVersion()).thenReturn(-1L);
+        when(mockJdbcBean.getEmployees()).thenReturn(createSampleEmployees());
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockResponse, never()).setHeader(eq("ETag"), anyString());
+        verify(mockJdbcBean).getEmployees();
+    }
+
+    @Test
+    @Order(83)
+    @DisplayName("GET answered from the snapshot file should send its age instead of an ETag")
+    void testDoGet_SnapshotAge() throws ServletException, IOException {
+        // Arrange: the version was read before the database went away
+        when(mockRequest.getParameter("id")).thenReturn(null);
+        when(mockRequest.getParameter("firstName")).thenReturn(null);
+        when(mockRequest.getParameter("logout")).thenReturn(null);
+        when(mockJdbcBean.getDataVersion()).thenReturn(42L);
+        when(mockJdbcBean.getEmployees()).thenReturn(new SnapshotEmployeeList(createSampleEmployees(), 90500));
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockResponse).setHeader("X-Snapshot-Age", "90");
+        verify(mockResponse, never()).setHeader(eq("ETag"), anyString());
+        assertTrue(responseWriter.toString().contains("John"));
+    }
+
+    @Test
+    @Order(84)
+    @DisplayName("GET answered from the database should not send a snapshot age")
+    void testDoGet_NoSnapshotAge() throws ServletException, IOException {
+        // Arrange
+        when(mockRequest.getParameter("id")).thenReturn(null);
+        when(mockRequest.getParameter("firstName")).thenReturn(null);
+        when(mockRequest.getParameter("logout")).thenReturn(null);
+        when(mockJdbcBean.getDataVersion()).thenReturn(-1L);
+        when(mockJdbcBean.getEmployees()).thenReturn(createSampleEmployees());
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockResponse, never()).setHeader(eq("X-Snapshot-Age"), anyString());
+    }
+
+    @Test
+    @Order(86)
+    @DisplayName("GET whose version and rows came from different servers should not send an ETag")
+    void testDoGet_MixedReadSources() throws ServletException, IOException {
+        // Arrange: the version is read on the replica, which then becomes unavailable
+        when(mockRequest.getParameter("id")).thenReturn(null);
+        when(mockRequest.getParameter("firstName")).thenReturn(null);
+        when(mockRequest.getParameter("logout")).thenReturn(null);
+        when(mockJdbcBean.getDataVersion()).thenAnswer(invocation -> {
+            assertNotNull(routeRead(true));
+            return 42L;
+        });
+        when(mockJdbcBean.getEmployees()).thenAnswer(invocation -> {
+            assertNull(routeRead(false));
+            return createSampleEmployees();
+        });
+
+        // Act
+        ReadScope.begin(0);
+        try {
+            webController.doGet(mockRequest, mockResponse);
+        } finally {
+            ReadScope.end();
+        }
+
+        // Assert
+        verify(mockResponse, never()).setHeader(eq("ETag"), anyString());
+        assertTrue(responseWriter.toString().contains("John"));
+    }
+
+    /**
+     * Route a read through a replica router in the current scope, as
+     * DatabaseConfig.getReadConnection() does
+     *
+     * @return Replica connection, or null if the read went to the primary
+     */
+    private static Connection routeRead(boolean replicaAvailable) throws SQLException {
+        DataSource replica = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        if (replicaAvailable) {
+            when(replica.getConnection().createStatement().executeQuery(anyString()).next()).thenReturn(true);
+        } else {
+            when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        }
+        return new ReplicaRouter(replica, 1000, 1000).getConnection();
+    }
+
+    @Test
+    @Order(87)
+    @DisplayName("GET should answer 503 when neither the database nor a snapshot can answer")
+    void testDoGet_DataUnavailable() throws ServletException, IOException {
+        // Arrange
+        when(mockRequest.getParameter("id")).thenReturn(null);
+        when(mockRequest.getParameter("firstName")).thenReturn(null);
+        when(mockRequest.getParameter("logout")).thenReturn(null);
+        when(mockJdbcBean.getDataVersion()).thenReturn(-1L);
+        when(mockJdbcBean.getEmployees())
+            .thenThrow(new DataUnavailableException("Database unavailable and no snapshot has been saved yet"));
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockResponse).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertFalse(responseWriter.toString().contains("[]"));
+    }
+
+    @Test
+    @Order(85)
+    @DisplayName("If-None-Match matching should accept lists, weak tags and *")
+    void testMatchesETag() {
+        assertTrue(WebController.matchesETag("\"emp-7\"", "\"emp-7\""));
+        assertTrue(WebController.matchesETag("\"emp-6\", W/\"emp-7\"", "\"emp-7\""));
+        assertTrue(WebController.matchesETag("*", "\"emp-7\""));
+        assertFalse(WebController.matchesETag("\"emp-6\"", "\"emp-7\""));
+        assertFalse(WebController.matchesETag(null, "\"emp-7\""));
+        assertFalse(WebController.matchesETag("*", null));
+        assertNull(WebController.toETag(-1));
+    }
+
+    @Test
+    @Order(90)
+    @DisplayName("Accept: application/x-ndjson should stream one flushed line per employee")
+    void testDoGet_Ndjson() throws ServletException, IOException {
+        // Arrange
+        when(mockRequest.getHeaders("Accept")).thenReturn(Collections.enumeration(List.of("application/x-ndjson")));
+        when(mockJdbcBean.streamEmployees(eq("Jo"), any())).thenAnswer(invocation -> {
+            EmployeeHandler handler = invocation.getArgument(1);
+            List<Employee> employees = createSampleEmployees();
+            handler.handle(employees.get(0));
+            // The first row reaches the client before the next one is read
+            assertTrue(responseWriter.toString().endsWith("}\n"));
+            handler.handle(employees.get(1));
+            return 2;
+        });
+        when(mockRequest.getParameter("firstName")).thenReturn("Jo");
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockResponse).setContentType("application/x-ndjson");
+        verify(mockResponse).addHeader("Vary", "Accept");
+        String[] lines = responseWriter.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"employeeId\":1,"));
+        assertTrue(lines[1].startsWith("{\"employeeId\":2,"));
+        verify(mockJdbcBean, never()).getEmployeeByFn(anyString());
+    }
+
+    @Test
+    @Order(91)
+    @DisplayName("NDJSON negotiation should honour q=0 and media type lists")
+    void testAcceptsNdjson() {
+        assertTrue(WebController.acceptsNdjson(Collections.enumeration(List.of("application/json, application/x-ndjson;q=0.9"))));
+        assertTrue(WebController.acceptsNdjson(Collections.enumeration(List.of("text/html", "Application/X-NDJSON"))));
+        assertFalse(WebController.acceptsNdjson(Collections.enumeration(List.of("application/x-ndjson;q=0"))));
+        assertFalse(WebController.acceptsNdjson(Collections.enumeration(List.of("*/*"))));
+        assertFalse(WebController.acceptsNdjson(null));
+    }
+
+    @Test
+    @Order(93)
+    @DisplayName("A paged request should get its page and cursor even when it accepts NDJSON")
+    void testDoGet_PagedIgnoresNdjson() throws ServletException, IOException {
+        // Arrange
+        when(mockRequest.getHeaders("Accept")).thenReturn(Collections.enumeration(List.of("application/x-ndjson")));
+        when(mockRequest.getParameter("pageToken")).thenReturn("abc");
+        when(mockRequest.getParameter("limit")).thenReturn("2");
+        List<Employee> employees = createSampleEmployees();
+        when(mockJdbcBean.getEmployees("abc", 2)).thenReturn(new EmployeePage(employees.subList(0, 2), true));
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockJdbcBean, never()).streamEmployees(any(), any());
+        verify(mockResponse).setHeader(eq("X-Next-Page-Token"), anyString());
+        verify(mockResponse).setContentType("application/json");
+        verify(mockResponse, never()).addHeader("Vary", "Accept");
+        assertTrue(responseWriter.toString().startsWith("[{\"employeeId\":1,"));
+    }
+
+    @Test
+    @Order(94)
+    @DisplayName("The JSON list should vary on Accept, since NDJSON is negotiated for it")
+    void testDoGet_JsonListVariesOnAccept() throws ServletException, IOException {
+        // Arrange
+        when(mockJdbcBean.getDataVersion()).thenReturn(-1L);
+        when(mockJdbcBean.getEmployees()).thenReturn(createSampleEmployees());
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockResponse).addHeader("Vary", "Accept");
+        verify(mockResponse).setContentType("application/json");
+    }
+
+    @Test
+    @Order(92)
+    @DisplayName("Streamed rows from the snapshot file should carry its age")
+    void testDoGet_StreamFromSnapshot() throws ServletException, IOException {
+        // Arrange
+        when(mockRequest.getParameter("stream")).thenReturn("true");
+        when(mockJdbcBean.streamEmployees(isNull(), any())).thenAnswer(invocation -> {
+            EmployeeHandler handler = invocation.getArgument(1);
+            handler.fromSnapshot(90500);
+            handler.handle(createSampleEmployees().get(0));
+            return 1;
+        });
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockResponse).setHeader("X-Snapshot-Age", "90");
+        String jsonResponse = responseWriter.toString();
+        assertTrue(jsonResponse.startsWith("[{\"employeeId\":1,"));
+        assertTrue(jsonResponse.endsWith("]"));
+    }
+
+    @Test
+    @Order(100)
+    @DisplayName("GET with ids should look up all employees at once and report missing IDs")
+    void testDoGet_MultipleIds() throws ServletException, IOException {
+        // Arrange
+        List<Employee> employees = createSampleEmployees();
+        when(mockRequest.getParameter("id")).thenReturn(null);
+        when(mockRequest.getParameter("ids")).thenReturn("3, 1,42");
+        when(mockJdbcBean.getEmployees(new int[] {3, 1, 42})).thenReturn(List.of(employees.get(2), employees.get(0)));
+
+        // Act
+        webController.doGet(mockRequest, mockResponse);
+
+        // Assert
+        verify(mockJdbcBean, never()).getEmployee(anyInt());
+        verify(mockResponse).setHeader("X-Missing-Ids", "42");
+        String jsonResponse = responseWriter.toString();
+        assertTrue(jsonResponse.indexOf("Bob") < jsonResponse.indexOf("John"), "Request order should be kept");
+    }
+
+    @Test
+    @Order(101)
+    @DisplayName("Malformed ids should be rejected with 400")
+    void testParseIds() {
+        assertArrayEquals(new int[] {7, 2, 7}, WebController.parseIds("7,2, 7"));
+        assertThrows(IllegalArgumentException.class, () -> WebController.parseIds("1,,2"));
+        assertThrows(IllegalArgumentException.class, () -> WebController.parseIds("1,abc"));
+        assertThrows(IllegalArgumentException.class, () -> WebController.parseIds(""));
+    }
+
     // ========================================
     // HELPER METHODS
     // ========================================